@@ -77,6 +77,7 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateInterfaces               = false;
     boolean                            generateImmutableInterfaces      = false;
     boolean                            generateDaos                     = false;
+    boolean                            generateRecordMappers            = false;
     boolean                            generateJPAAnnotations           = false;
     boolean                            generateValidationAnnotations    = false;
     boolean                            generateSpringAnnotations        = false;
@@ -96,6 +97,8 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateTableValuedFunctions     = false;
     boolean                            generateEmptyCatalogs            = false;
     boolean                            generateEmptySchemas             = false;
+    int                                generateParallelism              = 1;
+    boolean                            generateIncremental              = false;
 
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                   = "UTF-8";
@@ -301,7 +304,7 @@ abstract class AbstractGenerator implements Generator {
 
         // [#1339] When immutable POJOs are generated, POJOs must be generated
         // [#1280] When DAOs are generated, POJOs must be generated, too
-        return generatePojos || generateImmutablePojos || generateDaos;
+        return generatePojos || generateImmutablePojos || generateDaos || generateRecordMappers;
     }
 
     @Override
@@ -349,6 +352,16 @@ abstract class AbstractGenerator implements Generator {
         this.generateDaos = generateDaos;
     }
 
+    @Override
+    public boolean generateRecordMappers() {
+        return generateRecordMappers;
+    }
+
+    @Override
+    public void setGenerateRecordMappers(boolean generateRecordMappers) {
+        this.generateRecordMappers = generateRecordMappers;
+    }
+
     @Override
     public boolean generateJPAAnnotations() {
         return generateJPAAnnotations;
@@ -561,6 +574,26 @@ abstract class AbstractGenerator implements Generator {
         this.generateEmptySchemas = generateEmptySchemas;
     }
 
+    @Override
+    public int generateParallelism() {
+        return generateParallelism;
+    }
+
+    @Override
+    public void setGenerateParallelism(int generateParallelism) {
+        this.generateParallelism = generateParallelism;
+    }
+
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean generateIncremental) {
+        this.generateIncremental = generateIncremental;
+    }
+
     // ----
 
     @Override
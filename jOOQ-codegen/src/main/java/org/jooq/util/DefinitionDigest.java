@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.util;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * A digest over the meta data of a schema.
+ * <p>
+ * Computing the digest visits all definitions of a schema that are used in
+ * code generation, which also initialises all lazily loaded meta data of the
+ * schema.
+ *
+ * @author Lukas Eder
+ */
+class DefinitionDigest {
+
+    private final MessageDigest digest;
+
+    DefinitionDigest() {
+        try {
+            this.digest = MessageDigest.getInstance("MD5");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("MD5 digest not supported", e);
+        }
+    }
+
+    final DefinitionDigest values(Object... values) {
+        for (Object value : values) {
+            String string = value instanceof Object[]
+                ? Arrays.toString((Object[]) value)
+                : String.valueOf(value);
+
+            try {
+                digest.update(string.getBytes("UTF-8"));
+                digest.update((byte) 0);
+            }
+            catch (UnsupportedEncodingException e) {
+                throw new GeneratorException("UTF-8 not supported", e);
+            }
+        }
+
+        return this;
+    }
+
+    final DefinitionDigest definition(Definition definition) {
+        if (definition == null)
+            return values("null");
+        else
+            return values(definition.getClass().getSimpleName(), definition.getQualifiedName(), definition.getOverload(), definition.getComment());
+    }
+
+    final DefinitionDigest type(DataTypeDefinition type) {
+        if (type == null)
+            return values("null");
+        else
+            return values(
+                type.getType(),
+                type.getUserType(),
+                type.getJavaType(),
+                type.getConverter(),
+                type.getBinding(),
+                type.getLength(),
+                type.getPrecision(),
+                type.getScale(),
+                type.isNullable(),
+                type.isDefaulted(),
+                type.getDefaultValue()
+            );
+    }
+
+    final DefinitionDigest database(Database database) {
+        return values(
+            database.getClass().getName(),
+            database.getRegexFlags(),
+            database.getRecordVersionFields(),
+            database.getRecordTimestampFields(),
+            database.getSyntheticPrimaryKeys(),
+            database.getOverridePrimaryKeys(),
+            database.getSyntheticIdentities(),
+            database.getConfiguredCustomTypes().size(),
+            database.getConfiguredForcedTypes().size()
+        );
+    }
+
+    final DefinitionDigest schema(SchemaDefinition schema) {
+        Database database = schema.getDatabase();
+
+        definition(schema.getCatalog());
+        definition(schema);
+
+        for (SequenceDefinition sequence : database.getSequences(schema))
+            definition(sequence).type(sequence.getType());
+
+        for (TableDefinition table : database.getTables(schema))
+            table(table);
+
+        for (UDTDefinition udt : database.getUDTs(schema)) {
+            definition(udt);
+
+            for (AttributeDefinition attribute : udt.getAttributes())
+                definition(attribute).type(attribute.getType());
+
+            for (RoutineDefinition routine : udt.getRoutines())
+                routine(routine);
+        }
+
+        for (ArrayDefinition array : database.getArrays(schema))
+            definition(array).type(array.getElementType());
+
+        for (EnumDefinition e : database.getEnums(schema))
+            definition(e).values(e.isSynthetic(), e.getLiterals());
+
+        for (DomainDefinition domain : database.getDomains(schema))
+            definition(domain).type(domain.getBaseType()).values(domain.getCheckClauses());
+
+        for (RoutineDefinition routine : database.getRoutines(schema))
+            routine(routine);
+
+        for (PackageDefinition pkg : database.getPackages(schema)) {
+            definition(pkg);
+
+            for (RoutineDefinition routine : pkg.getRoutines())
+                routine(routine);
+
+            for (AttributeDefinition constant : pkg.getConstants())
+                definition(constant).type(constant.getType());
+        }
+
+        return this;
+    }
+
+    final DefinitionDigest table(TableDefinition table) {
+        definition(table).values(table.isTableValuedFunction());
+
+        for (ColumnDefinition column : table.getColumns()) {
+            definition(column).type(column.getType()).values(column.getPosition(), column.isIdentity());
+            definition(column.getPrimaryKey());
+
+            for (UniqueKeyDefinition key : column.getUniqueKeys())
+                definition(key);
+
+            for (ForeignKeyDefinition key : column.getForeignKeys())
+                definition(key);
+        }
+
+        for (ParameterDefinition parameter : table.getParameters())
+            definition(parameter).type(parameter.getType()).values(parameter.isDefaulted(), parameter.isUnnamed());
+
+        definition(table.getIdentity());
+        definition(table.getPrimaryKey());
+
+        for (UniqueKeyDefinition key : table.getUniqueKeys()) {
+            definition(key).values(key.isPrimaryKey());
+
+            for (ColumnDefinition column : key.getKeyColumns())
+                definition(column);
+
+            for (ForeignKeyDefinition referencing : key.getForeignKeys())
+                definition(referencing);
+        }
+
+        for (ForeignKeyDefinition key : table.getForeignKeys()) {
+            definition(key).definition(key.getReferencedKey()).definition(key.getReferencedTable());
+
+            for (ColumnDefinition column : key.getKeyColumns())
+                definition(column);
+        }
+
+        for (CheckConstraintDefinition check : table.getCheckConstraints())
+            definition(check).values(check.getCheckClause());
+
+        definition(table.getParentTable());
+
+        for (TableDefinition child : table.getChildTables())
+            definition(child);
+
+        return this;
+    }
+
+    final DefinitionDigest routine(RoutineDefinition routine) {
+        definition(routine).definition(routine.getPackage()).values(routine.isAggregate(), routine.isSQLUsable());
+        definition(routine.getReturnValue()).type(routine.getReturnType());
+
+        for (ParameterDefinition parameter : routine.getInParameters())
+            values("in").definition(parameter);
+
+        for (ParameterDefinition parameter : routine.getOutParameters())
+            values("out").definition(parameter);
+
+        for (ParameterDefinition parameter : routine.getAllParameters())
+            definition(parameter).type(parameter.getType()).values(parameter.isDefaulted(), parameter.isUnnamed());
+
+        return this;
+    }
+
+    /**
+     * The hexadecimal representation of the digest.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        for (byte b : digest.digest())
+            sb.append(String.format("%02x", b & 0xFF));
+
+        return sb.toString();
+    }
+}
@@ -68,7 +68,10 @@ import javax.xml.bind.ValidationEvent;
 import javax.xml.bind.ValidationEventHandler;
 import javax.xml.validation.SchemaFactory;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.Constants;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.JooqLogger.Level;
 import org.jooq.tools.StringUtils;
@@ -246,15 +249,7 @@ public class GenerationTool {
                     connection = dataSource.getConnection();
                 }
                 else if (j != null) {
-                    Class<? extends Driver> driver = (Class<? extends Driver>) loadClass(driverClass(j));
-
-                    Properties properties = properties(j.getProperties());
-                    if (!properties.containsKey("user"))
-                        properties.put("user", defaultString(defaultString(j.getUser(), j.getUsername())));
-                    if (!properties.containsKey("password"))
-                        properties.put("password", defaultString(j.getPassword()));
-
-                    connection = driver.newInstance().connect(defaultString(j.getUrl()), properties);
+                    connection = connect(j);
                 }
             }
 
@@ -393,6 +388,12 @@ public class GenerationTool {
                 log.info("No <inputSchema/> was provided. Generating ALL available schemata instead.");
 
             database.setConnection(connection);
+
+            if (d.getParallelism() != null)
+                database.setParallelism(d.getParallelism());
+            if (database.getParallelism() > 1)
+                database.setConnectionProvider(connectionProvider(j));
+
             database.setConfiguredCatalogs(catalogs);
             database.setConfiguredSchemata(schemata);
             database.setIncludes(new String[] { defaultString(d.getIncludes()) });
@@ -518,6 +519,8 @@ public class GenerationTool {
                 generator.setGenerateImmutableInterfaces(g.getGenerate().isImmutableInterfaces());
             if (g.getGenerate().isDaos() != null)
                 generator.setGenerateDaos(g.getGenerate().isDaos());
+            if (g.getGenerate().isRecordMappers() != null)
+                generator.setGenerateRecordMappers(g.getGenerate().isRecordMappers());
             if (g.getGenerate().isJpaAnnotations() != null)
                 generator.setGenerateJPAAnnotations(g.getGenerate().isJpaAnnotations());
             if (g.getGenerate().isValidationAnnotations() != null)
@@ -560,6 +563,10 @@ public class GenerationTool {
                 generator.setGenerateEmptyCatalogs(g.getGenerate().isEmptyCatalogs());
             if (g.getGenerate().isEmptySchemas() != null)
                 generator.setGenerateEmptySchemas(g.getGenerate().isEmptySchemas());
+            if (g.getGenerate().getParallelism() != null)
+                generator.setGenerateParallelism(g.getGenerate().getParallelism());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
 
 
             // [#3669] Optional Database element
@@ -596,6 +603,49 @@ public class GenerationTool {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Connection connect(Jdbc j) throws Exception {
+        Class<? extends Driver> driver = (Class<? extends Driver>) loadClass(driverClass(j));
+
+        Properties properties = properties(j.getProperties());
+        if (!properties.containsKey("user"))
+            properties.put("user", defaultString(defaultString(j.getUser(), j.getUsername())));
+        if (!properties.containsKey("password"))
+            properties.put("password", defaultString(j.getPassword()));
+
+        return driver.newInstance().connect(defaultString(j.getUrl()), properties);
+    }
+
+    /**
+     * Additional connections for parallel introspection can only be provided
+     * if the connection was not supplied by the user.
+     */
+    private ConnectionProvider connectionProvider(final Jdbc j) {
+        if (dataSource != null)
+            return new DataSourceConnectionProvider(dataSource);
+
+        if (close && j.getUrl() != null) {
+            return new ConnectionProvider() {
+                @Override
+                public Connection acquire() {
+                    try {
+                        return connect(j);
+                    }
+                    catch (Exception e) {
+                        throw new DataAccessException("Error while connecting to " + j.getUrl(), e);
+                    }
+                }
+
+                @Override
+                public void release(Connection c) {
+                    JDBCUtils.safeClose(c);
+                }
+            };
+        }
+
+        return null;
+    }
+
     private Properties properties(List<Property> properties) {
         Properties result = new Properties();
 
@@ -222,6 +222,16 @@ public interface Generator {
      */
     void setGenerateDaos(boolean generateDaos);
 
+    /**
+     * Whether reflection-free record mappers should be generated for pojos
+     */
+    boolean generateRecordMappers();
+
+    /**
+     * Whether reflection-free record mappers should be generated for pojos
+     */
+    void setGenerateRecordMappers(boolean generateRecordMappers);
+
     /**
      * Whether POJO's and records should be annotated with JPA annotations
      */
@@ -449,6 +459,26 @@ public interface Generator {
      */
     void setGenerateEmptySchemas(boolean generateEmptySchemas);
 
+    /**
+     * The number of threads used to generate source files.
+     */
+    int generateParallelism();
+
+    /**
+     * The number of threads used to generate source files.
+     */
+    void setGenerateParallelism(int generateParallelism);
+
+    /**
+     * Whether unchanged schemas should be skipped.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether unchanged schemas should be skipped.
+     */
+    void setGenerateIncremental(boolean generateIncremental);
+
     /**
      * The target directory
      */
@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.StringUtils;
+
+/**
+ * A manifest of the schemas generated by an incremental code generation run.
+ * <p>
+ * For each schema, the manifest stores a fingerprint of the schema and of the
+ * code generation configuration, as well as the files that were generated for
+ * it. If the fingerprint is unchanged in a subsequent run, the schema can be
+ * skipped and its files kept as they are.
+ *
+ * @author Lukas Eder
+ */
+class GeneratorManifest {
+
+    private static final JooqLogger log      = JooqLogger.getLogger(GeneratorManifest.class);
+    private static final String     FILENAME = ".jooq-codegen-manifest";
+
+    private final File              root;
+    private final File              file;
+    private final Properties        previous;
+    private final Properties        next;
+
+    GeneratorManifest(File root) {
+        this.root = root;
+        this.file = new File(root, FILENAME);
+        this.previous = new Properties();
+        this.next = new Properties();
+
+        if (file.exists()) {
+            InputStream in = null;
+
+            try {
+                in = new FileInputStream(file);
+                previous.load(in);
+            }
+            catch (IOException e) {
+                log.warn("Cannot read manifest " + file + ". Regenerating all schemas.", e);
+                previous.clear();
+            }
+            finally {
+                close(in);
+            }
+        }
+    }
+
+    /**
+     * Whether a schema has been generated with the same fingerprint before,
+     * and all of its files still exist.
+     */
+    final boolean isUpToDate(String key, String fingerprint) {
+        if (!fingerprint.equals(previous.getProperty(key + ".fingerprint")))
+            return false;
+
+        for (File f : files(previous, key))
+            if (!f.exists())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Keep the previous entry for a schema, returning its files.
+     */
+    final List<File> retain(String key) {
+        String fingerprint = previous.getProperty(key + ".fingerprint");
+        String files = previous.getProperty(key + ".files");
+
+        if (fingerprint != null)
+            next.setProperty(key + ".fingerprint", fingerprint);
+        if (files != null)
+            next.setProperty(key + ".files", files);
+
+        return files(previous, key);
+    }
+
+    /**
+     * Record a new entry for a schema.
+     */
+    final void put(String key, String fingerprint, Collection<File> files) {
+        StringBuilder sb = new StringBuilder();
+        String separator = "";
+        String prefix = root.getPath() + File.separator;
+
+        for (File f : files) {
+            String path = f.getPath();
+
+            sb.append(separator);
+            sb.append(path.startsWith(prefix) ? path.substring(prefix.length()) : path);
+
+            separator = File.pathSeparator;
+        }
+
+        next.setProperty(key + ".fingerprint", fingerprint);
+        next.setProperty(key + ".files", sb.toString());
+    }
+
+    /**
+     * Write the manifest to the target directory.
+     */
+    final void store() {
+        OutputStream out = null;
+
+        try {
+            root.mkdirs();
+            out = new FileOutputStream(file);
+            next.store(out, "jOOQ code generation manifest. Do not edit.");
+        }
+        catch (IOException e) {
+            log.warn("Cannot write manifest " + file, e);
+        }
+        finally {
+            close(out);
+        }
+    }
+
+    private final List<File> files(Properties properties, String key) {
+        List<File> result = new ArrayList<File>();
+        String files = properties.getProperty(key + ".files");
+
+        if (!StringUtils.isBlank(files)) {
+            for (String path : files.split(File.pathSeparator)) {
+                File f = new File(path);
+                result.add(f.isAbsolute() ? f : new File(root, path));
+            }
+        }
+
+        return result;
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            }
+            catch (IOException ignore) {}
+        }
+    }
+}
@@ -242,7 +242,7 @@ class GeneratorStrategyWrapper extends AbstractGeneratorStrategy {
      * [#182] Find all column names that are reserved because of the extended
      * class hierarchy of a generated class
      */
-    private Set<String> reservedColumns(Class<?> clazz) {
+    private synchronized Set<String> reservedColumns(Class<?> clazz) {
         if (clazz == null)
             return Collections.emptySet();
 
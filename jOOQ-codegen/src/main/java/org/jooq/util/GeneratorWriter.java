@@ -43,7 +43,7 @@ package org.jooq.util;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
@@ -256,16 +256,19 @@ public abstract class GeneratorWriter<W extends GeneratorWriter<W>> {
             return false;
 
         try {
+            byte[] newBytes = newContent.getBytes(encoding());
+
             // [#3756] Regenerate files only if there is a difference
-            String oldContent = null;
-            if (file.exists()) {
+            //         Files of a different length are different, and need not be read
+            boolean modified = true;
+            if (file.exists() && file.length() == newBytes.length) {
                 RandomAccessFile old = null;
 
                 try {
                     old = new RandomAccessFile(file, "r");
                     byte[] oldBytes = new byte[(int) old.length()];
                     old.readFully(oldBytes);
-                    oldContent = new String(oldBytes, encoding());
+                    modified = !Arrays.equals(oldBytes, newBytes);
                 }
                 finally {
                     if (old != null)
@@ -273,13 +276,15 @@ public abstract class GeneratorWriter<W extends GeneratorWriter<W>> {
                 }
             }
 
-            if (oldContent == null || !oldContent.equals(newContent)) {
-                PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), encoding()));
-
-                writer.append(newContent);
-                writer.flush();
-                writer.close();
+            if (modified) {
+                OutputStream out = new FileOutputStream(file);
 
+                try {
+                    out.write(newBytes);
+                }
+                finally {
+                    out.close();
+                }
             }
 
             return true;
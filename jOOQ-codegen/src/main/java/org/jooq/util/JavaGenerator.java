@@ -53,6 +53,7 @@ import static org.jooq.util.GenerationUtil.convertToIdentifier;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.io.StringWriter;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,10 +67,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.DatatypeConverter;
+import javax.xml.bind.JAXB;
 
 import org.jooq.AggregateFunction;
 import org.jooq.Catalog;
@@ -84,6 +90,9 @@ import org.jooq.Identity;
 import org.jooq.Package;
 import org.jooq.Parameter;
 import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordMapperProvider;
+import org.jooq.RecordType;
 import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.Schema;
@@ -101,6 +110,7 @@ import org.jooq.impl.CatalogImpl;
 import org.jooq.impl.DAOImpl;
 import org.jooq.impl.DSL;
 import org.jooq.impl.DefaultDataType;
+import org.jooq.impl.DefaultRecordMapperProvider;
 import org.jooq.impl.PackageImpl;
 import org.jooq.impl.SQLDataType;
 import org.jooq.impl.SchemaImpl;
@@ -180,6 +190,26 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private Set<File>                      files                        = new LinkedHashSet<File>();
 
+    /**
+     * The executor generating files concurrently, if applicable.
+     */
+    private ExecutorService                executor;
+
+    /**
+     * The file generation tasks that have been submitted to the executor.
+     */
+    private List<Future<?>>                tasks;
+
+    /**
+     * The manifest of incremental code generation, if applicable.
+     */
+    private GeneratorManifest              manifest;
+
+    /**
+     * A fingerprint of the code generation configuration.
+     */
+    private String                         configuration;
+
     private final boolean                  scala;
     private final String                   tokenVoid;
 
@@ -227,17 +257,21 @@ public class JavaGenerator extends AbstractGenerator {
             + ((!generateRecords && generateDaos) ? " (forced to true because of <daos/>)" : ""));
         log.info("  pojos", generatePojos()
             + ((!generatePojos && generateDaos) ? " (forced to true because of <daos/>)" :
-              ((!generatePojos && generateImmutablePojos) ? " (forced to true because of <immutablePojos/>)" : "")));
+              ((!generatePojos && generateImmutablePojos) ? " (forced to true because of <immutablePojos/>)" :
+              ((!generatePojos && generateRecordMappers) ? " (forced to true because of <recordMappers/>)" : ""))));
         log.info("  immutable pojos", generateImmutablePojos());
         log.info("  interfaces", generateInterfaces()
             + ((!generateInterfaces && generateImmutableInterfaces) ? " (forced to true because of <immutableInterfaces/>)" : ""));
         log.info("  immutable interfaces", generateInterfaces());
         log.info("  daos", generateDaos());
+        log.info("  record mappers", generateRecordMappers());
         log.info("  relations", generateRelations()
             + ((!generateRelations && generateTables) ? " (forced to true because of <tables/>)" :
               ((!generateRelations && generateDaos) ? " (forced to true because of <daos/>)" : "")));
         log.info("  table-valued functions", generateTableValuedFunctions());
         log.info("  global references", generateGlobalObjectReferences());
+        log.info("  parallelism", generateParallelism());
+        log.info("  incremental", generateIncremental());
         log.info("----------------------------------------------------------");
 
         if (!generateInstanceFields()) {
@@ -256,19 +290,53 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         // XXX Generating catalogs
         // ----------------------------------------------------------------------
-        log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
-        for (CatalogDefinition catalog : database.getCatalogs()) {
-            try {
-                if (generateCatalogIfEmpty(catalog))
-                    generate(catalog);
-                else
-                    log.info("Excluding empty catalog", catalog);
+        if (generateIncremental()) {
+            manifest = new GeneratorManifest(getStrategy().getFileRoot());
+            configuration = configuration();
+        }
+
+        if (generateParallelism() > 1) {
+
+            // Lazily initialised meta data is not thread safe. Load it before
+            // generating files concurrently
+            DefinitionDigest digest = new DefinitionDigest().database(database);
+
+            for (CatalogDefinition catalog : database.getCatalogs())
+                for (SchemaDefinition schema : catalog.getSchemata())
+                    digest.schema(schema);
+
+            watch.splitInfo("Meta data initialised");
+            executor = Executors.newFixedThreadPool(generateParallelism());
+            tasks = new ArrayList<Future<?>>();
+        }
+
+        try {
+            log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
+            for (CatalogDefinition catalog : database.getCatalogs()) {
+                try {
+                    if (generateCatalogIfEmpty(catalog))
+                        generate(catalog);
+                    else
+                        log.info("Excluding empty catalog", catalog);
+                }
+                catch (Exception e) {
+                    throw new GeneratorException("Error generating code for catalog " + catalog, e);
+                }
             }
-            catch (Exception e) {
-                throw new GeneratorException("Error generating code for catalog " + catalog, e);
+        }
+        finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+                tasks = null;
             }
         }
 
+        if (manifest != null) {
+            manifest.store();
+            manifest = null;
+        }
+
         // [#5556] Clean up common parent directory
         log.info("Removing excess files");
         empty(getStrategy().getFileRoot(), (scala ? ".scala" : ".java"), files);
@@ -323,12 +391,25 @@ public class JavaGenerator extends AbstractGenerator {
             }
             else {
                 log.info("Existing version " + oldVersion + " is up to date with " + newVersion + " for catalog " + catalog.getInputName() + ". Ignoring catalog.");
+
+                // Files of ignored catalogs must not be removed
+                if (manifest != null) {
+                    files.addAll(manifest.retain(key(catalog)));
+
+                    for (SchemaDefinition schema : catalog.getSchemata())
+                        files.addAll(manifest.retain(key(schema)));
+                }
+
                 return;
             }
         }
 
+        int before = files.size();
         generateCatalog(catalog);
 
+        if (manifest != null)
+            manifest.put(key(catalog), defaultString(newVersion), generated(before));
+
         log.info("Generating schemata", "Total: " + catalog.getSchemata().size());
         for (SchemaDefinition schema : catalog.getSchemata()) {
             try {
@@ -345,12 +426,27 @@ public class JavaGenerator extends AbstractGenerator {
 
     private void generate(SchemaDefinition schema) {
         String newVersion = schema.getDatabase().getSchemaVersionProvider().version(schema);
+        String fingerprint = null;
 
-        if (StringUtils.isBlank(newVersion)) {
+        if (!StringUtils.isBlank(newVersion))
+            schemaVersions.put(schema, newVersion);
+
+        if (manifest != null) {
+            fingerprint = fingerprint(schema, newVersion);
+
+            if (manifest.isUpToDate(key(schema), fingerprint)) {
+                log.info("Schema " + schema.getInputName() + " is unchanged since the last run. Ignoring schema.");
+                files.addAll(manifest.retain(key(schema)));
+                return;
+            }
+            else {
+                log.info("Schema " + schema.getInputName() + " is new or has changed since the last run. Regenerating.");
+            }
+        }
+        else if (StringUtils.isBlank(newVersion)) {
             log.info("No schema version is applied for schema " + schema.getInputName() + ". Regenerating.");
         }
         else {
-            schemaVersions.put(schema, newVersion);
             String oldVersion = readVersion(getStrategy().getFile(schema), "schema");
 
             if (StringUtils.isBlank(oldVersion)) {
@@ -368,6 +464,7 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         // XXX Initialising
         // ----------------------------------------------------------------------
+        int before = files.size();
         generateSchema(schema);
 
         if (generateGlobalSequenceReferences() && database.getSequences(schema).size() > 0) {
@@ -386,6 +483,10 @@ public class JavaGenerator extends AbstractGenerator {
             generateDaos(schema);
         }
 
+        if (generateRecordMappers() && database.getTables(schema).size() > 0) {
+            generateRecordMappers(schema);
+        }
+
         if (generateGlobalTableReferences() && database.getTables(schema).size() > 0) {
             generateTableReferences(schema);
         }
@@ -455,10 +556,122 @@ public class JavaGenerator extends AbstractGenerator {
 
 
         // XXX [#651] Refactoring-cursor
+        if (manifest != null)
+            manifest.put(key(schema), fingerprint, generated(before));
+
         watch.splitInfo("Generation finished: " + schema.getQualifiedName());
         log.info("");
     }
 
+    /**
+     * A fingerprint of a schema and the code generation configuration.
+     * <p>
+     * If a schema version is available, it is used in lieu of the schema's
+     * meta data.
+     */
+    private String fingerprint(SchemaDefinition schema, String version) {
+        DefinitionDigest digest = new DefinitionDigest().values(configuration);
+
+        if (StringUtils.isBlank(version))
+            digest.database(database).schema(schema);
+        else
+            digest.values(version);
+
+        return digest.toString();
+    }
+
+    /**
+     * A fingerprint of the code generation configuration.
+     */
+    private String configuration() {
+        DefinitionDigest digest = new DefinitionDigest().values(
+            Constants.FULL_VERSION,
+            getClass().getName(),
+            language,
+            strategy.delegate.getClass().getName(),
+            getStrategy().getInstanceFields(),
+            getTargetDirectory(),
+            getTargetPackage(),
+            getTargetEncoding()
+        );
+
+        // The naming strategy's own configuration
+        if (strategy.delegate instanceof MatcherStrategy) {
+            StringWriter matchers = new StringWriter();
+            JAXB.marshal(((MatcherStrategy) strategy.delegate).getMatchers(), matchers);
+            digest.values(matchers.toString());
+        }
+
+        // The generate flags
+        for (java.lang.reflect.Field field : AbstractGenerator.class.getDeclaredFields()) {
+            if (field.getType() == boolean.class || field.getType() == String.class) {
+                try {
+                    digest.values(field.getName(), field.get(this));
+                }
+                catch (IllegalAccessException e) {
+                    throw new GeneratorException("Cannot read configuration " + field.getName(), e);
+                }
+            }
+        }
+
+        return digest.toString();
+    }
+
+    private static String key(CatalogDefinition catalog) {
+        return "catalog." + catalog.getQualifiedName();
+    }
+
+    private static String key(SchemaDefinition schema) {
+        return "schema." + schema.getQualifiedName();
+    }
+
+    /**
+     * The files that have been generated since a given number of files.
+     */
+    private List<File> generated(int before) {
+        synchronized (files) {
+            return new ArrayList<File>(files).subList(before, files.size());
+        }
+    }
+
+    /**
+     * Run a file generation task, possibly concurrently with other tasks.
+     * <p>
+     * Tasks are only run concurrently if <code>&lt;parallelism/&gt;</code> is
+     * greater than 1. Use {@link #join()} to wait for all submitted tasks to
+     * complete.
+     */
+    protected void submit(Runnable task) {
+        if (executor == null)
+            task.run();
+        else
+            tasks.add(executor.submit(task));
+    }
+
+    /**
+     * Wait for all tasks submitted through {@link #submit(Runnable)} to
+     * complete.
+     */
+    protected void join() {
+        if (executor == null)
+            return;
+
+        try {
+            for (Future<?> task : tasks)
+                task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneratorException("Code generation was interrupted", e);
+        }
+        catch (ExecutionException e) {
+            throw new GeneratorException("Error while generating code", e.getCause());
+        }
+        finally {
+            tasks.clear();
+        }
+    }
+
     private class AvoidAmbiguousClassesFilter implements Database.Filter {
 
         private Map<String, String> included = new HashMap<String, String>();
@@ -843,14 +1056,21 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateRecord(table);
-            } catch (Exception e) {
-                log.error("Error while generating table record " + table, e);
-            }
+        for (final TableDefinition table : database.getTables(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateRecord(table);
+                    } catch (Exception e) {
+                        log.error("Error while generating table record " + table, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Table records generated");
     }
 
@@ -1325,14 +1545,21 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateInterface(table);
-            } catch (Exception e) {
-                log.error("Error while generating table interface " + table, e);
-            }
+        for (final TableDefinition table : database.getTables(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateInterface(table);
+                    } catch (Exception e) {
+                        log.error("Error while generating table interface " + table, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Table interfaces generated");
     }
 
@@ -1452,17 +1679,24 @@ public class JavaGenerator extends AbstractGenerator {
         printClassJavadoc(out, table);
     }
 
-    protected void generateUDTs(SchemaDefinition schema) {
+    protected void generateUDTs(final SchemaDefinition schema) {
         log.info("Generating UDTs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDT(schema, udt);
-            } catch (Exception e) {
-                log.error("Error while generating udt " + udt, e);
-            }
+        for (final UDTDefinition udt : database.getUDTs(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateUDT(schema, udt);
+                    } catch (Exception e) {
+                        log.error("Error while generating udt " + udt, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("UDTs generated");
     }
 
@@ -1607,15 +1841,22 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTPojos(SchemaDefinition schema) {
         log.info("Generating UDT POJOs");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTPojo(udt);
-            }
-            catch (Exception e) {
-                log.error("Error while generating UDT POJO " + udt, e);
-            }
+        for (final UDTDefinition udt : database.getUDTs(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateUDTPojo(udt);
+                    }
+                    catch (Exception e) {
+                        log.error("Error while generating UDT POJO " + udt, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("UDT POJOs generated");
     }
 
@@ -1635,14 +1876,21 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTInterfaces(SchemaDefinition schema) {
         log.info("Generating UDT interfaces");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTInterface(udt);
-            } catch (Exception e) {
-                log.error("Error while generating UDT interface " + udt, e);
-            }
+        for (final UDTDefinition udt : database.getUDTs(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateUDTInterface(udt);
+                    } catch (Exception e) {
+                        log.error("Error while generating UDT interface " + udt, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("UDT interfaces generated");
     }
 
@@ -1665,14 +1913,21 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateUDTRecords(SchemaDefinition schema) {
         log.info("Generating UDT records");
 
-        for (UDTDefinition udt : database.getUDTs(schema)) {
-            try {
-                generateUDTRecord(udt);
-            } catch (Exception e) {
-                log.error("Error while generating UDT record " + udt, e);
-            }
+        for (final UDTDefinition udt : database.getUDTs(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateUDTRecord(udt);
+                    } catch (Exception e) {
+                        log.error("Error while generating UDT record " + udt, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("UDT records generated");
     }
 
@@ -1689,19 +1944,26 @@ public class JavaGenerator extends AbstractGenerator {
         printClassJavadoc(out, udt);
     }
 
-    protected void generateUDTRoutines(SchemaDefinition schema) {
+    protected void generateUDTRoutines(final SchemaDefinition schema) {
         for (UDTDefinition udt : database.getUDTs(schema)) {
             if (udt.getRoutines().size() > 0) {
                 try {
                     log.info("Generating member routines");
 
-                    for (RoutineDefinition routine : udt.getRoutines()) {
-                        try {
-                            generateRoutine(schema, routine);
-                        } catch (Exception e) {
-                            log.error("Error while generating member routines " + routine, e);
-                        }
+                    for (final RoutineDefinition routine : udt.getRoutines()) {
+                        submit(new Runnable() {
+                            @Override
+                            public void run() {
+                                try {
+                                    generateRoutine(schema, routine);
+                                } catch (Exception e) {
+                                    log.error("Error while generating member routines " + routine, e);
+                                }
+                            }
+                        });
                     }
+
+                    join();
                 } catch (Exception e) {
                     log.error("Error while generating UDT " + udt, e);
                 }
@@ -1746,17 +2008,24 @@ public class JavaGenerator extends AbstractGenerator {
         watch.splitInfo("UDT references generated");
     }
 
-    protected void generateArrays(SchemaDefinition schema) {
+    protected void generateArrays(final SchemaDefinition schema) {
         log.info("Generating ARRAYs");
 
-        for (ArrayDefinition array : database.getArrays(schema)) {
-            try {
-                generateArray(schema, array);
-            } catch (Exception e) {
-                log.error("Error while generating ARRAY record " + array, e);
-            }
+        for (final ArrayDefinition array : database.getArrays(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateArray(schema, array);
+                    } catch (Exception e) {
+                        log.error("Error while generating ARRAY record " + array, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("ARRAYs generated");
     }
 
@@ -1881,28 +2150,42 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateEnums(SchemaDefinition schema) {
         log.info("Generating ENUMs");
 
-        for (EnumDefinition e : database.getEnums(schema)) {
-            try {
-                generateEnum(e);
-            } catch (Exception ex) {
-                log.error("Error while generating enum " + e, ex);
-            }
+        for (final EnumDefinition e : database.getEnums(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateEnum(e);
+                    } catch (Exception ex) {
+                        log.error("Error while generating enum " + e, ex);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Enums generated");
     }
 
     protected void generateDomains(SchemaDefinition schema) {
         log.info("Generating DOMAINs");
 
-        for (DomainDefinition d : database.getDomains(schema)) {
-            try {
-                generateDomain(d);
-            } catch (Exception ex) {
-                log.error("Error while generating domain " + d, ex);
-            }
+        for (final DomainDefinition d : database.getDomains(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateDomain(d);
+                    } catch (Exception ex) {
+                        log.error("Error while generating domain " + d, ex);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Domains generated");
     }
 
@@ -2100,7 +2383,7 @@ public class JavaGenerator extends AbstractGenerator {
         printClassJavadoc(out, e);
     }
 
-    protected void generateRoutines(SchemaDefinition schema) {
+    protected void generateRoutines(final SchemaDefinition schema) {
         log.info("Generating routines and table-valued functions");
 
         if (generateGlobalRoutineReferences()) {
@@ -2127,15 +2410,22 @@ public class JavaGenerator extends AbstractGenerator {
             closeJavaWriter(out);
         }
 
-        for (RoutineDefinition routine : database.getRoutines(schema)) {
-            try {
-                generateRoutine(schema, routine);
-            }
-            catch (Exception e) {
-                log.error("Error while generating routine " + routine, e);
-            }
+        for (final RoutineDefinition routine : database.getRoutines(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateRoutine(schema, routine);
+                    }
+                    catch (Exception e) {
+                        log.error("Error while generating routine " + routine, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Routines generated");
     }
 
@@ -2336,15 +2626,22 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateDao(table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table DAO " + table, e);
-            }
+        for (final TableDefinition table : database.getTables(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateDao(table);
+                    }
+                    catch (Exception e) {
+                        log.error("Error while generating table DAO " + table, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Table DAOs generated");
     }
 
@@ -2409,6 +2706,15 @@ public class JavaGenerator extends AbstractGenerator {
         else
             out.println("public class %s extends %s<%s, %s, %s>[[before= implements ][%s]] {", className, daoImpl, tableRecord, pType, tType, interfaces);
 
+        final boolean recordMapper = !scala && generateRecordMappers() && generateRecordMapper(table);
+        final String recordMappers = recordMapper ? out.ref(getStrategy().getJavaPackageName(table.getSchema()) + ".RecordMappers") : null;
+
+        if (recordMapper) {
+            out.println();
+            out.tab(1).println("private static final %s<%s, %s> MAPPER = new %s.%s<%s>();",
+                RecordMapper.class, tableRecord, pType, recordMappers, getStrategy().getJavaClassName(table, Mode.POJO) + "Mapper", tableRecord);
+        }
+
         // Default constructor
         // -------------------
         out.tab(1).javadoc("Create a new %s without any configuration", className);
@@ -2480,6 +2786,20 @@ public class JavaGenerator extends AbstractGenerator {
 
         out.tab(1).println("}");
 
+        // Reflection-free mapping
+        // -----------------------
+        if (recordMapper) {
+            out.tab(1).overrideInherit();
+            out.tab(1).println("public %s<%s, %s> mapper() {", RecordMapper.class, tableRecord, pType);
+            out.tab(2).println("return MAPPER;");
+            out.tab(1).println("}");
+
+            out.tab(1).overrideInherit();
+            out.tab(1).println("protected %s record(%s object) {", tableRecord, pType);
+            out.tab(2).println("return %s.from(object, %s.using(configuration()).newRecord(%s));", recordMappers, DSL.class, tableIdentifier);
+            out.tab(1).println("}");
+        }
+
         for (ColumnDefinition column : table.getColumns()) {
             final String colName = column.getOutputName();
             final String colClass = getStrategy().getJavaClassName(column);
@@ -2521,6 +2841,21 @@ public class JavaGenerator extends AbstractGenerator {
                         out.tab(1).println("}");
                     }
 
+                    // fetchMapBy[Column]([T]...)
+                    // --------------------------
+                    out.tab(1).javadoc("Fetch unique records that have <code>%s IN (values)</code>, mapped by <code>%s</code>", colName, colName);
+
+                    if (scala) {
+                        out.tab(1).println("def fetchMapBy%s(values : %s*) : %s[%s, %s] = {", colClass, colType, Map.class, colType, pType);
+                        out.tab(2).println("fetchMap(%s, values:_*)", colIdentifier);
+                        out.tab(1).println("}");
+                    }
+                    else {
+                        out.tab(1).println("public %s<%s, %s> fetchMapBy%s(%s... values) {", Map.class, colType, pType, colClass, colType);
+                        out.tab(2).println("return fetchMap(%s, values);", colIdentifier);
+                        out.tab(1).println("}");
+                    }
+
                     break ukLoop;
                 }
             }
@@ -2543,18 +2878,159 @@ public class JavaGenerator extends AbstractGenerator {
         printClassJavadoc(out, table);
     }
 
-    protected void generatePojos(SchemaDefinition schema) {
-        log.info("Generating table POJOs");
+    protected void generateRecordMappers(SchemaDefinition schema) {
+        if (scala) {
+            log.info("Skipping record mappers", "Record mappers are not supported in Scala");
+            return;
+        }
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generatePojo(table);
+        log.info("Generating record mappers");
+        JavaWriter out = newJavaWriter(new File(getStrategy().getFile(schema).getParentFile(), "RecordMappers.java"));
+
+        printPackage(out, schema);
+        printClassJavadoc(out, "Reflection-free record mappers for all table POJOs in " + schema.getOutputName());
+        printClassAnnotations(out, schema);
+
+        List<TableDefinition> tables = new ArrayList<TableDefinition>();
+        for (TableDefinition table : database.getTables(schema))
+            if (generateRecordMapper(table))
+                tables.add(table);
+
+        out.println("public class RecordMappers implements %s {", RecordMapperProvider.class);
+        out.println();
+        out.tab(1).println("private final %s delegate;", RecordMapperProvider.class);
+
+        out.tab(1).javadoc("Create a new provider, which delegates to the default provider for other types");
+        out.tab(1).println("public RecordMappers() {");
+        out.tab(2).println("this(new %s());", DefaultRecordMapperProvider.class);
+        out.tab(1).println("}");
+
+        out.tab(1).javadoc("Create a new provider, which delegates to another provider for other types");
+        out.tab(1).println("public RecordMappers(%s delegate) {", RecordMapperProvider.class);
+        out.tab(2).println("this.delegate = delegate;");
+        out.tab(1).println("}");
+
+        out.tab(1).overrideInherit();
+        out.tab(1).println("public <R extends %s, E> %s<R, E> provide(%s<R> recordType, %s<? extends E> type) {", Record.class, RecordMapper.class, RecordType.class, Class.class);
+
+        for (TableDefinition table : tables) {
+            final String pType = out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO));
+            final String tableIdentifier = out.ref(getStrategy().getFullJavaIdentifier(table), 2);
+
+            out.tab(2).println("if (type == %s.class && matches(recordType, %s))", pType, tableIdentifier);
+            out.tab(3).println("return (%s) new %sMapper<R>();", RecordMapper.class, getStrategy().getJavaClassName(table, Mode.POJO));
+        }
+
+        out.println();
+        out.tab(2).println("return delegate.provide(recordType, type);");
+        out.tab(1).println("}");
+
+        out.println();
+        out.tab(1).println("private static boolean matches(%s<?> recordType, %s<?> table) {", RecordType.class, Table.class);
+        out.tab(2).println("return %s.equals(recordType.fields(), table.fields());", Arrays.class);
+        out.tab(1).println("}");
+
+        for (TableDefinition table : tables) {
+            final String pType = out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO));
+            final String pClassName = getStrategy().getJavaClassName(table, Mode.POJO);
+            final List<ColumnDefinition> columns = table.getColumns();
+
+            out.tab(1).javadoc("Map records of <code>%s</code> to {@link %s} by field index", table.getQualifiedOutputName(), pType);
+            out.tab(1).println("public static class %sMapper<R extends %s> implements %s<R, %s> {", pClassName, Record.class, RecordMapper.class, pType);
+            out.println();
+            out.tab(2).override();
+            out.tab(2).println("public %s map(R record) {", pType);
+
+            if (generateImmutablePojos()) {
+                out.tab(3).print("return new %s(", pType);
+
+                String separator = "";
+                for (int i = 0; i < columns.size(); i++) {
+                    out.println(separator);
+                    out.tab(4).print("(%s) record.get(%s)", out.ref(getJavaType(columns.get(i).getType())), i);
+                    separator = ",";
+                }
+
+                out.println();
+                out.tab(3).println(");");
             }
-            catch (Exception e) {
-                log.error("Error while generating table POJO " + table, e);
+            else {
+                out.tab(3).println("%s result = new %s();", pType, pType);
+
+                for (int i = 0; i < columns.size(); i++)
+                    out.tab(3).println("result.%s((%s) record.get(%s));",
+                        getStrategy().getJavaSetterName(columns.get(i), Mode.POJO),
+                        out.ref(getJavaType(columns.get(i).getType())),
+                        i);
+
+                out.tab(3).println("return result;");
             }
+
+            out.tab(2).println("}");
+            out.tab(1).println("}");
+
+            if (generateRecords()) {
+                final String tableRecord = out.ref(getStrategy().getFullJavaClassName(table, Mode.RECORD));
+
+                out.tab(1).javadoc("Copy a {@link %s} into a {@link %s}", pType, tableRecord);
+                out.tab(1).println("public static %s from(%s source, %s target) {", tableRecord, pType, tableRecord);
+
+                for (ColumnDefinition column : columns)
+                    out.tab(2).println("target.%s(source.%s());",
+                        getStrategy().getJavaSetterName(column, Mode.RECORD),
+                        getStrategy().getJavaGetterName(column, Mode.POJO));
+
+                out.tab(2).println("return target;");
+                out.tab(1).println("}");
+            }
+        }
+
+        out.println("}");
+        closeJavaWriter(out);
+
+        watch.splitInfo("Record mappers generated");
+    }
+
+    /**
+     * Whether a reflection-free record mapper can be generated for a table.
+     * <p>
+     * This is not possible if a POJO member has a different type from the
+     * corresponding record value (e.g. UDT POJOs), or if immutable POJOs lack
+     * a constructor accepting all values.
+     */
+    private boolean generateRecordMapper(TableDefinition table) {
+        List<ColumnDefinition> columns = table.getColumns();
+
+        // [#3176] POJOs have no constructor for more than 255 columns
+        if (generateImmutablePojos() && (columns.size() == 0 || columns.size() > 255))
+            return false;
+
+        for (ColumnDefinition column : columns)
+            if (!getJavaType(column.getType()).equals(getJavaType(column.getType(), Mode.POJO)))
+                return false;
+
+        return true;
+    }
+
+    protected void generatePojos(SchemaDefinition schema) {
+        log.info("Generating table POJOs");
+
+        for (final TableDefinition table : database.getTables(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generatePojo(table);
+                    }
+                    catch (Exception e) {
+                        log.error("Error while generating table POJO " + table, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Table POJOs generated");
     }
 
@@ -3066,18 +3542,25 @@ public class JavaGenerator extends AbstractGenerator {
         printClassJavadoc(out, table);
     }
 
-    protected void generateTables(SchemaDefinition schema) {
+    protected void generateTables(final SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
-            try {
-                generateTable(schema, table);
-            }
-            catch (Exception e) {
-                log.error("Error while generating table " + table, e);
-            }
+        for (final TableDefinition table : database.getTables(schema)) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        generateTable(schema, table);
+                    }
+                    catch (Exception e) {
+                        log.error("Error while generating table " + table, e);
+                    }
+                }
+            });
         }
 
+        join();
+
         watch.splitInfo("Tables generated");
     }
 
@@ -5283,7 +5766,10 @@ public class JavaGenerator extends AbstractGenerator {
 
     // [#4626] Users may need to call this method
     protected void closeJavaWriter(JavaWriter out) {
-        if (out.close())
-            files.add(out.file());
+        if (out.close()) {
+            synchronized (files) {
+                files.add(out.file());
+            }
+        }
     }
 }
@@ -73,6 +73,13 @@ public class MatcherStrategy extends DefaultGeneratorStrategy {
         this.matchers = matchers;
     }
 
+    /**
+     * The {@link Matchers} configuration object of this strategy.
+     */
+    public Matchers getMatchers() {
+        return matchers;
+    }
+
     /**
      * Take a {@link Definition}, try to match its name or qualified name
      * against an expression, and apply a rule upon match.
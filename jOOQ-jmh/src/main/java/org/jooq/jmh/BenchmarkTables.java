@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.sql.Timestamp;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+
+/**
+ * The schema used by all benchmarks.
+ * <p>
+ * Benchmarks do not depend on generated code, such that they can be run
+ * against earlier jOOQ versions, too (see {@link FeatureBenchmark} for the
+ * exceptions).
+ *
+ * @author Lukas Eder
+ */
+final class BenchmarkTables {
+
+    static final Table<Record>    AUTHOR            = table(name("AUTHOR"));
+    static final Field<Integer>   AUTHOR_ID         = field(name("AUTHOR", "ID"), Integer.class);
+    static final Field<String>    AUTHOR_FIRST_NAME = field(name("AUTHOR", "FIRST_NAME"), String.class);
+    static final Field<String>    AUTHOR_LAST_NAME  = field(name("AUTHOR", "LAST_NAME"), String.class);
+
+    static final Table<Record>    BOOK              = table(name("BOOK"));
+    static final Field<Long>      BOOK_ID           = field(name("BOOK", "ID"), Long.class);
+    static final Field<Integer>   BOOK_AUTHOR_ID    = field(name("BOOK", "AUTHOR_ID"), Integer.class);
+    static final Field<String>    BOOK_TITLE        = field(name("BOOK", "TITLE"), String.class);
+    static final Field<Double>    BOOK_PRICE        = field(name("BOOK", "PRICE"), Double.class);
+    static final Field<Timestamp> BOOK_PUBLISHED    = field(name("BOOK", "PUBLISHED"), Timestamp.class);
+
+    static final String[]         DDL               = {
+        "CREATE TABLE AUTHOR (ID INT PRIMARY KEY, FIRST_NAME VARCHAR(50), LAST_NAME VARCHAR(50))",
+        "CREATE TABLE BOOK (ID BIGINT PRIMARY KEY, AUTHOR_ID INT REFERENCES AUTHOR, TITLE VARCHAR(100), PRICE DOUBLE, PUBLISHED TIMESTAMP)"
+    };
+
+    private BenchmarkTables() {}
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.BenchmarkTables.BOOK;
+import static org.jooq.jmh.BenchmarkTables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PRICE;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PUBLISHED;
+import static org.jooq.jmh.BenchmarkTables.BOOK_TITLE;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep5;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for binding values to a {@link PreparedStatement} through
+ * <code>DefaultBinding.set()</code>.
+ * <p>
+ * Values are bound to a {@link MockConnection}'s statement, which only
+ * collects them.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class BindBenchmark {
+
+    private DSLContext        ctx;
+    private Query             insert;
+    private PreparedStatement statement;
+
+    @Setup
+    public void setup() throws SQLException {
+        MockConnection connection = new MockConnection(c -> new MockResult[] { new MockResult(1, null) });
+        ctx = DSL.using(connection, SQLDialect.H2);
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        InsertValuesStep5<Record, Long, Integer, String, Double, Timestamp> step =
+        ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PRICE, BOOK_PUBLISHED);
+
+        // 10 rows of 5 bind values each, including nulls
+        for (int i = 1; i <= 10; i++)
+            step = step.values((long) i, i, "Title " + i, i * 0.25, i % 3 == 0 ? null : now);
+
+        insert = step;
+        statement = connection.prepareStatement(insert.getSQL());
+    }
+
+    @TearDown
+    public void teardown() throws SQLException {
+        statement.close();
+    }
+
+    @Benchmark
+    public int bind() {
+        return ctx.bindContext(statement).visit(insert).peekIndex();
+    }
+
+    @Benchmark
+    public int execute() {
+        return insert.execute();
+    }
+}
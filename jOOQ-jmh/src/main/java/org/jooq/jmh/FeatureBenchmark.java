@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Query;
+import org.jooq.Record5;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for features that were introduced in jOOQ 3.9.
+ * <p>
+ * Unlike all other benchmarks, these do not compile against earlier jOOQ
+ * versions. Delete this class when building the module against such versions.
+ * Their baselines are {@link RenderBenchmark#executeSimple()} and
+ * {@link FetchBenchmark#fetchH2()}.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class FeatureBenchmark {
+
+    private Query                                                          executableCached;
+    private ResultQuery<Record5<Long, Integer, String, Double, Timestamp>> h2;
+
+    @Setup
+    public void setup(H2Database database) {
+        MockConnection connection = new MockConnection(c -> new MockResult[] { new MockResult(1, null) });
+        executableCached = RenderBenchmark.simple(DSL.using(connection, SQLDialect.H2, new Settings().withRenderCache(true)));
+        h2 = FetchBenchmark.query(database.ctx());
+    }
+
+    @Benchmark
+    public int executeSimpleWithRenderCache() {
+        return executableCached.execute();
+    }
+
+    @Benchmark
+    public Result<?> fetchColumnarH2() {
+        return h2.fetchColumnar();
+    }
+}
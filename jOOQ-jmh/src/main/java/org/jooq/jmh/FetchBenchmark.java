@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.BenchmarkTables.BOOK;
+import static org.jooq.jmh.BenchmarkTables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PRICE;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PUBLISHED;
+import static org.jooq.jmh.BenchmarkTables.BOOK_TITLE;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record5;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for fetching records through <code>CursorImpl.fetchNext()</code>,
+ * both from an in-process H2 database and from a {@link MockConnection}.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class FetchBenchmark {
+
+    private ResultQuery<Record5<Long, Integer, String, Double, Timestamp>> h2;
+    private ResultQuery<Record5<Long, Integer, String, Double, Timestamp>> mock;
+
+    @Setup
+    public void setup(H2Database database) {
+        h2 = query(database.ctx());
+
+        // The MockConnection serves the same data from memory, which measures
+        // jOOQ's overhead on top of a ResultSet without any JDBC driver.
+        Result<Record5<Long, Integer, String, Double, Timestamp>> data = h2.fetch();
+        mock = query(DSL.using(new MockConnection(c -> new MockResult[] { new MockResult(data.size(), data) }), SQLDialect.H2));
+    }
+
+    static ResultQuery<Record5<Long, Integer, String, Double, Timestamp>> query(DSLContext ctx) {
+        return ctx.select(BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PRICE, BOOK_PUBLISHED)
+                  .from(BOOK)
+                  .orderBy(BOOK_ID);
+    }
+
+    @Benchmark
+    public Result<?> fetchH2() {
+        return h2.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazyH2(Blackhole blackhole) {
+        try (Cursor<? extends Record> cursor = h2.fetchLazy()) {
+            while (cursor.hasNext())
+                blackhole.consume(cursor.fetchOne());
+        }
+    }
+
+    @Benchmark
+    public Result<?> fetchMock() {
+        return mock.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazyMock(Blackhole blackhole) {
+        try (Cursor<? extends Record> cursor = mock.fetchLazy()) {
+            while (cursor.hasNext())
+                blackhole.consume(cursor.fetchOne());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.BenchmarkTables.AUTHOR;
+import static org.jooq.jmh.BenchmarkTables.AUTHOR_FIRST_NAME;
+import static org.jooq.jmh.BenchmarkTables.AUTHOR_ID;
+import static org.jooq.jmh.BenchmarkTables.AUTHOR_LAST_NAME;
+import static org.jooq.jmh.BenchmarkTables.BOOK;
+import static org.jooq.jmh.BenchmarkTables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PRICE;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PUBLISHED;
+import static org.jooq.jmh.BenchmarkTables.BOOK_TITLE;
+import static org.jooq.jmh.BenchmarkTables.DDL;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+import org.jooq.BatchBindStep;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * An in-process H2 database that is shared by all threads of a benchmark.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+public class H2Database {
+
+    /**
+     * The number of books in the database.
+     */
+    @Param({ "10", "1000", "100000" })
+    public int         books;
+
+    private Connection connection;
+    private DSLContext ctx;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jooq-jmh-" + books + ";DB_CLOSE_DELAY=-1", "sa", "");
+        ctx = DSL.using(connection, SQLDialect.H2);
+
+        try (Statement s = connection.createStatement()) {
+            for (String ddl : DDL)
+                s.execute(ddl);
+        }
+
+        for (int i = 1; i <= 10; i++)
+            ctx.insertInto(AUTHOR, AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+               .values(i, "First " + i, "Last " + i)
+               .execute();
+
+        long now = System.currentTimeMillis();
+        for (int from = 1; from <= books; from += 1000) {
+            BatchBindStep batch = ctx.batch(
+                ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PRICE, BOOK_PUBLISHED)
+                   .values((Long) null, null, null, null, null));
+
+            for (int i = from; i < from + 1000 && i <= books; i++)
+                batch.bind((long) i, i % 10 + 1, "Title " + i, i * 0.25, (i % 7 == 0 ? null : new Timestamp(now - i * 1000L)));
+
+            batch.execute();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws SQLException {
+        try (Statement s = connection.createStatement()) {
+            s.execute("DROP ALL OBJECTS");
+        }
+
+        connection.close();
+    }
+
+    /**
+     * A {@link DSLContext} connected to the database.
+     */
+    public DSLContext ctx() {
+        return ctx;
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.jmh.BenchmarkTables.BOOK;
+import static org.jooq.jmh.BenchmarkTables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PRICE;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PUBLISHED;
+import static org.jooq.jmh.BenchmarkTables.BOOK_TITLE;
+
+import java.beans.ConstructorProperties;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Record5;
+import org.jooq.Result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for mapping records to POJOs through
+ * <code>DefaultRecordMapper.map()</code>.
+ * <p>
+ * The records are fetched once per trial, such that only the mapping is
+ * measured.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class MapperBenchmark {
+
+    private Result<Record5<Long, Integer, String, Double, Timestamp>> result;
+
+    @Setup
+    public void setup(H2Database database) {
+        result = database.ctx()
+                         .select(BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PRICE, BOOK_PUBLISHED)
+                         .from(BOOK)
+                         .orderBy(BOOK_ID)
+                         .fetch();
+    }
+
+    @Benchmark
+    public List<MutableBook> intoMutablePojo() {
+        return result.into(MutableBook.class);
+    }
+
+    @Benchmark
+    public List<ImmutableBook> intoImmutablePojo() {
+        return result.into(ImmutableBook.class);
+    }
+
+    @Benchmark
+    public List<AnnotatedImmutableBook> intoImmutablePojoWithConstructorProperties() {
+        return result.into(AnnotatedImmutableBook.class);
+    }
+
+    /**
+     * A baseline that maps records without any reflection.
+     */
+    @Benchmark
+    public List<ImmutableBook> intoImmutablePojoWithLambda() {
+        return result.map(r -> new ImmutableBook(r.value1(), r.value2(), r.value3(), r.value4(), r.value5()));
+    }
+
+    public static class MutableBook {
+        public Long      id;
+        public Integer   authorId;
+        public String    title;
+        public Double    price;
+        public Timestamp published;
+    }
+
+    public static class ImmutableBook {
+        public final Long      id;
+        public final Integer   authorId;
+        public final String    title;
+        public final Double    price;
+        public final Timestamp published;
+
+        public ImmutableBook(Long id, Integer authorId, String title, Double price, Timestamp published) {
+            this.id = id;
+            this.authorId = authorId;
+            this.title = title;
+            this.price = price;
+            this.published = published;
+        }
+    }
+
+    public static class AnnotatedImmutableBook extends ImmutableBook {
+
+        @ConstructorProperties({ "id", "authorId", "title", "price", "published" })
+        public AnnotatedImmutableBook(Long id, Integer authorId, String title, Double price, Timestamp published) {
+            super(id, authorId, title, price, published);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.jmh;
+
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.sum;
+import static org.jooq.jmh.BenchmarkTables.AUTHOR;
+import static org.jooq.jmh.BenchmarkTables.AUTHOR_FIRST_NAME;
+import static org.jooq.jmh.BenchmarkTables.AUTHOR_ID;
+import static org.jooq.jmh.BenchmarkTables.AUTHOR_LAST_NAME;
+import static org.jooq.jmh.BenchmarkTables.BOOK;
+import static org.jooq.jmh.BenchmarkTables.BOOK_AUTHOR_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_ID;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PRICE;
+import static org.jooq.jmh.BenchmarkTables.BOOK_PUBLISHED;
+import static org.jooq.jmh.BenchmarkTables.BOOK_TITLE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for rendering SQL through <code>DefaultRenderContext</code>.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class RenderBenchmark {
+
+    private DSLContext ctx;
+    private Query      simple;
+    private Query      complex;
+    private Query      executable;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(SQLDialect.H2);
+        simple = simple(ctx);
+        complex = complex(ctx);
+
+        // Queries executed against a MockConnection, which does nothing. This
+        // measures the full execution overhead of jOOQ, without JDBC.
+        MockConnection connection = new MockConnection(c -> new MockResult[] { new MockResult(1, null) });
+        executable = simple(DSL.using(connection, SQLDialect.H2));
+    }
+
+    static Query simple(DSLContext ctx) {
+        return ctx.select(BOOK_ID, BOOK_TITLE)
+                  .from(BOOK)
+                  .where(BOOK_ID.eq(1L));
+    }
+
+    private static Query complex(DSLContext ctx) {
+        return ctx.select(AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, count(), sum(BOOK_PRICE))
+                  .from(AUTHOR)
+                  .join(BOOK).on(AUTHOR_ID.eq(BOOK_AUTHOR_ID))
+                  .where(BOOK_PUBLISHED.isNotNull())
+                  .and(BOOK_TITLE.like("Title%"))
+                  .and(BOOK_ID.in(select(BOOK_ID).from(BOOK).where(BOOK_PRICE.gt(10.0))))
+                  .groupBy(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+                  .having(count().gt(inline(1)))
+                  .orderBy(AUTHOR_LAST_NAME.asc(), AUTHOR_FIRST_NAME.desc())
+                  .limit(10)
+                  .offset(20);
+    }
+
+    @Benchmark
+    public String renderSimple() {
+        return ctx.render(simple);
+    }
+
+    @Benchmark
+    public String renderComplex() {
+        return ctx.render(complex);
+    }
+
+    @Benchmark
+    public String renderComplexInlined() {
+        return ctx.renderInlined(complex);
+    }
+
+    @Benchmark
+    public String buildAndRenderComplex() {
+        return ctx.render(complex(ctx));
+    }
+
+    @Benchmark
+    public int executeSimple() {
+        return executable.execute();
+    }
+}
@@ -57,13 +57,20 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.JAXB;
 
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListenerProvider;
@@ -133,6 +140,8 @@ public abstract class AbstractDatabase implements Database {
     private List<ForcedType>                                                 configuredForcedTypes;
     private SchemaVersionProvider                                            schemaVersionProvider;
     private CatalogVersionProvider                                           catalogVersionProvider;
+    private int                                                              parallelism              = 1;
+    private ConnectionProvider                                               connectionProvider;
 
     // -------------------------------------------------------------------------
     // Loaded definitions
@@ -171,6 +180,7 @@ public abstract class AbstractDatabase implements Database {
     private transient Map<SchemaDefinition, List<RoutineDefinition>>         routinesBySchema;
     private transient Map<SchemaDefinition, List<PackageDefinition>>         packagesBySchema;
     private transient boolean                                                initialised;
+    private transient boolean                                                loadedParallel;
 
     // Other caches
     private final List<Definition>                                           all;
@@ -178,9 +188,13 @@ public abstract class AbstractDatabase implements Database {
     private final List<Definition>                                           excluded;
     private final Map<Table<?>, Boolean>                                     exists;
     private final Map<String, Pattern>                                       patterns;
+    private final ThreadLocal<Connection>                                    parallelConnection;
+    private final List<Connection>                                           parallelConnections;
 
     protected AbstractDatabase() {
-        exists = new HashMap<Table<?>, Boolean>();
+        exists = Collections.synchronizedMap(new HashMap<Table<?>, Boolean>());
+        parallelConnection = new ThreadLocal<Connection>();
+        parallelConnections = new ArrayList<Connection>();
         patterns = new HashMap<String, Pattern>();
         filters = new ArrayList<Filter>();
         all = new ArrayList<Definition>();
@@ -204,7 +218,30 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final Connection getConnection() {
-        return connection;
+
+        // Worker threads of the parallel introspection use their own connection
+        Connection c = parallelConnection.get();
+        return c != null ? c : connection;
+    }
+
+    @Override
+    public final void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public final int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public final void setConnectionProvider(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    public final ConnectionProvider getConnectionProvider() {
+        return connectionProvider;
     }
 
     @Override
@@ -320,7 +357,7 @@ public abstract class AbstractDatabase implements Database {
         return true;
     }
 
-    final Pattern pattern(String regex) {
+    final synchronized Pattern pattern(String regex) {
         Pattern pattern = patterns.get(regex);
 
         if (pattern == null) {
@@ -1021,6 +1058,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<SequenceDefinition> getSequences(SchemaDefinition schema) {
+        loadParallel();
+
         if (sequences == null) {
             sequences = new ArrayList<SequenceDefinition>();
 
@@ -1123,6 +1162,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<TableDefinition> getTables(SchemaDefinition schema) {
+        loadParallel();
+
         if (tables == null) {
             tables = new ArrayList<TableDefinition>();
 
@@ -1159,6 +1200,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<EnumDefinition> getEnums(SchemaDefinition schema) {
+        loadParallel();
+
         if (enums == null) {
             enums = new ArrayList<EnumDefinition>();
 
@@ -1261,6 +1304,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<DomainDefinition> getDomains(SchemaDefinition schema) {
+        loadParallel();
+
         if (domains == null) {
             domains = new ArrayList<DomainDefinition>();
 
@@ -1290,6 +1335,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<ArrayDefinition> getArrays(SchemaDefinition schema) {
+        loadParallel();
+
         if (arrays == null) {
             arrays = new ArrayList<ArrayDefinition>();
 
@@ -1326,6 +1373,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<UDTDefinition> getUDTs(SchemaDefinition schema) {
+        loadParallel();
+
         if (udts == null) {
             udts = new ArrayList<UDTDefinition>();
 
@@ -1362,6 +1411,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final Relations getRelations() {
+        loadParallel();
+
         if (relations == null) {
             relations = new DefaultRelations();
 
@@ -1382,6 +1433,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<RoutineDefinition> getRoutines(SchemaDefinition schema) {
+        loadParallel();
+
         if (routines == null) {
             routines = new ArrayList<RoutineDefinition>();
 
@@ -1408,6 +1461,8 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final List<PackageDefinition> getPackages(SchemaDefinition schema) {
+        loadParallel();
+
         if (packages == null) {
             packages = new ArrayList<PackageDefinition>();
 
@@ -1471,7 +1526,7 @@ public abstract class AbstractDatabase implements Database {
     }
 
     @Override
-    public final <T extends Definition> List<T> filterExcludeInclude(List<T> definitions) {
+    public final synchronized <T extends Definition> List<T> filterExcludeInclude(List<T> definitions) {
         List<T> result = filterExcludeInclude(definitions, excludes, includes, filters);
 
         this.all.addAll(definitions);
@@ -1556,6 +1611,10 @@ public abstract class AbstractDatabase implements Database {
      * Retrieve ALL relations from the database.
      */
     protected final Relations getRelations0() {
+        return getRelations0(true);
+    }
+
+    private final DefaultRelations getRelations0(boolean includeCheckConstraints) {
         DefaultRelations result = new DefaultRelations();
 
         try {
@@ -1579,12 +1638,8 @@ public abstract class AbstractDatabase implements Database {
             log.error("Error while fetching foreign keys", e);
         }
 
-        try {
-            loadCheckConstraints(result);
-        }
-        catch (Exception e) {
-            log.error("Error while fetching check constraints", e);
-        }
+        if (includeCheckConstraints)
+            loadCheckConstraints0(result);
 
         try {
             syntheticPrimaryKeys(result);
@@ -1603,6 +1658,226 @@ public abstract class AbstractDatabase implements Database {
         return result;
     }
 
+    private final void loadCheckConstraints0(DefaultRelations result) {
+        try {
+            loadCheckConstraints(result);
+        }
+        catch (Exception e) {
+            log.error("Error while fetching check constraints", e);
+        }
+    }
+
+    /**
+     * Load all meta data concurrently, if the parallel introspection mode is
+     * active.
+     * <p>
+     * Schemata and tables are loaded first, as most other meta data queries
+     * depend on them. Then, columns are loaded for all tables, and finally,
+     * all other objects and constraints are loaded. The results are the same
+     * as those of the sequential introspection, as only mutually independent
+     * meta data queries are executed concurrently.
+     */
+    private final void loadParallel() {
+        if (loadedParallel || parallelism <= 1)
+            return;
+
+        loadedParallel = true;
+
+        if (connectionProvider == null) {
+            log.info("Parallel introspection", "No connection provider is available. Meta data is read sequentially");
+            return;
+        }
+
+        StopWatch watch = new StopWatch();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+
+        try {
+            for (SchemaDefinition schema : getSchemata())
+                getTables(schema);
+            getTables(null);
+
+            // Columns are loaded for all tables of a schema at once, where this
+            // is supported. All remaining tables load their own columns
+            List<ParallelTask> bulk = new ArrayList<ParallelTask>();
+            for (final SchemaDefinition schema : getSchemata()) {
+                bulk.add(new ParallelTask("Error while fetching columns") {
+                    @Override
+                    void run0() throws Exception {
+                        Map<TableDefinition, List<ColumnDefinition>> columns = getColumns0(schema);
+
+                        if (columns != null)
+                            for (Entry<TableDefinition, List<ColumnDefinition>> entry : columns.entrySet())
+                                if (entry.getKey() instanceof AbstractTableDefinition)
+                                    ((AbstractTableDefinition) entry.getKey()).initElements(entry.getValue());
+                    }
+                });
+            }
+
+            invokeAll(executor, bulk);
+
+            List<ParallelTask> columns = new ArrayList<ParallelTask>();
+            for (final TableDefinition table : getTables(null)) {
+                columns.add(new ParallelTask("Error while fetching columns") {
+                    @Override
+                    void run0() {
+                        table.getColumns();
+                    }
+                });
+            }
+
+            invokeAll(executor, columns);
+            watch.splitInfo("Columns fetched in parallel");
+
+            // Foreign keys reference previously loaded unique keys, so primary
+            // keys, unique keys, and foreign keys are loaded in a single task
+            final DefaultRelations[] r = new DefaultRelations[1];
+            final DefaultRelations checks = new DefaultRelations();
+            final boolean[] checksLoaded = new boolean[1];
+
+            List<ParallelTask> objects = new ArrayList<ParallelTask>();
+            objects.add(new ParallelTask("Error while fetching sequences") {
+                @Override
+                void run0() {
+                    getSequences(null);
+                }
+            });
+            objects.add(new ParallelTask("Error while fetching functions") {
+                @Override
+                void run0() {
+                    getRoutines(null);
+                }
+            });
+            objects.add(new ParallelTask("Error while fetching packages") {
+                @Override
+                void run0() {
+                    getPackages(null);
+                }
+            });
+            objects.add(new ParallelTask("Error while fetching enums") {
+                @Override
+                void run0() {
+                    getEnums(null);
+                }
+            });
+            objects.add(new ParallelTask("Error while fetching domains") {
+                @Override
+                void run0() {
+                    getDomains(null);
+                }
+            });
+            objects.add(new ParallelTask("Error while fetching udts") {
+                @Override
+                void run0() {
+                    getUDTs(null);
+                }
+            });
+            objects.add(new ParallelTask("Error while fetching ARRAYS") {
+                @Override
+                void run0() {
+                    getArrays(null);
+                }
+            });
+
+            // [#3559] If the code generator doesn't need relation information, we shouldn't
+            // populate them here to avoid running potentially expensive queries.
+            if (includeRelations) {
+                objects.add(new ParallelTask("Error while fetching relations") {
+                    @Override
+                    void run0() {
+                        r[0] = getRelations0(false);
+                    }
+                });
+                objects.add(new ParallelTask("Error while fetching check constraints") {
+                    @Override
+                    void run0() {
+                        loadCheckConstraints0(checks);
+                        checksLoaded[0] = true;
+                    }
+                });
+            }
+
+            invokeAll(executor, objects);
+
+            if (r[0] != null) {
+                if (checksLoaded[0])
+                    r[0].addCheckConstraints(checks);
+                else
+                    loadCheckConstraints0(r[0]);
+
+                relations = r[0];
+            }
+
+            watch.splitInfo("Meta data fetched in parallel");
+        }
+        finally {
+            executor.shutdown();
+
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            synchronized (parallelConnections) {
+                for (Connection c : parallelConnections)
+                    connectionProvider.release(c);
+
+                parallelConnections.clear();
+            }
+        }
+    }
+
+    private static final void invokeAll(ExecutorService executor, List<ParallelTask> tasks) {
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks))
+                future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while reading meta data", e);
+        }
+        catch (ExecutionException e) {
+            throw new DataAccessException("Error while reading meta data", e.getCause());
+        }
+    }
+
+    /**
+     * A task of the parallel introspection, which is executed on a connection
+     * of its own worker thread.
+     */
+    private abstract class ParallelTask implements Callable<Void> {
+        private final String message;
+
+        ParallelTask(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public final Void call() {
+            try {
+                if (parallelConnection.get() == null) {
+                    Connection c = connectionProvider.acquire();
+
+                    synchronized (parallelConnections) {
+                        parallelConnections.add(c);
+                    }
+
+                    parallelConnection.set(c);
+                }
+
+                run0();
+            }
+            catch (Exception e) {
+                log.error(message, e);
+            }
+
+            return null;
+        }
+
+        abstract void run0() throws Exception;
+    }
+
     @Override
     public final boolean isArrayType(String dataType) {
         switch (getDialect().family()) {
@@ -1688,6 +1963,19 @@ public abstract class AbstractDatabase implements Database {
      */
     protected abstract void loadCheckConstraints(DefaultRelations r) throws SQLException;
 
+    /**
+     * Retrieve ALL columns of ALL tables of a schema at once, in the parallel
+     * introspection mode.
+     * <p>
+     * Tables that are not contained in the resulting map load their own
+     * columns. Subclasses may override this, the default implementation
+     * returns <code>null</code>, in case of which all tables load their own
+     * columns.
+     */
+    protected Map<TableDefinition, List<ColumnDefinition>> getColumns0(SchemaDefinition schema) throws SQLException {
+        return null;
+    }
+
     /**
      * Retrieve ALL catalogs from the database. This will be filtered in
      * {@link #getCatalogs()}
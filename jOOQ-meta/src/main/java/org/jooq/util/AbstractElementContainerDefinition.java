@@ -69,6 +69,7 @@ extends AbstractDefinition {
     private static final JooqLogger log             = JooqLogger.getLogger(AbstractElementContainerDefinition.class);
 
     private List<E>                 elements;
+    private List<E>                 initialElements;
 
     public AbstractElementContainerDefinition(SchemaDefinition schema, String name, String comment) {
         super(schema.getDatabase(), schema, name, comment);
@@ -90,7 +91,8 @@ extends AbstractDefinition {
 
             try {
                 Database db = getDatabase();
-                List<E> e = getElements0();
+                List<E> e = initialElements != null ? initialElements : getElements0();
+                initialElements = null;
 
                 // [#5335] Warn if a table definition contains several identity columns
                 if (this instanceof TableDefinition) {
@@ -127,6 +129,16 @@ extends AbstractDefinition {
         return elements;
     }
 
+    /**
+     * Initialise this container with elements that have been loaded by the
+     * {@link Database} at once for several containers, instead of loading them
+     * with {@link #getElements0()}.
+     */
+    final void initElements(List<E> e) {
+        initialElements = e;
+        getElements();
+    }
+
     protected final E getElement(String name) {
         return getElement(name, false);
     }
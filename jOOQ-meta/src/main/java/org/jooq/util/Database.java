@@ -45,6 +45,7 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Properties;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
@@ -213,6 +214,33 @@ public interface Database {
      */
     Connection getConnection();
 
+    /**
+     * The number of connections that are used to read meta data concurrently.
+     * <p>
+     * If this is greater than <code>1</code>, independent meta data queries
+     * are executed concurrently on connections obtained from
+     * {@link #getConnectionProvider()}, and columns are loaded for all tables
+     * of a schema at once, where this is supported.
+     */
+    void setParallelism(int parallelism);
+
+    /**
+     * The number of connections that are used to read meta data concurrently.
+     */
+    int getParallelism();
+
+    /**
+     * Initialise a provider for additional connections, which are used to read
+     * meta data concurrently.
+     */
+    void setConnectionProvider(ConnectionProvider connectionProvider);
+
+    /**
+     * The provider for additional connections, which are used to read meta
+     * data concurrently.
+     */
+    ConnectionProvider getConnectionProvider();
+
     /**
      * The input catalogs are the catalogs that jooq-meta is reading data from.
      */
@@ -189,6 +189,15 @@ public class DefaultRelations implements Relations {
         checkConstraints.put(key(table, constraint.getName()), constraint);
     }
 
+    /**
+     * Add all <code>CHECK</code> constraints that have been loaded into another
+     * relations object.
+     */
+    void addCheckConstraints(DefaultRelations other) {
+        checkConstraints.putAll(other.checkConstraints);
+        checkConstraintsByTable = null;
+    }
+
 	@Override
 	public UniqueKeyDefinition getPrimaryKey(ColumnDefinition column) {
 	    if (primaryKeysByColumn == null) {
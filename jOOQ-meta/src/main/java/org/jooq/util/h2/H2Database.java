@@ -53,7 +53,10 @@ import static org.jooq.util.h2.information_schema.tables.TypeInfo.TYPE_INFO;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jooq.DSLContext;
 import org.jooq.Record;
@@ -308,6 +311,44 @@ public class H2Database extends AbstractDatabase {
         return result;
     }
 
+    @Override
+    protected Map<TableDefinition, List<ColumnDefinition>> getColumns0(SchemaDefinition schema) throws SQLException {
+        Map<String, TableDefinition> tables = new HashMap<String, TableDefinition>();
+        Map<TableDefinition, List<ColumnDefinition>> result = new LinkedHashMap<TableDefinition, List<ColumnDefinition>>();
+
+        for (TableDefinition table : getTables(schema)) {
+            if (table instanceof H2TableDefinition && !tables.containsKey(table.getName())) {
+                tables.put(table.getName(), table);
+                result.put(table, new ArrayList<ColumnDefinition>());
+            }
+        }
+
+        for (Record record : create().select(
+                Columns.TABLE_NAME,
+                Columns.COLUMN_NAME,
+                Columns.ORDINAL_POSITION,
+                Columns.TYPE_NAME,
+                Columns.CHARACTER_MAXIMUM_LENGTH,
+                Columns.NUMERIC_PRECISION,
+                Columns.NUMERIC_SCALE,
+                Columns.IS_NULLABLE,
+                Columns.COLUMN_DEFAULT,
+                Columns.REMARKS,
+                Columns.SEQUENCE_NAME)
+            .from(COLUMNS)
+            .where(Columns.TABLE_SCHEMA.equal(schema.getName()))
+            .orderBy(Columns.TABLE_NAME, Columns.ORDINAL_POSITION)
+            .fetch()) {
+
+            TableDefinition table = tables.get(record.get(Columns.TABLE_NAME));
+
+            if (table != null)
+                result.get(table).add(H2TableDefinition.column(table, record));
+        }
+
+        return result;
+    }
+
     @Override
     protected List<RoutineDefinition> getRoutines0() throws SQLException {
         List<RoutineDefinition> result = new ArrayList<RoutineDefinition>();
@@ -54,6 +54,7 @@ import org.jooq.util.DataTypeDefinition;
 import org.jooq.util.DefaultColumnDefinition;
 import org.jooq.util.DefaultDataTypeDefinition;
 import org.jooq.util.SchemaDefinition;
+import org.jooq.util.TableDefinition;
 import org.jooq.util.h2.information_schema.tables.Columns;
 
 /**
@@ -89,32 +90,38 @@ public class H2TableDefinition extends AbstractTableDefinition {
             .orderBy(Columns.ORDINAL_POSITION)
             .fetch()) {
 
-            DataTypeDefinition type = new DefaultDataTypeDefinition(
-                getDatabase(),
-                getSchema(),
-                record.get(Columns.TYPE_NAME),
-                record.get(Columns.CHARACTER_MAXIMUM_LENGTH),
-                record.get(Columns.NUMERIC_PRECISION),
-                record.get(Columns.NUMERIC_SCALE),
-                record.get(Columns.IS_NULLABLE, boolean.class),
-                record.get(Columns.COLUMN_DEFAULT));
+            result.add(column(getDatabase().getTable(getSchema(), getName()), record));
+        }
 
-            ColumnDefinition column = new DefaultColumnDefinition(
-            	getDatabase().getTable(getSchema(), getName()),
-                record.get(Columns.COLUMN_NAME),
-                record.get(Columns.ORDINAL_POSITION),
-                type,
+        return result;
+    }
 
-                // [#5331] AUTO_INCREMENT (MySQL style)
-                null != record.get(Columns.SEQUENCE_NAME)
+    /**
+     * Create a column definition from a record of
+     * <code>INFORMATION_SCHEMA.COLUMNS</code>.
+     */
+    static ColumnDefinition column(TableDefinition table, Record record) {
+        DataTypeDefinition type = new DefaultDataTypeDefinition(
+            table.getDatabase(),
+            table.getSchema(),
+            record.get(Columns.TYPE_NAME),
+            record.get(Columns.CHARACTER_MAXIMUM_LENGTH),
+            record.get(Columns.NUMERIC_PRECISION),
+            record.get(Columns.NUMERIC_SCALE),
+            record.get(Columns.IS_NULLABLE, boolean.class),
+            record.get(Columns.COLUMN_DEFAULT));
 
-                // [#5331] DEFAULT nextval('sequence') (PostgreSQL style)
-             || defaultString(record.get(Columns.COLUMN_DEFAULT)).trim().toLowerCase().startsWith("nextval"),
-                record.get(Columns.REMARKS));
+        return new DefaultColumnDefinition(
+            table,
+            record.get(Columns.COLUMN_NAME),
+            record.get(Columns.ORDINAL_POSITION),
+            type,
 
-            result.add(column);
-        }
+            // [#5331] AUTO_INCREMENT (MySQL style)
+            null != record.get(Columns.SEQUENCE_NAME)
 
-        return result;
+            // [#5331] DEFAULT nextval('sequence') (PostgreSQL style)
+         || defaultString(record.get(Columns.COLUMN_DEFAULT)).trim().toLowerCase().startsWith("nextval"),
+            record.get(Columns.REMARKS));
     }
 }
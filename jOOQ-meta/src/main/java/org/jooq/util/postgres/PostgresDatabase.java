@@ -62,6 +62,7 @@ import static org.jooq.util.postgres.PostgresDSL.arrayAppend;
 import static org.jooq.util.postgres.PostgresDSL.oid;
 import static org.jooq.util.postgres.information_schema.Tables.ATTRIBUTES;
 import static org.jooq.util.postgres.information_schema.Tables.CHECK_CONSTRAINTS;
+import static org.jooq.util.postgres.information_schema.Tables.COLUMNS;
 import static org.jooq.util.postgres.information_schema.Tables.KEY_COLUMN_USAGE;
 import static org.jooq.util.postgres.information_schema.Tables.PARAMETERS;
 import static org.jooq.util.postgres.information_schema.Tables.ROUTINES;
@@ -80,6 +81,7 @@ import static org.jooq.util.postgres.pg_catalog.Tables.PG_TYPE;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -413,6 +415,69 @@ public class PostgresDatabase extends AbstractDatabase {
         return result;
     }
 
+    @Override
+    protected Map<TableDefinition, List<ColumnDefinition>> getColumns0(SchemaDefinition schema) throws SQLException {
+        Map<String, TableDefinition> containers = new HashMap<String, TableDefinition>();
+        Map<String, List<TableDefinition>> tables = new HashMap<String, List<TableDefinition>>();
+        Map<TableDefinition, List<ColumnDefinition>> result = new LinkedHashMap<TableDefinition, List<ColumnDefinition>>();
+
+        for (TableDefinition table : getTables(schema)) {
+
+            // Columns reference the first table by that name, as in PostgresTableDefinition
+            if (!containers.containsKey(table.getName()))
+                containers.put(table.getName(), table);
+
+            // Materialised views and table-valued functions load their own columns
+            if (table.getClass() == PostgresTableDefinition.class) {
+                List<TableDefinition> list = tables.get(table.getName());
+
+                if (list == null) {
+                    list = new ArrayList<TableDefinition>();
+                    tables.put(table.getName(), list);
+                }
+
+                list.add(table);
+                result.put(table, new ArrayList<ColumnDefinition>());
+            }
+        }
+
+        for (Record record : create().select(
+                COLUMNS.TABLE_NAME,
+                COLUMNS.COLUMN_NAME,
+                COLUMNS.ORDINAL_POSITION,
+                COLUMNS.DATA_TYPE,
+                COLUMNS.CHARACTER_MAXIMUM_LENGTH,
+                COLUMNS.NUMERIC_PRECISION,
+                COLUMNS.NUMERIC_SCALE,
+                COLUMNS.IS_NULLABLE,
+                COLUMNS.COLUMN_DEFAULT,
+                COLUMNS.UDT_SCHEMA,
+                COLUMNS.UDT_NAME,
+                PG_DESCRIPTION.DESCRIPTION)
+            .from(COLUMNS)
+            .join(PG_NAMESPACE)
+                .on(COLUMNS.TABLE_SCHEMA.eq(PG_NAMESPACE.NSPNAME))
+            .join(PG_CLASS)
+                .on(PG_CLASS.RELNAME.eq(COLUMNS.TABLE_NAME))
+                .and(PG_CLASS.RELNAMESPACE.eq(oid(PG_NAMESPACE)))
+            .leftOuterJoin(PG_DESCRIPTION)
+                .on(PG_DESCRIPTION.OBJOID.eq(oid(PG_CLASS)))
+                .and(PG_DESCRIPTION.OBJSUBID.eq(COLUMNS.ORDINAL_POSITION))
+            .where(COLUMNS.TABLE_SCHEMA.equal(schema.getName()))
+            .orderBy(COLUMNS.TABLE_NAME, COLUMNS.ORDINAL_POSITION)
+            .fetch()) {
+
+            String name = record.get(COLUMNS.TABLE_NAME);
+            List<TableDefinition> list = tables.get(name);
+
+            if (list != null)
+                for (TableDefinition table : list)
+                    result.get(table).add(PostgresTableDefinition.column(containers.get(name), record));
+        }
+
+        return result;
+    }
+
     @Override
     protected List<CatalogDefinition> getCatalogs0() throws SQLException {
         List<CatalogDefinition> result = new ArrayList<CatalogDefinition>();
@@ -59,6 +59,7 @@ import org.jooq.util.DataTypeDefinition;
 import org.jooq.util.DefaultColumnDefinition;
 import org.jooq.util.DefaultDataTypeDefinition;
 import org.jooq.util.SchemaDefinition;
+import org.jooq.util.TableDefinition;
 
 /**
  * @author Lukas Eder
@@ -99,36 +100,43 @@ public class PostgresTableDefinition extends AbstractTableDefinition {
             .orderBy(COLUMNS.ORDINAL_POSITION)
             .fetch()) {
 
-            SchemaDefinition typeSchema = null;
+			result.add(column(getDatabase().getTable(getSchema(), getName()), record));
+		}
 
-            String schemaName = record.get(COLUMNS.UDT_SCHEMA);
-            if (schemaName != null)
-                typeSchema = getDatabase().getSchema(schemaName);
+		return result;
+	}
 
-            DataTypeDefinition type = new DefaultDataTypeDefinition(
-                getDatabase(),
-                typeSchema,
-                record.get(COLUMNS.DATA_TYPE),
-                record.get(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
-                record.get(COLUMNS.NUMERIC_PRECISION),
-                record.get(COLUMNS.NUMERIC_SCALE),
-                record.get(COLUMNS.IS_NULLABLE, boolean.class),
-                record.get(COLUMNS.COLUMN_DEFAULT),
-                record.get(COLUMNS.UDT_NAME)
-            );
+    /**
+     * Create a column definition from a record of
+     * <code>INFORMATION_SCHEMA.COLUMNS</code> joined with
+     * <code>PG_DESCRIPTION</code>.
+     */
+    static ColumnDefinition column(TableDefinition table, Record record) {
+        SchemaDefinition typeSchema = null;
 
-			ColumnDefinition column = new DefaultColumnDefinition(
-			    getDatabase().getTable(getSchema(), getName()),
-			    record.get(COLUMNS.COLUMN_NAME),
-			    record.get(COLUMNS.ORDINAL_POSITION, int.class),
-			    type,
-			    defaultString(record.get(COLUMNS.COLUMN_DEFAULT)).trim().toLowerCase().startsWith("nextval"),
-			    record.get(PG_DESCRIPTION.DESCRIPTION)
-		    );
+        String schemaName = record.get(COLUMNS.UDT_SCHEMA);
+        if (schemaName != null)
+            typeSchema = table.getDatabase().getSchema(schemaName);
 
-			result.add(column);
-		}
+        DataTypeDefinition type = new DefaultDataTypeDefinition(
+            table.getDatabase(),
+            typeSchema,
+            record.get(COLUMNS.DATA_TYPE),
+            record.get(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
+            record.get(COLUMNS.NUMERIC_PRECISION),
+            record.get(COLUMNS.NUMERIC_SCALE),
+            record.get(COLUMNS.IS_NULLABLE, boolean.class),
+            record.get(COLUMNS.COLUMN_DEFAULT),
+            record.get(COLUMNS.UDT_NAME)
+        );
 
-		return result;
-	}
+        return new DefaultColumnDefinition(
+            table,
+            record.get(COLUMNS.COLUMN_NAME),
+            record.get(COLUMNS.ORDINAL_POSITION, int.class),
+            type,
+            defaultString(record.get(COLUMNS.COLUMN_DEFAULT)).trim().toLowerCase().startsWith("nextval"),
+            record.get(PG_DESCRIPTION.DESCRIPTION)
+        );
+    }
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * Statistics about a cache maintained by jOOQ in the scope of a
+ * {@link Configuration}.
+ * <p>
+ * Counters are updated concurrently by all threads using the cache. Values
+ * returned from this type are snapshots, they are not guaranteed to be
+ * consistent with one another.
+ *
+ * @author Lukas Eder
+ */
+public interface CacheStatistics {
+
+    /**
+     * The number of lookups that could be served from the cache.
+     */
+    long hits();
+
+    /**
+     * The number of lookups that could not be served from the cache.
+     */
+    long misses();
+
+    /**
+     * The number of entries that have been removed from the cache to make
+     * space for other entries.
+     */
+    long evictions();
+
+    /**
+     * Reset all counters to <code>0</code>.
+     */
+    void reset();
+}
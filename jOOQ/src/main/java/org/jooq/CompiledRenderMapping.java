@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import static org.jooq.tools.StringUtils.isBlank;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.jooq.conf.MappedSchema;
+import org.jooq.conf.MappedTable;
+import org.jooq.conf.RenderMapping;
+
+/**
+ * An immutable, precompiled representation of a {@link RenderMapping}.
+ * <p>
+ * Exact <code>input</code> names are indexed in hash maps, whereas
+ * <code>inputExpression</code> patterns are kept in declaration order. Lookups
+ * preserve the semantics of a linear scan over the {@link RenderMapping}, i.e.
+ * the first matching {@link MappedSchema} or {@link MappedTable} wins. Matches
+ * involving regular expressions are cached in bounded, concurrent caches.
+ *
+ * @author Lukas Eder
+ */
+final class CompiledRenderMapping {
+
+    /**
+     * The maximum number of names per regex lookup cache.
+     */
+    private static final int     CACHE_SIZE = 4096;
+    private static final Entry[] NONE       = {};
+
+    final RenderMapping          mapping;
+    private final Index          schemata;
+
+    CompiledRenderMapping(RenderMapping mapping) {
+        List<Entry> entries = new ArrayList<Entry>();
+        List<MappedSchema> s = mapping.getSchemata();
+
+        for (int i = 0; i < s.size(); i++) {
+            MappedSchema schema = s.get(i);
+            List<Entry> tables = new ArrayList<Entry>();
+            List<MappedTable> t = schema.getTables();
+
+            for (int j = 0; j < t.size(); j++) {
+                MappedTable table = t.get(j);
+                tables.add(new Entry(j, table.getInput(), table.getInputExpression(), table.getOutput(), null));
+            }
+
+            entries.add(new Entry(i, schema.getInput(), schema.getInputExpression(), schema.getOutput(), new Index(tables)));
+        }
+
+        this.mapping = mapping;
+        this.schemata = new Index(entries);
+    }
+
+    /**
+     * Whether this mapping contains any schema mappings.
+     */
+    final boolean isEmpty() {
+        return schemata.isEmpty();
+    }
+
+    /**
+     * Get the rendered name of a schema.
+     *
+     * @return The new schema name, or <code>null</code> if the schema is not
+     *         renamed.
+     */
+    final String schema(String schemaName) {
+        Entry[] matches = schemata.matches(schemaName);
+        return matches.length > 0 ? matches[0].rename(schemaName) : null;
+    }
+
+    /**
+     * Get the rendered name of a table.
+     *
+     * @return The new table name, or <code>null</code> if the table is not
+     *         renamed.
+     */
+    final String table(String schemaName, String tableName) {
+        for (Entry schema : schemata.matches(schemaName)) {
+            Entry[] matches = schema.tables.matches(tableName);
+
+            if (matches.length > 0)
+                return matches[0].rename(tableName);
+        }
+
+        return null;
+    }
+
+    /**
+     * A compiled {@link MappedSchema} or {@link MappedTable}.
+     */
+    private static final class Entry {
+        final int     index;
+        final String  input;
+        final Pattern inputExpression;
+        final String  output;
+        final Index   tables;
+
+        Entry(int index, String input, Pattern inputExpression, String output, Index tables) {
+            this.index = index;
+            this.input = input;
+            this.inputExpression = inputExpression;
+            this.output = output;
+            this.tables = tables;
+        }
+
+        /**
+         * Apply this mapping to a matching name, ignoring self-mappings and
+         * void-mappings.
+         */
+        final String rename(String name) {
+            if (!isBlank(output))
+                if (input != null && !output.equals(name))
+                    return output;
+                else if (inputExpression != null)
+                    return inputExpression.matcher(name).replaceAll(output);
+
+            return null;
+        }
+    }
+
+    /**
+     * An index of entries, looking up all entries matching a name, in
+     * declaration order.
+     */
+    private static final class Index {
+        private final Map<String, Entry[]>                exact;
+        private final Entry[]                             expressions;
+        private final ConcurrentHashMap<String, Entry[]> cache;
+
+        Index(List<Entry> entries) {
+            Map<String, List<Entry>> e = new LinkedHashMap<String, List<Entry>>();
+            List<Entry> x = new ArrayList<Entry>();
+
+            for (Entry entry : entries) {
+                if (entry.input != null) {
+                    List<Entry> list = e.get(entry.input);
+
+                    if (list == null) {
+                        list = new ArrayList<Entry>();
+                        e.put(entry.input, list);
+                    }
+
+                    list.add(entry);
+                }
+
+                if (entry.inputExpression != null)
+                    x.add(entry);
+            }
+
+            this.exact = new HashMap<String, Entry[]>();
+            for (Map.Entry<String, List<Entry>> entry : e.entrySet())
+                exact.put(entry.getKey(), entry.getValue().toArray(NONE));
+
+            this.expressions = x.toArray(NONE);
+            this.cache = expressions.length > 0 ? new ConcurrentHashMap<String, Entry[]>() : null;
+        }
+
+        final boolean isEmpty() {
+            return exact.isEmpty() && expressions.length == 0;
+        }
+
+        final Entry[] matches(String name) {
+            Entry[] result = exact.get(name);
+
+            if (expressions.length == 0)
+                return result != null ? result : NONE;
+
+            Entry[] cached = cache.get(name);
+            if (cached == null) {
+                cached = merge(result, name);
+
+                // A cheap way of bounding the cache for an unbounded number
+                // of names matched by regular expressions
+                if (cache.size() >= CACHE_SIZE)
+                    cache.clear();
+
+                cache.put(name, cached);
+            }
+
+            return cached;
+        }
+
+        private final Entry[] merge(Entry[] result, String name) {
+            List<Entry> list = new ArrayList<Entry>();
+
+            if (result != null)
+                list.addAll(Arrays.asList(result));
+
+            for (Entry entry : expressions)
+
+                // Entries that match both exactly and by expression are already contained
+                if (!name.equals(entry.input) && entry.inputExpression.matcher(name).matches())
+                    list.add(entry);
+
+            if (list.isEmpty())
+                return NONE;
+
+            Collections.sort(list, new Comparator<Entry>() {
+                @Override
+                public int compare(Entry o1, Entry o2) {
+                    return o1.index - o2.index;
+                }
+            });
+
+            return list.toArray(NONE);
+        }
+    }
+}
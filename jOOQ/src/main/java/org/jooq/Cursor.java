@@ -40,6 +40,8 @@
  */
 package org.jooq;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
@@ -50,6 +52,7 @@ import java.util.stream.Stream;
 
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.MappingException;
 import org.jooq.impl.DefaultRecordMapper;
 
@@ -192,6 +195,43 @@ public interface Cursor<R extends Record> extends Iterable<R> , AutoCloseable  {
      */
     Result<R> fetch(int number) throws DataAccessException;
 
+    /**
+     * Fetch all remaining records as a column-oriented result.
+     * <p>
+     * This is the same as {@link #fetch()}, except that the returned result
+     * stores its values per field, rather than per record.
+     * <code>BIGINT</code>, <code>INTEGER</code> and <code>DOUBLE</code> values
+     * are stored in primitive arrays, which considerably reduces the memory
+     * footprint of large results. Records are materialised only when they are
+     * accessed, e.g. through {@link Result#get(int)} or
+     * {@link Result#iterator()}. Such records are copies, modifications to them
+     * are not reflected in the result. Bulk access methods like
+     * {@link Result#getValues(int)}, {@link Result#intoMap(int, int)}, or
+     * {@link Result#intoGroups(int, int)} do not materialise any records.
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * <code>Record</code> was fetched.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    Result<R> fetchColumnar() throws DataAccessException;
+
+    /**
+     * Fetch the next couple of records from the cursor as a column-oriented
+     * result.
+     * <p>
+     * This is the same as {@link #fetch(int)}, except that the returned result
+     * stores its values per field, rather than per record. See
+     * {@link #fetchColumnar()} for details.
+     *
+     * @param number The number of records to fetch. If this is <code>0</code>
+     *            or negative an empty list is returned, the cursor is
+     *            untouched. If this is greater than the number of remaining
+     *            records, then all remaining records are returned.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    Result<R> fetchColumnar(int number) throws DataAccessException;
+
     /**
      * Fetch results into a custom handler callback.
      * <p>
@@ -332,6 +372,99 @@ public interface Cursor<R extends Record> extends Iterable<R> , AutoCloseable  {
      */
     <Z extends Record> Z fetchOneInto(Table<Z> table) throws DataAccessException, MappingException;
 
+    /**
+     * Format the remaining records of this cursor as CSV onto a
+     * {@link Writer}.
+     * <p>
+     * This is the same as calling <code>formatCSV(writer, new CSVFormat())</code>
+     *
+     * @see #formatCSV(Writer, CSVFormat)
+     */
+    void formatCSV(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Format the remaining records of this cursor as CSV onto a
+     * {@link Writer}, according to the format.
+     * <p>
+     * Unlike <code>fetch().formatCSV(writer, format)</code>, records are
+     * written as they are fetched, without materialising a {@link Result}, so
+     * memory consumption doesn't depend on the number of records. Output is
+     * buffered according to {@link Settings#getFormatBufferSize()}. The
+     * formatting rules are those of {@link Result#formatCSV(Writer, CSVFormat)}.
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * record was written.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException if something went wrong writing the output
+     */
+    void formatCSV(Writer writer, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Like {@link #formatCSV(Writer, CSVFormat)}, but the data is output onto
+     * an {@link OutputStream}.
+     */
+    void formatCSV(OutputStream stream, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Format the remaining records of this cursor as JSON onto a
+     * {@link Writer}.
+     * <p>
+     * This is the same as calling <code>formatJSON(writer, new JSONFormat())</code>
+     *
+     * @see #formatJSON(Writer, JSONFormat)
+     */
+    void formatJSON(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Format the remaining records of this cursor as JSON onto a
+     * {@link Writer}, according to the format.
+     * <p>
+     * Unlike <code>fetch().formatJSON(writer, format)</code>, records are
+     * written as they are fetched, without materialising a {@link Result}, so
+     * memory consumption doesn't depend on the number of records. Output is
+     * buffered according to {@link Settings#getFormatBufferSize()}. The
+     * formatting rules are those of
+     * {@link Result#formatJSON(Writer, JSONFormat)}.
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * record was written.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException if something went wrong writing the output
+     */
+    void formatJSON(Writer writer, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Like {@link #formatJSON(Writer, JSONFormat)}, but the data is output
+     * onto an {@link OutputStream}.
+     */
+    void formatJSON(OutputStream stream, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Format the remaining records of this cursor as XML onto a
+     * {@link Writer}.
+     * <p>
+     * Unlike <code>fetch().formatXML(writer)</code>, records are written as
+     * they are fetched, without materialising a {@link Result}, so memory
+     * consumption doesn't depend on the number of records. Output is buffered
+     * according to {@link Settings#getFormatBufferSize()}. The formatting
+     * rules are those of {@link Result#formatXML(Writer)}.
+     * <p>
+     * This will conveniently close the <code>Cursor</code>, after the last
+     * record was written.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException if something went wrong writing the output
+     */
+    void formatXML(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Like {@link #formatXML(Writer)}, but the data is output onto an
+     * {@link OutputStream}.
+     */
+    void formatXML(OutputStream stream) throws DataAccessException, IOException;
+
 
     /**
      * Fetch the next record from the cursor.
@@ -42,6 +42,7 @@ package org.jooq;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jooq.conf.Settings;
@@ -122,6 +123,15 @@ public interface DAO<R extends TableRecord<R>, P, T> {
 
     /**
      * Performs a batch <code>INSERT</code> statement for a given set of POJOs
+     * <p>
+     * If no {@link RecordListener}s are configured and the underlying table has
+     * no record version or timestamp fields, POJOs are inserted with
+     * multi-row <code>INSERT .. VALUES (..), (..)</code> statements, chunked
+     * by the dialect's maximum number of bind values and of rows per
+     * statement (e.g. 255 in Firebird and 500 in SQLite, where multi-row
+     * inserts are emulated with <code>UNION ALL</code>). POJOs whose non-null
+     * values belong to different sets of columns are inserted with separate
+     * statements.
      *
      * @param objects The POJOs to be inserted
      * @throws DataAccessException if something went wrong executing the query
@@ -244,8 +254,35 @@ public interface DAO<R extends TableRecord<R>, P, T> {
      */
     P findById(T id) throws DataAccessException;
 
+    /**
+     * Find records of the underlying table by a set of IDs.
+     *
+     * @param ids The IDs of records in the underlying table
+     * @return The records of the underlying table given their IDs, in no
+     *         particular order.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #findByIds(Collection)
+     */
+    List<P> findByIds(T... ids) throws DataAccessException;
+
+    /**
+     * Find records of the underlying table by a set of IDs.
+     * <p>
+     * Large sets of IDs are split into several queries, such that no query
+     * exceeds the dialect's maximum number of bind values.
+     *
+     * @param ids The IDs of records in the underlying table
+     * @return The records of the underlying table given their IDs, in no
+     *         particular order.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    List<P> findByIds(Collection<T> ids) throws DataAccessException;
+
     /**
      * Find records by a given field and a set of values.
+     * <p>
+     * Large sets of values are split into several queries, such that no query
+     * exceeds the dialect's maximum number of bind values.
      *
      * @param field The field to compare values against
      * @param values The accepted values
@@ -254,6 +291,28 @@ public interface DAO<R extends TableRecord<R>, P, T> {
      */
     <Z> List<P> fetch(Field<Z> field, Z... values) throws DataAccessException;
 
+    /**
+     * Find unique records by a given field and a set of values.
+     * <p>
+     * Large sets of values are split into several queries, such that no query
+     * exceeds the dialect's maximum number of bind values.
+     * <p>
+     * Only single-column unique keys are supported. Records with composite
+     * primary keys can be found in bulk through {@link #findByIds(Collection)}.
+     *
+     * @param field The field to compare values against
+     * @param values The accepted values
+     * @return A map of records fulfilling <code>field IN (values)</code>, keyed
+     *         by their <code>field</code> value. Values without any matching
+     *         record are not contained in the map.
+     * @throws DataAccessException This exception is thrown
+     *             <ul>
+     *             <li>if something went wrong executing the query</li>
+     *             <li>if the query returned more than one record per value</li>
+     *             </ul>
+     */
+    <Z> Map<Z, P> fetchMap(Field<Z> field, Z... values) throws DataAccessException;
+
     /**
      * Find a unique record by a given field and a value.
      *
@@ -541,6 +541,28 @@ public interface DSLContext extends Scope , AutoCloseable  {
     @Deprecated
     int bind(QueryPart part, PreparedStatement stmt);
 
+    /**
+     * Access the statistics of the render cache of this
+     * <code>DSLContext</code>'s underlying {@link #configuration()}.
+     * <p>
+     * The render cache is enabled through {@link Settings#isRenderCache()}.
+     * Renderings are cached per query structure, excluding bind values, so
+     * structurally identical queries contribute hits, even if they were built
+     * independently. Counters are shared by all queries executed with this
+     * configuration.
+     */
+    CacheStatistics renderCacheStatistics();
+
+    /**
+     * Access the statistics of the statement cache of this
+     * <code>DSLContext</code>'s underlying {@link #configuration()}.
+     * <p>
+     * The statement cache is enabled through
+     * {@link Settings#getStatementCacheSize()}. Counters are shared by all
+     * queries executed with this configuration.
+     */
+    CacheStatistics statementCacheStatistics();
+
     // -------------------------------------------------------------------------
     // XXX Attachable and Serializable API
     // -------------------------------------------------------------------------
@@ -568,6 +590,17 @@ public interface DSLContext extends Scope , AutoCloseable  {
     @Support
     <R extends Record> LoaderOptionsStep<R> loadInto(Table<R> table);
 
+    // -------------------------------------------------------------------------
+    // XXX Access to the navigator API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a new <code>RecordNavigator</code> to load records through
+     * foreign keys in batches.
+     */
+    @Support
+    RecordNavigator navigator();
+
     // -------------------------------------------------------------------------
     // XXX Plain SQL API
     // -------------------------------------------------------------------------
@@ -9153,6 +9186,94 @@ public interface DSLContext extends Scope , AutoCloseable  {
      */
     int fetchCount(Select<?> query) throws DataAccessException;
 
+    /**
+     * Execute a {@link Select} query in the context of this
+     * <code>DSLContext</code> in several partitions, which are fetched
+     * concurrently.
+     * <p>
+     * This wraps a pre-existing <code>SELECT</code> query in a derived table,
+     * whose numeric <code>key</code> range is split into contiguous
+     * partitions, based on the key's <code>MIN()</code> and <code>MAX()</code>
+     * values. An example: <code><pre>
+     * -- Original query:
+     * SELECT id, title FROM book WHERE title LIKE '%a%'
+     *
+     * -- Partition queries:
+     * SELECT q.id, q.title FROM (
+     *   SELECT id, title FROM book WHERE title LIKE '%a%'
+     * ) q WHERE q.id &lt; ? OR q.id IS NULL
+     *
+     * SELECT q.id, q.title FROM (
+     *   SELECT id, title FROM book WHERE title LIKE '%a%'
+     * ) q WHERE q.id &gt;= ? AND q.id &lt; ?
+     *
+     * -- [...]
+     * </pre></code>
+     * <p>
+     * Each partition query runs on an {@link Executor} provided by
+     * {@link Configuration#executorProvider()} and acquires its own connection
+     * from {@link Configuration#connectionProvider()}. Partitions are fetched
+     * sequentially if this <code>DSLContext</code> operates on a single JDBC
+     * {@link Connection}. The resulting records are merged in partition order,
+     * i.e. ordered by key ranges. The order of records within a partition is
+     * undefined, and the query should not be limited, as each partition query
+     * evaluates the original query independently.
+     * <p>
+     * As each partition query runs on its own connection, it also runs in its
+     * own transaction. The partitions are thus <em>not</em> read from a
+     * consistent snapshot of the database, and concurrent modifications may be
+     * visible in some partitions but not in others. The first failing
+     * partition query cancels all other partition queries, and its exception
+     * is thrown.
+     *
+     * @param query The wrapped query
+     * @param key A numeric field contained in the query's
+     *            <code>SELECT</code> clause, ideally an indexed one
+     * @param partitions The maximum number of partitions
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException if <code>key</code> is not contained
+     *             in the query's <code>SELECT</code> clause, or if
+     *             <code>partitions</code> is less than 1
+     */
+    <R extends Record> Result<R> fetchParallel(Select<R> query, Field<? extends Number> key, int partitions) throws DataAccessException;
+
+    /**
+     * Execute a <code>SELECT</code> query in the context of this
+     * <code>DSLContext</code> in several partitions, which are fetched
+     * concurrently, and return a stream.
+     * <p>
+     * This partitions the query as {@link #fetchParallel(Select, Field, int)}
+     * does, with the same transaction semantics, but records are streamed as
+     * they are fetched, rather than being buffered in memory entirely. Each
+     * partition buffers a limited number of records ahead of the stream's
+     * consumer.
+     * <p>
+     * If <code>ordered</code> is <code>true</code>, records are merged in
+     * partition order, i.e. ordered by key ranges, and later partitions are
+     * buffered until all earlier partitions have been consumed. Otherwise,
+     * records are merged in the order in which they are fetched from any
+     * partition.
+     * <p>
+     * Partition queries are executed lazily, when records are first requested.
+     * The first failing partition query cancels all other partition queries,
+     * and its exception is thrown from the stream. Client code must close the
+     * stream, e.g. in a <code>try-with-resources</code> statement, in order to
+     * cancel partition queries that have not been consumed entirely.
+     *
+     * @param query The wrapped query
+     * @param key A numeric field contained in the query's
+     *            <code>SELECT</code> clause, ideally an indexed one
+     * @param partitions The maximum number of partitions
+     * @param ordered Whether records should be streamed in partition order
+     * @return The stream. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalArgumentException if <code>key</code> is not contained
+     *             in the query's <code>SELECT</code> clause, or if
+     *             <code>partitions</code> is less than 1
+     */
+    <R extends Record> Stream<R> fetchParallelStream(Select<R> query, Field<? extends Number> key, int partitions, boolean ordered) throws DataAccessException;
+
     /**
      * Count the number of records in a table.
      * <p>
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A value that is loaded lazily by a {@link RecordNavigator}.
+ *
+ * @param <T> The value type
+ * @author Lukas Eder
+ * @see RecordNavigator
+ */
+public interface Deferred<T> {
+
+    /**
+     * Get the value, dispatching all pending requests of the owning
+     * {@link RecordNavigator} if it has not yet been loaded.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    T get() throws DataAccessException;
+
+    /**
+     * Whether the value has already been loaded.
+     */
+    boolean isDone();
+}
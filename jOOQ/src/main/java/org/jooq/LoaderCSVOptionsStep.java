@@ -89,4 +89,22 @@ public interface LoaderCSVOptionsStep<R extends Record> extends LoaderListenerSt
      */
     @Support
     LoaderCSVOptionsStep<R> nullString(String nullString);
+
+    /**
+     * Read CSV content from a memory-mapped file.
+     * <p>
+     * This is a high-throughput reading mode for large files loaded through
+     * {@link LoaderSourceStep#loadCSV(java.io.File)} and its overloads. CSV
+     * content is parsed directly from the file's bytes, without creating a
+     * {@link String} per line, and only those columns that are mapped to a
+     * {@link Field} through {@link LoaderCSVStep#fields(Field...)} are
+     * decoded. Row buffers are reused between rows. Quoted fields follow
+     * RFC 4180.
+     * <p>
+     * This mode is only available for files encoded in <code>UTF-8</code>,
+     * <code>US-ASCII</code>, or <code>ISO-8859-1</code>, with ASCII quote and
+     * separator characters. In all other cases, CSV content is read as usual.
+     */
+    @Support
+    LoaderCSVOptionsStep<R> memoryMapped();
 }
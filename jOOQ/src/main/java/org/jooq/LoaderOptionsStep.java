@@ -297,4 +297,43 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
      */
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Load chunks of rows in parallel, each on its own connection.
+     * <p>
+     * Input is read by the calling thread and split into chunks of about 1000
+     * rows, or of as many rows as are bulk-inserted, batched and committed
+     * together, if that is more. Each chunk is
+     * loaded by a task submitted to the {@link java.util.concurrent.Executor}
+     * of {@link Configuration#executorProvider()}, on a connection acquired
+     * from {@link Configuration#connectionProvider()} for the duration of the
+     * chunk. Hence, the {@link ConnectionProvider} must be able to provide
+     * several connections at the same time. Rows are loaded by the calling
+     * thread if the {@link ConnectionProvider} is a
+     * {@link org.jooq.impl.DefaultConnectionProvider}, which only provides a
+     * single connection.
+     * <p>
+     * The DUPLICATE KEY, ERROR, COMMIT, BATCH and BULK OPTIONS are applied to
+     * each chunk individually. Each chunk is committed at its end with
+     * {@link #commitAfter(int)}. {@link Loader#errors()} are reported in input
+     * order, with row indexes relative to the whole input. If a chunk fails
+     * with an exception, or with {@link #onErrorAbort()}, no further chunks
+     * are started, and chunks that are already being loaded are interrupted.
+     * Loading stops only once they have released their connections.
+     * <p>
+     * This cannot be combined with {@link #commitAll()}, {@link #batchAll()}
+     * or {@link #bulkAll()}. With {@link #commitNone()}, the connections
+     * provided by the {@link ConnectionProvider} should be in auto-commit
+     * mode.
+     *
+     * @param parallelism The maximum number of chunks that are loaded at the
+     *            same time. With <code>1</code>, which is the default, all
+     *            rows are loaded by the calling thread.
+     */
+    @Support
+    LoaderOptionsStep<R> parallel(int parallelism);
 }
@@ -59,6 +59,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.util.xml.jaxb.InformationSchema;
 
@@ -132,4 +133,15 @@ public interface Meta {
      */
     @Support
     List<UniqueKey<?>> getPrimaryKeys() throws DataAccessException;
+
+    /**
+     * Discard all meta data that is cached for the underlying
+     * {@link Configuration}.
+     * <p>
+     * Meta data is cached only if {@link Settings#getMetaCacheTTL()} is set.
+     * Objects that were obtained from this <code>Meta</code> prior to this
+     * call are not affected, but new lookups go to the
+     * {@link DatabaseMetaData} again.
+     */
+    void invalidate();
 }
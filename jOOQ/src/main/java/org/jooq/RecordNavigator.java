@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A batching loader for {@link ForeignKey} navigation.
+ * <p>
+ * Navigating relationships record by record through
+ * {@link TableRecord#fetchParent(ForeignKey)} or
+ * {@link UpdatableRecord#fetchChildren(ForeignKey)} executes one query per
+ * record. A <code>RecordNavigator</code> instead collects such navigation
+ * requests as {@link Deferred} values and loads them all at once, when
+ * {@link #dispatch()} is called or when the first pending value is
+ * accessed. For each foreign key and direction, it executes one query with an
+ * <code>IN</code> predicate, split into several queries if there are more
+ * keys than bind values supported by the dialect. The fetched records are
+ * then distributed to the requests by their key values.
+ * <p>
+ * Example: <code><pre>
+ * RecordNavigator navigator = create.navigator();
+ * Map&lt;BookRecord, Deferred&lt;AuthorRecord&gt;&gt; authors = new HashMap&lt;&gt;();
+ *
+ * for (BookRecord book : books)
+ *     authors.put(book, navigator.fetchParent(FK_BOOK_AUTHOR, book));
+ *
+ * // A single query fetches all authors
+ * navigator.dispatch();
+ * </pre></code>
+ * <p>
+ * Values that were already loaded are cached for the lifetime of the
+ * navigator, i.e. requesting the same parent or the same children twice
+ * returns the same {@link Deferred} object. Navigators are not thread-safe
+ * and are meant to be used in a limited scope, e.g. a single service request.
+ *
+ * @author Lukas Eder
+ * @see DSLContext#navigator()
+ */
+public interface RecordNavigator {
+
+    /**
+     * Request the parent record of a given record through a foreign key.
+     * <p>
+     * The resulting value is <code>null</code> if no parent record was found,
+     * or if any of the record's foreign key values is <code>null</code>.
+     *
+     * @see ForeignKey#fetchParent(Record)
+     */
+    <R extends Record, O extends Record> Deferred<O> fetchParent(ForeignKey<R, O> key, R record);
+
+    /**
+     * Request the child records of a given record through a foreign key.
+     * <p>
+     * The resulting value is empty if no child records were found, or if any
+     * of the record's referenced key values is <code>null</code>.
+     *
+     * @see ForeignKey#fetchChildren(Record)
+     */
+    <R extends Record, O extends Record> Deferred<Result<R>> fetchChildren(ForeignKey<R, O> key, O record);
+
+    /**
+     * Load all pending requests.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    void dispatch() throws DataAccessException;
+}
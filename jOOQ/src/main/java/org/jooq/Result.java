@@ -3204,6 +3204,10 @@ public interface Result<R extends Record> extends List<R>, Attachable {
      * given set of field indexes. Use this method to save memory when a large
      * result set contains many identical string literals.
      * <p>
+     * By default, values are deduplicated through {@link String#intern()}. If
+     * {@link org.jooq.conf.Settings#getInternPoolSize()} is positive, they are
+     * deduplicated through a bounded string pool of that capacity per field
+     * instead, which has no JVM-global side-effects.
      * Please refer to {@link String#intern()} and to publicly available
      * literature to learn more about potential side-effects of string
      * interning.
@@ -115,6 +115,22 @@ public interface ResultQuery<R extends Record> extends Query, Iterable<R> {
      */
     Result<R> fetch() throws DataAccessException;
 
+    /**
+     * Execute the query and return the generated result as a column-oriented
+     * result.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and
+     * {@link Cursor#fetchColumnar()}. The returned result stores its values
+     * per field rather than per record, and materialises records only when
+     * they are accessed. This considerably reduces the memory footprint of
+     * large results of numeric data.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Cursor#fetchColumnar()
+     */
+    Result<R> fetchColumnar() throws DataAccessException;
+
     /**
      * Execute the query and return the generated result as a JDBC
      * {@link ResultSet}.
@@ -3285,6 +3301,56 @@ public interface ResultQuery<R extends Record> extends Query, Iterable<R> {
      */
     ResultQuery<R> resultSetHoldability(int resultSetHoldability);
 
+    /**
+     * Specify whether the records fetched by this query should be read-only.
+     * <p>
+     * Read-only records do not keep track of original values and changed
+     * flags, which roughly halves the memory retained per record. Their
+     * {@link Record#original()} values are the same as their current values,
+     * and {@link Record#changed()} is always <code>false</code>. Any attempt
+     * to modify, store, insert, update, delete or refresh them results in an
+     * {@link UnsupportedOperationException}.
+     * <p>
+     * If not specified, this defaults to {@link Settings#isReadOnlyRecords()}.
+     *
+     * @param readOnly Whether fetched records should be read-only
+     * @return The same result query
+     */
+    ResultQuery<R> readOnly(boolean readOnly);
+
+    /**
+     * Specify the number of records that a {@link Cursor} should read ahead in
+     * the background.
+     * <p>
+     * If this is greater than <code>0</code>, the {@link Cursor} returned from
+     * {@link #fetchLazy()} reads and materialises records on an
+     * {@link Executor} provided by the underlying
+     * {@link Configuration#executorProvider()}, into a queue holding at most
+     * <code>readAhead</code> records, while client code processes the
+     * previously read records. Exceptions from the background task are
+     * rethrown when client code reaches the failing record. Closing the cursor
+     * stops the background task.
+     * <p>
+     * Such cursors must always be closed explicitly, e.g. in a
+     * try-with-resources statement, even if they are not consumed entirely.
+     * The background task holds on to the cursor and its resources, so an
+     * abandoned cursor is never garbage collected. As a safeguard, the
+     * background task closes the cursor if client code does not consume any
+     * records from a full queue for one minute. Client code will then get a
+     * {@link DataAccessException} after consuming the remaining queued
+     * records.
+     * <p>
+     * {@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events are fired on
+     * the background thread. Eager fetching (e.g. {@link #fetch()}) is not
+     * affected by this flag.
+     *
+     * @param readAhead The number of records to read ahead, or <code>0</code>
+     *            to read records on the calling thread.
+     * @return The same result query
+     */
+    ResultQuery<R> readAhead(int readAhead);
+
     /**
      * Specify a set of fields whose values should be interned.
      * <p>
@@ -40,13 +40,12 @@
  */
 package org.jooq;
 
-import static org.jooq.tools.StringUtils.isBlank;
-
 import java.io.Serializable;
 import java.io.StringWriter;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXB;
 
@@ -91,13 +90,12 @@ public class SchemaMapping implements Serializable {
     /**
      * Generated UID
      */
-    private static final long                        serialVersionUID  = 8269660159338710470L;
-    private static final JooqLogger                  log               = JooqLogger.getLogger(SchemaMapping.class);
-    private static volatile boolean                  loggedDeprecation = false;
+    private static final long        serialVersionUID  = 8269660159338710470L;
+    private static final JooqLogger  log               = JooqLogger.getLogger(SchemaMapping.class);
+    private static volatile boolean  loggedDeprecation = false;
 
-    private final Configuration                      configuration;
-    private volatile transient Map<String, Schema>   schemata;
-    private volatile transient Map<String, Table<?>> tables;
+    private final Configuration      configuration;
+    private volatile transient Cache cache;
 
     /**
      * Construct a mapping from a {@link Configuration} object
@@ -153,6 +151,7 @@ public class SchemaMapping implements Serializable {
         logDeprecation();
 
         mapping().setDefaultSchema(schemaName);
+        cache = null;
     }
 
     /**
@@ -180,6 +179,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         schema.setOutput(outputSchema);
+        cache = null;
     }
 
     /**
@@ -264,6 +264,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         table.setOutput(outputTable);
+        cache = null;
     }
 
     public Catalog map(Catalog catalog) {
@@ -308,37 +309,23 @@ public class SchemaMapping implements Serializable {
 
             // [#4642] Don't initialise schema mapping if not necessary
             if (!mapping().getSchemata().isEmpty()) {
+                Cache c = cache();
 
-                // Lazy initialise schema mapping
-                if (!getSchemata().containsKey(schemaName)) {
-
-                    // [#1857] thread-safe lazy initialisation for those users who
-                    // want to use a Configuration and dependent objects in a "thread-safe" manner
-                    synchronized (this) {
-                        if (!getSchemata().containsKey(schemaName)) {
-                            for (MappedSchema s : mapping().getSchemata()) {
-
-                                // A configured mapping was found, add a renamed schema
-                                if (matches(s, schemaName)) {
-
-                                    // Ignore self-mappings and void-mappings
-                                    if (!isBlank(s.getOutput()))
-                                        if (s.getInput() != null && !s.getOutput().equals(schemaName))
-                                            result = new RenamedSchema(result, s.getOutput());
-                                        else if (s.getInputExpression() != null)
-                                            result = new RenamedSchema(result, s.getInputExpression().matcher(schemaName).replaceAll(s.getOutput()));
+                // Lazy initialise schema mapping without locking. Concurrent
+                // initialisations of the same schema are harmless
+                Schema mapped = c.schemata.get(schemaName);
+                if (mapped == null) {
+                    String rename = c.compiled.schema(schemaName);
 
-                                    break;
-                                }
-                            }
+                    // Add mapped schema or self if no mapping was found
+                    mapped = rename == null ? result : new RenamedSchema(result, rename);
+                    Schema previous = c.schemata.putIfAbsent(schemaName, mapped);
 
-                            // Add mapped schema or self if no mapping was found
-                            getSchemata().put(schemaName, result);
-                        }
-                    }
+                    if (previous != null)
+                        mapped = previous;
                 }
 
-                result = getSchemata().get(schemaName);
+                result = mapped;
             }
 
             // The configured default schema is mapped to "null". This prevents
@@ -370,57 +357,35 @@ public class SchemaMapping implements Serializable {
             // [#1186] TODO: replace this by calling table.getQualifiedName()
             String schemaName = (schema == null) ? "" : schema.getName();
             String tableName = result.getName();
-            String key = (schema == null || StringUtils.isEmpty(schemaName)) ? tableName : (schemaName + "." + tableName);
-
-            // Lazy initialise table mapping
-            if (!getTables().containsKey(key)) {
-
-                // [#1857] thread-safe lazy initialisation for those users who
-                // want to use Configuration and dependent objects in a "thread-safe" manner
-                synchronized (this) {
-                    if (!getTables().containsKey(key)) {
-
-                        schemaLoop:
-                        for (MappedSchema s : mapping().getSchemata()) {
-                            if (matches(s, schemaName)) {
-                                for (MappedTable t : s.getTables()) {
-
-                                    // A configured mapping was found, add a renamed table
-                                    if (matches(t, tableName)) {
-
-                                        // Ignore self-mappings and void-mappings
-                                        if (!isBlank(t.getOutput()))
-                                            if (t.getInput() != null && !t.getOutput().equals(tableName))
-                                                result = new RenamedTable<R>(result, t.getOutput());
-                                            else if (t.getInputExpression() != null)
-                                                result = new RenamedTable<R>(result, t.getInputExpression().matcher(tableName).replaceAll(t.getOutput()));
-
-                                        break schemaLoop;
-                                    }
-                                }
-                            }
-                        }
-
-                        // Add mapped table or self if no mapping was found
-                        getTables().put(key, result);
-                    }
-                }
+            Cache c = cache();
+
+            // Lazy initialise table mapping without locking. Tables are looked
+            // up per schema name to avoid building composite keys
+            ConcurrentMap<String, Table<?>> t = c.tables.get(schemaName);
+            if (t == null) {
+                t = new ConcurrentHashMap<String, Table<?>>();
+                ConcurrentMap<String, Table<?>> previous = c.tables.putIfAbsent(schemaName, t);
+
+                if (previous != null)
+                    t = previous;
             }
 
-            result = (Table<R>) getTables().get(key);
-        }
+            Table<?> mapped = t.get(tableName);
+            if (mapped == null) {
+                String rename = c.compiled.table(schemaName, tableName);
 
-        return result;
-    }
+                // Add mapped table or self if no mapping was found
+                mapped = rename == null ? result : new RenamedTable<R>(result, rename);
+                Table<?> previous = t.putIfAbsent(tableName, mapped);
 
-    private final boolean matches(MappedSchema s, String schemaName) {
-        return (s.getInput() != null && schemaName.equals(s.getInput()))
-            || (s.getInputExpression() != null && s.getInputExpression().matcher(schemaName).matches());
-    }
+                if (previous != null)
+                    mapped = previous;
+            }
+
+            result = (Table<R>) mapped;
+        }
 
-    private final boolean matches(MappedTable t, String tableName) {
-        return (t.getInput() != null && tableName.equals(t.getInput()))
-            || (t.getInputExpression() != null && t.getInputExpression().matcher(tableName).matches());
+        return result;
     }
 
     /**
@@ -440,32 +405,44 @@ public class SchemaMapping implements Serializable {
         }
     }
 
-    private final Map<String, Schema> getSchemata() {
-        if (schemata == null) {
+    /**
+     * Get the mapping state for the current {@link RenderMapping}.
+     * <p>
+     * The {@link RenderMapping} is compiled only once, and again only if it
+     * has been replaced or modified through this <code>SchemaMapping</code>.
+     */
+    private final Cache cache() {
+        RenderMapping m = mapping();
+        Cache c = cache;
+
+        if (c == null || c.compiled.mapping != m) {
 
             // [#1857] thread-safe lazy initialisation for those users who
             // want to use Configuration and dependent objects in a "thread-safe" manner
             synchronized (this) {
-                if (schemata == null) {
-                    schemata = new HashMap<String, Schema>();
-                }
+                c = cache;
+
+                if (c == null || c.compiled.mapping != m)
+                    cache = c = new Cache(new CompiledRenderMapping(m));
             }
         }
-        return schemata;
-    }
 
-    private final Map<String, Table<?>> getTables() {
-        if (tables == null) {
+        return c;
+    }
 
-            // [#1857] thread-safe lazy initialisation for those users who
-            // want to use Configuration and dependent objects in a "thread-safe" manner
-            synchronized (this) {
-                if (tables == null) {
-                    tables = new HashMap<String, Table<?>>();
-                }
-            }
+    /**
+     * The compiled mapping and the mapped objects derived from it.
+     */
+    private static final class Cache {
+        final CompiledRenderMapping                                  compiled;
+        final ConcurrentMap<String, Schema>                          schemata;
+        final ConcurrentMap<String, ConcurrentMap<String, Table<?>>> tables;
+
+        Cache(CompiledRenderMapping compiled) {
+            this.compiled = compiled;
+            this.schemata = new ConcurrentHashMap<String, Schema>();
+            this.tables = new ConcurrentHashMap<String, ConcurrentMap<String, Table<?>>>();
         }
-        return tables;
     }
 
     // ------------------------------------------------------------------------
@@ -173,6 +173,85 @@ public final class SettingsTools {
         return defaultIfNull(settings.isReflectionCaching(), true);
     }
 
+    /**
+     * Whether rendered SQL should be cached per configuration.
+     */
+    public static final boolean renderCache(Settings settings) {
+        return defaultIfNull(settings.isRenderCache(), false);
+    }
+
+    /**
+     * The maximum number of cached renderings, if
+     * {@link #renderCache(Settings)} is turned on.
+     */
+    public static final int getRenderCacheSize(Settings settings) {
+        return settings.getRenderCacheSize() != null
+             ? settings.getRenderCacheSize()
+             : 1000;
+    }
+
+    /**
+     * Whether fetched records should be read-only.
+     */
+    public static final boolean readOnlyRecords(Settings settings) {
+        return defaultIfNull(settings.isReadOnlyRecords(), false);
+    }
+
+    /**
+     * The capacity of string pools used for interning, or <code>0</code> (the
+     * default) if {@link String#intern()} should be used.
+     */
+    public static final int getInternPoolSize(Settings settings) {
+        return settings.getInternPoolSize() != null
+             ? settings.getInternPoolSize()
+             : 0;
+    }
+
+    /**
+     * Whether all fetched strings should be interned.
+     */
+    public static final boolean internAllStrings(Settings settings) {
+        return defaultIfNull(settings.isInternAllStrings(), false);
+    }
+
+    /**
+     * Whether batched single-row inserts should be rewritten into multi-row
+     * inserts.
+     */
+    public static final boolean rewriteBatchedInserts(Settings settings) {
+        return defaultIfNull(settings.isRewriteBatchedInserts(), false);
+    }
+
+    /**
+     * The number of milliseconds for which meta data is cached, or
+     * <code>0</code> if meta data should not be cached.
+     */
+    public static final long getMetaCacheTTL(Settings settings) {
+        return settings.getMetaCacheTTL() != null
+             ? settings.getMetaCacheTTL()
+             : 0L;
+    }
+
+    /**
+     * The maximum number of cached statements, or <code>0</code> if statements
+     * should not be cached.
+     */
+    public static final int getStatementCacheSize(Settings settings) {
+        return settings.getStatementCacheSize() != null
+             ? settings.getStatementCacheSize()
+             : 0;
+    }
+
+    /**
+     * The size of the write buffer used when streaming records from a
+     * <code>Cursor</code>, or <code>0</code> if no buffer should be used.
+     */
+    public static final int getFormatBufferSize(Settings settings) {
+        return settings.getFormatBufferSize() != null
+             ? settings.getFormatBufferSize()
+             : 8192;
+    }
+
     /**
      * Lazy access to {@link RenderMapping}.
      */
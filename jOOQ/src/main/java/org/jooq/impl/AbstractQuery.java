@@ -54,6 +54,7 @@ import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
 import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeExceptions;
+import static org.jooq.impl.Tools.renderCache;
 import static org.jooq.impl.Tools.DataKey.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Tools.DataKey.DATA_FORCE_STATIC_STATEMENT;
 
@@ -90,7 +91,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
     private static final JooqLogger log              = JooqLogger.getLogger(AbstractQuery.class);
 
     private Configuration           configuration;
-    private int                     timeout;
+    int                             timeout;
     private boolean                 keepStatement;
     transient PreparedStatement     statement;
     transient Rendered              rendered;
@@ -288,7 +289,7 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
             //         in case this Query / Configuration was previously
             //         deserialised
             DefaultExecuteContext ctx = new DefaultExecuteContext(c, this);
-            ExecuteListener listener = new ExecuteListeners(ctx);
+            ExecuteListener listener = ExecuteListeners.get(ctx);
 
             int result = 0;
             try {
@@ -476,11 +477,33 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
             result = new Rendered(getSQL(INLINED));
         }
         else if (executePreparedStatements(configuration().settings())) {
+            Configuration c = configuration();
+
+            // VisitListeners may transform the SQL in ways that depend
+            // on state outside of this query
+            RenderCache cache = getParamType(c.settings()) == INDEXED && c.visitListenerProviders().length == 0
+                ? renderCache(c)
+                : null;
+            RenderCache.Key key = null;
+
+            // A rendering of a structurally identical query can be reused
+            // with this query's bind values
+            if (cache != null) {
+                key = cache.key(c, this);
+                result = cache.get(key);
+
+                if (result != null)
+                    return result;
+            }
+
             try {
                 DefaultRenderContext render = new DefaultRenderContext(configuration);
                 render.data(DATA_COUNT_BIND_VALUES, true);
                 render.visit(this);
                 result = new Rendered(render.render(), render.bindValues());
+
+                if (cache != null)
+                    cache.put(key, result);
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
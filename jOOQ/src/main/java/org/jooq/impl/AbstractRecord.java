@@ -118,10 +118,17 @@ abstract class AbstractRecord extends AbstractStore implements Record {
      */
     private static final long serialVersionUID = -6052512608911220404L;
 
+    /**
+     * The (always empty) changed flags shared by all read-only records. They
+     * must never be modified, which is why all write paths check
+     * {@link #isReadOnly()}.
+     */
+    private static final BitSet READ_ONLY_CHANGED = new BitSet(0);
+
     final RowImpl             fields;
     final Object[]            values;
-    final Object[]            originals;
-    final BitSet              changed;
+    Object[]                  originals;
+    BitSet                    changed;
     boolean                   fetched;
 
     AbstractRecord(Collection<? extends Field<?>> fields) {
@@ -301,6 +308,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     private final <T> void set(int index, Field<T> field, T value) {
+        checkWritable();
+
         // Relevant issues documenting this method's behaviour:
         // [#945] Avoid bugs resulting from setting the same value twice
         // [#948] To allow for controlling the number of hard-parses
@@ -363,6 +372,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     final void setValues(Field<?>[] fields, AbstractRecord record) {
+        checkWritable();
         fetched = record.fetched;
 
         for (Field<?> field : fields) {
@@ -375,15 +385,57 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         }
     }
 
-    final void intern0(int fieldIndex) {
+    /**
+     * Turn this record into a read-only record.
+     * <p>
+     * Read-only records share their original values with their values, and
+     * their (empty) changed flags with all other read-only records. This must
+     * be called before any values are set.
+     */
+    final void readOnly() {
+        originals = values;
+        changed = READ_ONLY_CHANGED;
+    }
+
+    /**
+     * Whether this record is read-only.
+     */
+    final boolean isReadOnly() {
+        return originals == values;
+    }
+
+    /**
+     * Reject any modifications to a read-only record.
+     */
+    final void checkWritable() {
+        if (isReadOnly())
+            throw new UnsupportedOperationException("Cannot modify read-only record");
+    }
+
+    /**
+     * Intern a value through a string pool, or through
+     * {@link String#intern()}, if there is no pool.
+     */
+    final void intern0(int fieldIndex, StringPool pool) {
         safeIndex(fieldIndex);
 
         if (field(fieldIndex).getType() == String.class) {
-            values[fieldIndex] = ((String) values[fieldIndex]).intern();
-            originals[fieldIndex] = ((String) originals[fieldIndex]).intern();
+            values[fieldIndex] = intern0(values[fieldIndex], pool);
+
+            if (!isReadOnly())
+                originals[fieldIndex] = intern0(originals[fieldIndex], pool);
         }
     }
 
+    private static final Object intern0(Object value, StringPool pool) {
+        if (pool != null)
+            return pool.intern(value);
+        else if (value instanceof String)
+            return ((String) value).intern();
+        else
+            return value;
+    }
+
     final int safeIndex(int index) {
         if (index >= 0 && index < values.length)
             return index;
@@ -465,6 +517,16 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
+
+        // The changed flags of read-only records are shared and must not be
+        // modified. They can only ever be "unchanged"
+        if (isReadOnly()) {
+            if (c)
+                checkWritable();
+
+            return;
+        }
+
         changed.set(0, values.length, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
@@ -483,6 +545,13 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
+        if (isReadOnly()) {
+            if (c)
+                checkWritable();
+
+            return;
+        }
+
         changed.set(fieldIndex, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
@@ -503,6 +572,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
+        if (isReadOnly())
+            return;
+
         changed.clear();
 
         System.arraycopy(originals, 0, values, 0, originals.length);
@@ -517,6 +589,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
+        if (isReadOnly())
+            return;
+
         changed.clear(fieldIndex);
         values[fieldIndex] = originals[fieldIndex];
     }
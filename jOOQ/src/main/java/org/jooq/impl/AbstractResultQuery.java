@@ -47,10 +47,13 @@ import static java.util.concurrent.Executors.newSingleThreadExecutor;
 // ...
 import static org.jooq.SQLDialect.CUBRID;
 import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.conf.SettingsTools.readOnlyRecords;
 // ...
 import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeResultSets;
 import static org.jooq.impl.Tools.DataKey.DATA_LOCK_ROWS_FOR_UPDATE;
+import static org.jooq.impl.Tools.DataKey.DATA_READ_AHEAD;
+import static org.jooq.impl.Tools.DataKey.DATA_READ_ONLY_RECORDS;
 
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
@@ -87,6 +90,7 @@ import org.jooq.conf.SettingsTools;
 import org.jooq.tools.Convert;
 import org.jooq.tools.JooqLogger;
 
+
 /**
  * A query that returns a {@link Result}
  *
@@ -105,6 +109,8 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
     private int                     resultSetConcurrency;
     private int                     resultSetType;
     private int                     resultSetHoldability;
+    private Boolean                 readOnly;
+    private int                     readAhead;
     private transient boolean       lazy;
     private transient boolean       many;
     private transient Cursor<R>     cursor;
@@ -177,6 +183,18 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return this;
     }
 
+    @Override
+    public final ResultQuery<R> readOnly(boolean r) {
+        this.readOnly = r;
+        return this;
+    }
+
+    @Override
+    public final ResultQuery<R> readAhead(int r) {
+        this.readAhead = r;
+        return this;
+    }
+
     @Override
     public final ResultQuery<R> intern(Field<?>... fields) {
         intern.internFields = fields;
@@ -272,6 +290,12 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
         listener.executeEnd(ctx);
 
+        if (readOnly != null ? readOnly : readOnlyRecords(ctx.settings()))
+            ctx.data(DATA_READ_ONLY_RECORDS, true);
+
+        if (lazy && readAhead > 0)
+            ctx.data(DATA_READ_AHEAD, readAhead);
+
         // Fetch a single result set
         if (!many) {
             if (ctx.resultSet() != null) {
@@ -313,6 +337,11 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return result;
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        return fetchLazy().fetchColumnar();
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return fetchLazy().resultSet();
@@ -335,6 +364,30 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(this::fetch), executor), () -> executor);
     }
 
+    /**
+     * Create a copy of this query that renders the same SQL and applies the
+     * same execution flags, but that has its own statement, cursor and
+     * result state.
+     */
+    final AbstractResultQuery<R> copy() {
+        AbstractResultQuery<R> copy = new ResultQueryCopy<R>(this);
+
+        copy.queryTimeout(timeout);
+        copy.maxRows = maxRows;
+        copy.fetchSize = fetchSize;
+        copy.resultSetConcurrency = resultSetConcurrency;
+        copy.resultSetType = resultSetType;
+        copy.resultSetHoldability = resultSetHoldability;
+        copy.readOnly = readOnly;
+        copy.readAhead = readAhead;
+        copy.intern.internIndexes = intern.internIndexes;
+        copy.intern.internFields = intern.internFields;
+        copy.intern.internNameStrings = intern.internNameStrings;
+        copy.intern.internNames = intern.internNames;
+
+        return copy;
+    }
+
     @Override
     public final Stream<R> fetchStream() {
         return fetchLazy().stream();
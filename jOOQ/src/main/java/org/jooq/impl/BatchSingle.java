@@ -42,14 +42,18 @@ package org.jooq.impl;
 
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.rewriteBatchedInserts;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.dataTypes;
 import static org.jooq.impl.Tools.fields;
+import static org.jooq.impl.Tools.maxInsertRows;
 import static org.jooq.impl.Tools.visitAll;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -61,8 +65,13 @@ import org.jooq.DSLContext;
 import org.jooq.DataType;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.InsertQuery;
 import org.jooq.Param;
 import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.tools.JooqLogger;
 
@@ -178,11 +187,105 @@ final class BatchSingle implements BatchBindStep {
         if (executeStaticStatements(configuration.settings())) {
             return executeStatic();
         }
+
+        // Single-row inserts can be rewritten into fewer multi-row inserts
+        InsertQueryImpl<?> insert = rewriteBatchedInserts(configuration.settings()) ? multiRowInsert() : null;
+
+        if (insert != null) {
+            return executeMultiRow(insert);
+        }
         else {
             return executePrepared();
         }
     }
 
+    /**
+     * The batched <code>INSERT</code> statement, if it can be rewritten into
+     * multi-row statements, i.e. if all of its bind values are column values
+     * of a single row.
+     */
+    private final InsertQueryImpl<?> multiRowInsert() {
+        if (!supportsMultiRowInsert(configuration.dialect()))
+            return null;
+
+        Query q = query instanceof InsertImpl
+            ? ((AbstractDelegatingQuery<?>) query).getDelegate()
+            : query;
+
+        if (!(q instanceof InsertQueryImpl))
+            return null;
+
+        FieldMapForInsert values = ((InsertQueryImpl<?>) q).singleRowBindValues();
+        if (values == null || values.size() != expectedBindValues)
+            return null;
+
+        for (Object[] bindValues : allBindValues)
+            if (bindValues.length != expectedBindValues)
+                return null;
+
+        return (InsertQueryImpl<?>) q;
+    }
+
+    @SuppressWarnings("unchecked")
+    private final int[] executeMultiRow(InsertQueryImpl<?> insert) {
+        FieldMapForInsert values = insert.singleRowBindValues();
+        List<Field<?>> columns = new ArrayList<Field<?>>(values.keySet());
+        List<Field<?>> params = new ArrayList<Field<?>>(values.values());
+
+        int size = maxInsertRows(configuration.dialect(), columns.size());
+        int[] result = new int[allBindValues.size()];
+
+        for (int from = 0; from < allBindValues.size(); from += size) {
+            int to = Math.min(from + size, allBindValues.size());
+            InsertQuery<Record> chunk = create.insertQuery((Table<Record>) insert.table);
+
+            for (int row = from; row < to; row++) {
+                Object[] bindValues = allBindValues.get(row);
+                chunk.newRecord();
+
+                for (int i = 0; i < columns.size(); i++)
+                    addValue(chunk, columns.get(i), params.get(i), bindValues[i]);
+            }
+
+            // Update counts can only be attributed to rows if all rows were inserted
+            int count = chunk.execute();
+            Arrays.fill(result, from, to, count == to - from ? 1 : Statement.SUCCESS_NO_INFO);
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether batched inserts are rewritten in a dialect.
+     * <p>
+     * This is only done for dialects that are known to support native
+     * multi-row <code>INSERT .. VALUES</code> statements. Emulations through
+     * <code>INSERT .. SELECT .. UNION ALL</code> may perform worse than JDBC
+     * batches.
+     */
+    private static final boolean supportsMultiRowInsert(SQLDialect dialect) {
+        switch (dialect.family()) {
+            case H2:
+            case HSQLDB:
+            case MARIADB:
+            case MYSQL:
+            case POSTGRES:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Add a bind value to a multi-row insert, using the data type of the
+     * original insert's {@link Param}.
+     */
+    @SuppressWarnings("unchecked")
+    private static final <T> void addValue(InsertQuery<?> insert, Field<T> column, Field<?> param, Object value) {
+        insert.addValue(column, Tools.field(value, (Field<T>) param));
+    }
+
     private final void checkBindValues() {
 
         // [#4071] Help users debug cases where bind value counts don't match the expected number
@@ -195,7 +298,7 @@ final class BatchSingle implements BatchBindStep {
 
     private final int[] executePrepared() {
         ExecuteContext ctx = new DefaultExecuteContext(configuration, new Query[] { query });
-        ExecuteListener listener = new ExecuteListeners(ctx);
+        ExecuteListener listener = ExecuteListeners.get(ctx);
         Connection connection = ctx.connection();
 
         // [#1371] fetch bind variables to restore them again, later
@@ -0,0 +1,408 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+
+/**
+ * A column-oriented backing list for {@link ResultImpl}.
+ * <p>
+ * Values are stored per field. <code>BIGINT</code>, <code>INTEGER</code> and
+ * <code>DOUBLE</code> values are stored in primitive arrays with a separate
+ * bitmap for <code>null</code> values, all other values are stored in
+ * <code>Object[]</code> arrays. Records are materialised from the columns only
+ * when they are accessed. Modifications to materialised records are not
+ * written back to this list unless {@link #set(int, Record)} is called.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long      serialVersionUID = -2617245024545826263L;
+    private static final int       INITIAL_CAPACITY = 16;
+
+    private final Field<?>[]       fields;
+    private final RecordFactory<R> factory;
+    private final Column[]         columns;
+    private Configuration          configuration;
+    private int                    size;
+    private int                    capacity;
+
+    ColumnarRecords(Configuration configuration, Field<?>[] fields, RecordFactory<R> factory) {
+        this.configuration = configuration;
+        this.fields = fields;
+        this.factory = factory;
+        this.columns = new Column[fields.length];
+        this.capacity = INITIAL_CAPACITY;
+
+        for (int i = 0; i < fields.length; i++)
+            columns[i] = column(fields[i].getType(), capacity);
+    }
+
+    private static final Column column(Class<?> type, int capacity) {
+        if (type == Long.class)
+            return new LongColumn(capacity);
+        else if (type == Integer.class)
+            return new IntColumn(capacity);
+        else if (type == Double.class)
+            return new DoubleColumn(capacity);
+        else
+            return new ObjectColumn(capacity);
+    }
+
+    /**
+     * Records are serialised in their materialised form.
+     */
+    private final Object writeReplace() {
+        return new ArrayList<R>(this);
+    }
+
+    /**
+     * Create a new, empty list with the same record type.
+     */
+    final ColumnarRecords<R> empty() {
+        return new ColumnarRecords<R>(configuration, fields, factory);
+    }
+
+    final void attach(Configuration c) {
+        this.configuration = c;
+    }
+
+    /**
+     * Get a single value without materialising its record.
+     */
+    final Object value(int row, int column) {
+        return columns[safeColumn(column)].get(safeRow(row));
+    }
+
+    /**
+     * Get all values of a column without materialising any records.
+     */
+    final List<Object> values(int column) {
+        Column c = columns[safeColumn(column)];
+        List<Object> result = new ArrayList<Object>(size);
+
+        for (int i = 0; i < size; i++)
+            result.add(c.get(i));
+
+        return result;
+    }
+
+    private final int safeColumn(int column) {
+        if (column >= 0 && column < columns.length)
+            return column;
+
+        throw new IllegalArgumentException("No field at index " + column + " in Record type " + new RowImpl(fields));
+    }
+
+    private final int safeRow(int row) {
+        if (row >= 0 && row < size)
+            return row;
+
+        throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + size);
+    }
+
+    private final void ensureCapacity(int required) {
+        if (required > capacity) {
+            capacity = Math.max(required, capacity + (capacity >> 1));
+
+            for (Column c : columns)
+                c.grow(capacity);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final R get(int index) {
+        safeRow(index);
+        AbstractRecord result = ((RecordFactory<AbstractRecord>) factory).newInstance();
+
+        for (int i = 0; i < columns.length; i++) {
+            Object value = columns[i].get(index);
+            result.values[i] = value;
+            result.originals[i] = value;
+        }
+
+        result.fetched = true;
+
+        if (attachRecords(configuration))
+            result.attach(configuration);
+
+        return (R) result;
+    }
+
+    @Override
+    public final R set(int index, R element) {
+        R result = get(index);
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i].set(index, element.get(i));
+
+        return result;
+    }
+
+    @Override
+    public final void add(int index, R element) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        ensureCapacity(size + 1);
+
+        for (int i = 0; i < columns.length; i++) {
+            if (index < size)
+                columns[i].shift(index, index + 1, size - index);
+
+            columns[i].set(index, element.get(i));
+        }
+
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public final R remove(int index) {
+        R result = get(index);
+
+        for (Column c : columns) {
+            c.shift(index + 1, index, size - index - 1);
+            c.set(size - 1, null);
+        }
+
+        size--;
+        modCount++;
+        return result;
+    }
+
+    @Override
+    public final void clear() {
+        for (Column c : columns)
+            c.clear(size);
+
+        size = 0;
+        modCount++;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column storage
+    // -------------------------------------------------------------------------
+
+    private static abstract class Column {
+
+        abstract Object get(int row);
+
+        abstract void set(int row, Object value);
+
+        abstract void grow(int capacity);
+
+        abstract void shift(int from, int to, int length);
+
+        abstract void clear(int size);
+    }
+
+    private static abstract class PrimitiveColumn extends Column {
+
+        final BitSet nulls = new BitSet();
+
+        final void shiftNulls(int from, int to, int length) {
+            BitSet moved = nulls.get(from, from + length);
+
+            nulls.clear(Math.min(from, to), Math.max(from, to) + length);
+            for (int i = moved.nextSetBit(0); i >= 0; i = moved.nextSetBit(i + 1))
+                nulls.set(to + i);
+        }
+
+        @Override
+        final void clear(int size) {
+            nulls.clear();
+        }
+    }
+
+    private static final class LongColumn extends PrimitiveColumn {
+
+        long[] values;
+
+        LongColumn(int capacity) {
+            values = new long[capacity];
+        }
+
+        @Override
+        final Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        final void set(int row, Object value) {
+            nulls.set(row, value == null);
+            values[row] = value == null ? 0L : (Long) value;
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        final void shift(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+            shiftNulls(from, to, length);
+        }
+    }
+
+    private static final class IntColumn extends PrimitiveColumn {
+
+        int[] values;
+
+        IntColumn(int capacity) {
+            values = new int[capacity];
+        }
+
+        @Override
+        final Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        final void set(int row, Object value) {
+            nulls.set(row, value == null);
+            values[row] = value == null ? 0 : (Integer) value;
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        final void shift(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+            shiftNulls(from, to, length);
+        }
+    }
+
+    private static final class DoubleColumn extends PrimitiveColumn {
+
+        double[] values;
+
+        DoubleColumn(int capacity) {
+            values = new double[capacity];
+        }
+
+        @Override
+        final Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+
+        @Override
+        final void set(int row, Object value) {
+            nulls.set(row, value == null);
+            values[row] = value == null ? 0.0 : (Double) value;
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        final void shift(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+            shiftNulls(from, to, length);
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+
+        Object[] values;
+
+        ObjectColumn(int capacity) {
+            values = new Object[capacity];
+        }
+
+        @Override
+        final Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        final void set(int row, Object value) {
+            values[row] = value;
+        }
+
+        @Override
+        final void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        final void shift(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+
+        @Override
+        final void clear(int size) {
+            Arrays.fill(values, 0, size, null);
+        }
+    }
+}
@@ -41,12 +41,21 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.SettingsTools.getFormatBufferSize;
+import static org.jooq.conf.SettingsTools.getInternPoolSize;
+import static org.jooq.conf.SettingsTools.internAllStrings;
 // ...
 import static org.jooq.impl.Tools.recordFactory;
 import static org.jooq.impl.Tools.DataKey.DATA_LOCK_ROWS_FOR_UPDATE;
+import static org.jooq.impl.Tools.DataKey.DATA_READ_AHEAD;
+import static org.jooq.impl.Tools.DataKey.DATA_READ_ONLY_RECORDS;
 
+import java.io.BufferedWriter;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
@@ -65,6 +74,7 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
@@ -73,14 +83,20 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.CSVFormat;
 import org.jooq.Cursor;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.RecordHandler;
@@ -106,8 +122,11 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
     private final ExecuteListener                          listener;
     private final Field<?>[]                               cursorFields;
     private final boolean[]                                intern;
+    private final StringPool[]                             pools;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
+    private final boolean                                  readOnly;
+    private final int                                      readAhead;
     private final int                                      maxRows;
     private final RecordFactory<? extends R>               factory;
     private boolean                                        isClosed;
@@ -130,7 +149,7 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
 
     CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet, Class<? extends R> type, int maxRows) {
         this.ctx = ctx;
-        this.listener = (listener != null ? listener : new ExecuteListeners(ctx));
+        this.listener = (listener != null ? listener : ExecuteListeners.get(ctx));
         this.cursorFields = fields;
         this.factory = recordFactory(type, fields);
         this.keepStatement = keepStatement;
@@ -144,12 +163,35 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
         this.intern = new boolean[fields.length];
         this.maxRows = maxRows;
         this.lockRowsForUpdate = TRUE.equals(ctx.data(DATA_LOCK_ROWS_FOR_UPDATE));
+        this.readOnly = TRUE.equals(ctx.data(DATA_READ_ONLY_RECORDS));
+
+        Integer r = (Integer) ctx.data(DATA_READ_AHEAD);
+        this.readAhead = r == null ? 0 : r;
 
         if (internIndexes != null) {
             for (int i : internIndexes) {
                 intern[i] = true;
             }
         }
+
+        // String values are interned through bounded pools per column, rather
+        // than through String.intern(), unless the pool size is 0
+        int poolSize = getInternPoolSize(ctx.settings());
+        boolean internAll = poolSize > 0 && internAllStrings(ctx.settings());
+
+        this.pools = new StringPool[fields.length];
+
+        if (poolSize > 0) {
+            for (int i = 0; i < fields.length; i++) {
+                if (intern[i]) {
+                    pools[i] = new StringPool(poolSize, false);
+                }
+                else if (internAll && fields[i].getType() == String.class) {
+                    pools[i] = new StringPool(poolSize, true);
+                    intern[i] = true;
+                }
+            }
+        }
     }
 
 
@@ -264,7 +306,7 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
     @Override
     public final Iterator<R> iterator() {
         if (iterator == null) {
-            iterator = new CursorIterator();
+            iterator = readAhead > 0 ? new ReadAheadIterator() : new CursorIterator(true);
             listener.fetchStart(ctx);
         }
 
@@ -330,11 +372,26 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
 
     @Override
     public final Result<R> fetch(int number) {
+        return fetch0(number, new ArrayList<R>());
+    }
+
+    @Override
+    public final Result<R> fetchColumnar() {
+        return fetchColumnar(Integer.MAX_VALUE);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final Result<R> fetchColumnar(int number) {
+        return fetch0(number, new ColumnarRecords<R>(ctx.configuration(), cursorFields, (RecordFactory<R>) factory));
+    }
+
+    private final Result<R> fetch0(int number, List<R> records) {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
 
-        ResultImpl<R> result = new ResultImpl<R>(ctx.configuration(), cursorFields);
+        ResultImpl<R> result = new ResultImpl<R>(ctx.configuration(), new Fields<R>(cursorFields), records);
 
         ctx.result(result);
         listener.resultStart(ctx);
@@ -391,6 +448,58 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
         return fetchOne().into(table);
     }
 
+    @Override
+    public final void formatCSV(Writer writer) {
+        formatCSV(writer, new CSVFormat());
+    }
+
+    @Override
+    public final void formatCSV(Writer writer, CSVFormat format) {
+        ResultImpl.formatCSV(buffered(writer), format, cursorFields, this);
+    }
+
+    @Override
+    public final void formatCSV(OutputStream stream, CSVFormat format) {
+        formatCSV(new OutputStreamWriter(stream), format);
+    }
+
+    @Override
+    public final void formatJSON(Writer writer) {
+        formatJSON(writer, new JSONFormat());
+    }
+
+    @Override
+    public final void formatJSON(Writer writer, JSONFormat format) {
+        ResultImpl.formatJSON(buffered(writer), format, cursorFields, this);
+    }
+
+    @Override
+    public final void formatJSON(OutputStream stream, JSONFormat format) {
+        formatJSON(new OutputStreamWriter(stream), format);
+    }
+
+    @Override
+    public final void formatXML(Writer writer) {
+        ResultImpl.formatXML(buffered(writer), cursorFields, this);
+    }
+
+    @Override
+    public final void formatXML(OutputStream stream) {
+        formatXML(new OutputStreamWriter(stream));
+    }
+
+    /**
+     * Wrap a {@link Writer} in a buffer, unless buffering is turned off or the
+     * writer is already buffered.
+     */
+    private final Writer buffered(Writer writer) {
+        int size = getFormatBufferSize(ctx.configuration().settings());
+
+        return size > 0 && !(writer instanceof BufferedWriter)
+            ? new BufferedWriter(writer, size)
+            : writer;
+    }
+
     @Override
     public final <Z extends Record> Result<Z> fetchInto(Table<Z> table) {
         return fetch().into(table);
@@ -398,11 +507,36 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
 
     @Override
     public final void close() {
+
+        // The background task must not access the ResultSet concurrently
+        if (iterator instanceof CursorImpl.ReadAheadIterator)
+            ((CursorImpl<?>.ReadAheadIterator) iterator).stop();
+
         JDBCUtils.safeClose(rs);
         rs = null;
         isClosed = true;
     }
 
+    /**
+     * Cancel the underlying statement, if it is still open.
+     * <p>
+     * Unlike any other cursor method, this may be called from any thread.
+     */
+    final void cancel() {
+        if (!isClosed) {
+            Statement statement = ctx.statement();
+
+            if (statement != null) {
+                try {
+                    statement.cancel();
+                }
+                catch (SQLException e) {
+                    log.debug("Error while cancelling statement", e);
+                }
+            }
+        }
+    }
+
     @Override
     public final boolean isClosed() {
         return isClosed;
@@ -1493,6 +1627,11 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
      */
     final class CursorIterator implements Iterator<R> {
 
+        /**
+         * Whether the cursor should be closed after the last record.
+         */
+        private final boolean closeOnEnd;
+
         /**
          * The (potentially) pre-fetched next record
          */
@@ -1509,6 +1648,10 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
          */
         private Boolean hasNext;
 
+        CursorIterator(boolean closeOnEnd) {
+            this.closeOnEnd = closeOnEnd;
+        }
+
         @Override
         public final boolean hasNext() {
             if (hasNext == null) {
@@ -1574,7 +1717,7 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
             // [#1868] [#2373] [#2385] This calls through to Utils.safeClose()
             // if necessary, lazy-terminating the ExecuteListener lifecycle if
             // the result is not eager-fetched.
-            if (record == null) {
+            if (record == null && closeOnEnd) {
                 CursorImpl.this.close();
             }
 
@@ -1620,12 +1763,15 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
 
 
 
+                if (readOnly)
+                    record.readOnly();
+
                 for (int i = 0; i < initialiserFields.length; i++)
                     setValue(record, initialiserFields[i], i);
 
                 for (int i = 0; i < initialiserFields.length; i++)
                     if (intern[i])
-                        record.intern0(i);
+                        record.intern0(i, pools[i]);
 
                 ctx.record(record);
                 listener.recordEnd(ctx);
@@ -1655,8 +1801,209 @@ final class CursorImpl<R extends Record> implements Cursor<R> {
                 }
 
                 record.values[index] = value;
-                record.originals[index] = value;
+
+                if (!readOnly)
+                    record.originals[index] = value;
             }
         }
     }
+
+    /**
+     * An iterator that reads records from a {@link CursorIterator} in a
+     * background task, ahead of client code consuming them.
+     * <p>
+     * The background task and client code communicate through a bounded
+     * queue containing records, or a final {@link #END} or {@link Failure}
+     * element.
+     * <p>
+     * The background task holds on to this cursor, so an abandoned cursor
+     * can never be garbage collected. Instead, the background task gives up
+     * and closes the cursor if client code does not consume any records from
+     * a full queue within {@link #READ_AHEAD_TIMEOUT}.
+     */
+    final class ReadAheadIterator implements Iterator<R> {
+
+        private final BlockingQueue<Object> queue;
+        private final CountDownLatch        stopped;
+        private volatile boolean            cancelled;
+        private volatile boolean            abandoned;
+        private boolean                     started;
+
+        /**
+         * The next element taken from the queue, if any.
+         */
+        private Object                      next;
+
+        ReadAheadIterator() {
+            this.queue = new ArrayBlockingQueue<Object>(readAhead);
+            this.stopped = new CountDownLatch(1);
+        }
+
+        @Override
+        public final boolean hasNext() {
+            if (next == null) {
+                if (!started) {
+                    ctx.configuration().executorProvider().provide().execute(new ReadAheadTask());
+                    started = true;
+                }
+
+                // The cursor may have been closed without having been fully consumed
+                if (cancelled && !abandoned)
+                    return false;
+
+                try {
+                    while ((next = queue.poll(10, TimeUnit.MILLISECONDS)) == null) {
+                        if (abandoned)
+                            throw new DataAccessException("The cursor was closed, as no records were consumed within " + TimeUnit.NANOSECONDS.toSeconds(READ_AHEAD_TIMEOUT) + " seconds");
+                        else if (cancelled)
+                            return false;
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessException("Interrupted while waiting for records to be read", e);
+                }
+
+                if (next == END)
+                    CursorImpl.this.close();
+            }
+
+            if (next instanceof Failure) {
+                Throwable cause = ((Failure) next).cause;
+
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                else
+                    throw (Error) cause;
+            }
+
+            return next != END;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final R next() {
+            if (!hasNext())
+                throw new NoSuchElementException("There are no more records to fetch from this Cursor");
+
+            R result = (R) next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Stop the background task and wait for it to release the
+         * {@link ResultSet}.
+         */
+        final void stop() {
+            cancelled = true;
+
+            if (started) {
+                try {
+                    stopped.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private final class ReadAheadTask implements Runnable {
+            @Override
+            public final void run() {
+                try {
+                    CursorIterator source = new CursorIterator(false);
+
+                    while (!cancelled) {
+                        Object element;
+
+                        try {
+                            element = source.hasNext() ? source.next() : END;
+                        }
+                        catch (RuntimeException e) {
+                            element = new Failure(e);
+                        }
+                        catch (Error e) {
+                            element = new Failure(e);
+                        }
+
+                        if (!put(element))
+                            break;
+                    }
+                }
+                finally {
+                    stopped.countDown();
+
+                    // Closing the cursor must happen after the above
+                    // countDown(), which close() waits for
+                    if (abandoned)
+                        CursorImpl.this.close();
+                }
+            }
+
+            /**
+             * Put an element in the queue, unless the iterator is cancelled
+             * or abandoned while waiting for the queue to drain, and return
+             * whether more records should be read.
+             */
+            private final boolean put(Object element) {
+                boolean interrupted = false;
+                long deadline = System.nanoTime() + READ_AHEAD_TIMEOUT;
+
+                try {
+                    while (!cancelled) {
+                        if (System.nanoTime() - deadline > 0) {
+                            log.warn("Read ahead", "Closing cursor, as no records were consumed within " + TimeUnit.NANOSECONDS.toSeconds(READ_AHEAD_TIMEOUT) + " seconds. Cursors must be closed explicitly.");
+                            abandoned = true;
+                            return false;
+                        }
+
+                        try {
+                            if (queue.offer(element, 10, TimeUnit.MILLISECONDS))
+                                return element != END && !(element instanceof Failure);
+                        }
+
+                        // Client code must still learn that not all records were read
+                        catch (InterruptedException e) {
+                            interrupted = true;
+                            element = new Failure(new DataAccessException("Interrupted while reading records", e));
+                        }
+                    }
+
+                    return false;
+                }
+                finally {
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * The maximum time in nanoseconds that a {@link ReadAheadIterator} waits
+     * for client code to consume records from a full queue.
+     */
+    private static final long READ_AHEAD_TIMEOUT = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * The queue element signalling that all records have been read.
+     */
+    private static final Object END = new Object();
+
+    /**
+     * The queue element wrapping an exception from the background task.
+     */
+    private static final class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
 }
@@ -45,17 +45,27 @@ import static java.util.Collections.singletonList;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.Tools.EMPTY_RECORD;
+import static org.jooq.impl.Tools.maxBindValues;
+import static org.jooq.impl.Tools.maxInsertRows;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.DAO;
+import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.InsertQuery;
 import org.jooq.Record;
+import org.jooq.RecordListener;
 import org.jooq.RecordMapper;
 import org.jooq.SQLDialect;
 import org.jooq.Table;
@@ -63,6 +73,7 @@ import org.jooq.TableField;
 import org.jooq.UniqueKey;
 import org.jooq.UpdatableRecord;
 import org.jooq.conf.Settings;
+import org.jooq.exception.InvalidResultException;
 
 /**
  * A common base implementation for generated {@link DAO}.
@@ -156,8 +167,13 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     @Override
     public /* non-final */ void insert(Collection<P> objects) {
 
+        // Execute a multi-row INSERT, if this doesn't bypass any record semantics
+        if (objects.size() > 1 && multiRowInsert()) {
+            insertMultiRow(records(objects, false));
+        }
+
         // Execute a batch INSERT
-        if (objects.size() > 1) {
+        else if (objects.size() > 1) {
             using(configuration).batchInsert(records(objects, false)).execute();
         }
 
@@ -284,14 +300,63 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         return record == null ? null : mapper().map(record);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public /* non-final */ List<P> findByIds(T... ids) {
+        return findByIds(asList(ids));
+    }
+
+    @Override
+    public /* non-final */ List<P> findByIds(Collection<T> ids) {
+        Field<?>[] pk = pk();
+        List<P> result = new ArrayList<P>();
+
+        if (pk != null)
+            for (List<T> chunk : chunks(ids, maxBindValues(family()) / pk.length))
+                result.addAll(using(configuration)
+                                .selectFrom(table)
+                                .where(equal(pk, chunk))
+                                .fetch()
+                                .map(mapper()));
+
+        return result;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public /* non-final */ <Z> List<P> fetch(Field<Z> field, Z... values) {
-        return using(configuration)
-                 .selectFrom(table)
-                 .where(field.in(values))
-                 .fetch()
-                 .map(mapper());
+        List<P> result = new ArrayList<P>();
+
+        for (List<Z> chunk : chunks(asList(values), maxBindValues(family())))
+            result.addAll(using(configuration)
+                            .selectFrom(table)
+                            .where(field.in(chunk))
+                            .fetch()
+                            .map(mapper()));
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public /* non-final */ <Z> Map<Z, P> fetchMap(Field<Z> field, Z... values) {
+        Map<Z, P> result = new LinkedHashMap<Z, P>();
+
+        for (List<Z> chunk : chunks(asList(values), maxBindValues(family()))) {
+            for (R record : using(configuration)
+                                .selectFrom(table)
+                                .where(field.in(chunk))
+                                .fetch()) {
+
+                Z key = record.get(field);
+                if (result.containsKey(key))
+                    throw new InvalidResultException("Key " + key + " is not unique in table " + table);
+
+                result.put(key, mapper().map(record));
+            }
+        }
+
+        return result;
     }
 
     @Override
@@ -376,17 +441,96 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         }
     }
 
+    /**
+     * Split a collection of values into chunks of a maximum size, e.g. the
+     * number of values that can be bound in a single statement.
+     */
+    private <E> List<List<E>> chunks(Collection<E> values, int maxSize) {
+        List<E> list = values instanceof List ? (List<E>) values : new ArrayList<E>(values);
+        int size = Math.max(1, maxSize);
+
+        if (list.size() <= size)
+            return list.isEmpty() ? Collections.<List<E>>emptyList() : singletonList(list);
+
+        List<List<E>> result = new ArrayList<List<E>>();
+        for (int i = 0; i < list.size(); i += size)
+            result.add(list.subList(i, Math.min(i + size, list.size())));
+
+        return result;
+    }
+
+    /**
+     * Whether {@link #insert(Collection)} can use multi-row inserts.
+     * <p>
+     * Batched {@link UpdatableRecord#insert()} calls notify
+     * {@link RecordListener}s and generate record version and timestamp
+     * values, which multi-row inserts don't.
+     */
+    private boolean multiRowInsert() {
+        return Tools.configuration(configuration).recordListenerProviders().length == 0
+            && table.getRecordVersion() == null
+            && table.getRecordTimestamp() == null;
+    }
+
+    /**
+     * Insert records with multi-row inserts.
+     */
+    private void insertMultiRow(List<R> records) {
+        DSLContext create = using(configuration);
+
+        // Records whose changed flags differ must be inserted separately,
+        // in order not to override DEFAULT values with NULL
+        Map<BitSet, List<R>> groups = new LinkedHashMap<BitSet, List<R>>();
+        for (R record : records) {
+            BitSet changed = new BitSet();
+
+            for (int i = 0; i < record.size(); i++)
+                if (record.changed(i))
+                    changed.set(i);
+
+            // Don't store records if no value was set by client code
+            if (changed.isEmpty())
+                continue;
+
+            List<R> group = groups.get(changed);
+            if (group == null)
+                groups.put(changed, group = new ArrayList<R>());
+
+            group.add(record);
+        }
+
+        for (Entry<BitSet, List<R>> group : groups.entrySet()) {
+            for (List<R> chunk : chunks(group.getValue(), maxInsertRows(family(), group.getKey().cardinality()))) {
+                InsertQuery<R> insert = create.insertQuery(table);
+
+                for (R record : chunk)
+                    insert.addRecord(record);
+
+                insert.execute();
+            }
+        }
+    }
+
     private /* non-final */ Field<?>[] pk() {
         UniqueKey<?> key = table.getPrimaryKey();
         return key == null ? null : key.getFieldsArray();
     }
 
+    /**
+     * Create a new record from a POJO, which is used to store the POJO.
+     * <p>
+     * Subclasses may override this method to provide custom implementations.
+     */
+    protected /* non-final */ R record(P object) {
+        return using(configuration).newRecord(table, object);
+    }
+
     private /* non-final */ List<R> records(Collection<P> objects, boolean forUpdate) {
         List<R> result = new ArrayList<R>();
         Field<?>[] pk = pk();
 
         for (P object : objects) {
-            R record = using(configuration).newRecord(table, object);
+            R record = record(object);
 
             if (forUpdate && pk != null)
                 for (Field<?> field : pk)
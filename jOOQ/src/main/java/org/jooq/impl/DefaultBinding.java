@@ -157,8 +157,45 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
      */
     private static final long   serialVersionUID = -198499389344950496L;
 
+    // Type codes used to dispatch get() and set() calls, resolved only once
+    // per binding, rather than for every value
+    private static final int    T_OTHER            = 1;
+    private static final int    T_BLOB             = 2;
+    private static final int    T_BOOLEAN          = 3;
+    private static final int    T_BIG_INTEGER      = 4;
+    private static final int    T_BIG_DECIMAL      = 5;
+    private static final int    T_BYTE             = 6;
+    private static final int    T_BYTES            = 7;
+    private static final int    T_CLOB             = 8;
+    private static final int    T_DATE             = 9;
+    private static final int    T_DOUBLE           = 10;
+    private static final int    T_FLOAT            = 11;
+    private static final int    T_INTEGER          = 12;
+    private static final int    T_LOCAL_DATE       = 13;
+    private static final int    T_LOCAL_TIME       = 14;
+    private static final int    T_LOCAL_DATE_TIME  = 15;
+    private static final int    T_LONG             = 16;
+    private static final int    T_OFFSET_TIME      = 17;
+    private static final int    T_OFFSET_DATE_TIME = 18;
+    private static final int    T_SHORT            = 19;
+    private static final int    T_STRING           = 20;
+    private static final int    T_TIME             = 21;
+    private static final int    T_TIMESTAMP        = 22;
+    private static final int    T_YEAR_TO_MONTH    = 23;
+    private static final int    T_DAY_TO_SECOND    = 24;
+    private static final int    T_UBYTE            = 25;
+    private static final int    T_USHORT           = 26;
+    private static final int    T_UINTEGER         = 27;
+    private static final int    T_ULONG            = 28;
+    private static final int    T_UUID             = 29;
+    private static final int    T_ARRAY            = 30;
+    private static final int    T_ENUM             = 31;
+    private static final int    T_RECORD           = 32;
+    private static final int    T_RESULT           = 33;
+
     final Class<T>              type;
     final Converter<T, U>       converter;
+    private transient int       typeCode;
 
     @Deprecated
     // TODO: This type boolean should not be passed standalone to the
@@ -249,6 +286,95 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         return converter;
     }
 
+    /**
+     * The type code of this binding's type, resolved lazily.
+     */
+    private final int typeCode() {
+        int result = typeCode;
+
+        if (result == 0)
+            typeCode = result = typeCode(type);
+
+        return result;
+    }
+
+    /**
+     * Resolve the type code used to dispatch reading and writing values of a
+     * given type.
+     */
+    private static final int typeCode(Class<?> type) {
+        if (type == Blob.class)
+            return T_BLOB;
+        else if (type == Boolean.class)
+            return T_BOOLEAN;
+        else if (type == BigInteger.class)
+            return T_BIG_INTEGER;
+        else if (type == BigDecimal.class)
+            return T_BIG_DECIMAL;
+        else if (type == Byte.class)
+            return T_BYTE;
+        else if (type == byte[].class)
+            return T_BYTES;
+        else if (type == Clob.class)
+            return T_CLOB;
+        else if (type == Date.class)
+            return T_DATE;
+        else if (type == Double.class)
+            return T_DOUBLE;
+        else if (type == Float.class)
+            return T_FLOAT;
+        else if (type == Integer.class)
+            return T_INTEGER;
+
+        else if (type == LocalDate.class)
+            return T_LOCAL_DATE;
+        else if (type == LocalTime.class)
+            return T_LOCAL_TIME;
+        else if (type == LocalDateTime.class)
+            return T_LOCAL_DATE_TIME;
+        else if (type == OffsetTime.class)
+            return T_OFFSET_TIME;
+        else if (type == OffsetDateTime.class)
+            return T_OFFSET_DATE_TIME;
+
+        else if (type == Long.class)
+            return T_LONG;
+        else if (type == Short.class)
+            return T_SHORT;
+        else if (type == String.class)
+            return T_STRING;
+        else if (type == Time.class)
+            return T_TIME;
+        else if (type == Timestamp.class)
+            return T_TIMESTAMP;
+        else if (type == YearToMonth.class)
+            return T_YEAR_TO_MONTH;
+        else if (type == DayToSecond.class)
+            return T_DAY_TO_SECOND;
+        else if (type == UByte.class)
+            return T_UBYTE;
+        else if (type == UShort.class)
+            return T_USHORT;
+        else if (type == UInteger.class)
+            return T_UINTEGER;
+        else if (type == ULong.class)
+            return T_ULONG;
+        else if (type == UUID.class)
+            return T_UUID;
+
+        // The type byte[] is handled earlier. byte[][] can be handled here
+        else if (type.isArray())
+            return T_ARRAY;
+        else if (EnumType.class.isAssignableFrom(type))
+            return T_ENUM;
+        else if (Record.class.isAssignableFrom(type))
+            return T_RECORD;
+        else if (Result.class.isAssignableFrom(type))
+            return T_RESULT;
+        else
+            return T_OTHER;
+    }
+
     @Override
     public void sql(BindingSQLContext<U> ctx) {
         T converted = converter.to(ctx.value());
@@ -410,6 +536,24 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         }
     }
 
+    /**
+     * Whether the SQL rendered for a bind variable of this binding depends on
+     * the bind value itself, rather than only on the value's type and
+     * nullability.
+     * <p>
+     * This has to be kept in sync with
+     * {@link #toSQLCast(BindingSQLContext, Object)}.
+     */
+    final boolean isValueDependent(SQLDialect family) {
+
+        // [#822] Precision and scale of BigDecimals are cast explicitly
+        if (type == BigDecimal.class && asList(CUBRID, DERBY, FIREBIRD, HSQLDB).contains(family))
+            return true;
+
+        // [#1727] VARCHAR and CHAR types are cast to their actual lengths
+        return family == FIREBIRD;
+    }
+
     private final int getValueLength(T value) {
         String string = (String) value;
         if (string == null) {
@@ -940,16 +1084,20 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
         }
         else {
             Class<?> actualType = type;
+            int actualTypeCode = typeCode();
 
             // Try to infer the bind value type from the actual bind value if possible.
             if (actualType == Object.class) {
                 actualType = value.getClass();
+                actualTypeCode = typeCode(actualType);
             }
 
-            if (actualType == Blob.class) {
-                ctx.statement().setBlob(ctx.index(), (Blob) value);
-            }
-            else if (actualType == Boolean.class) {
+            switch (actualTypeCode) {
+                case T_BLOB: {
+                    ctx.statement().setBlob(ctx.index(), (Blob) value);
+                    break;
+                }
+                case T_BOOLEAN: {
 
 
 
@@ -958,65 +1106,77 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
 
 
-                    ctx.statement().setBoolean(ctx.index(), (Boolean) value);
-            }
-            else if (actualType == BigDecimal.class) {
-                if (asList(SQLITE).contains(dialect.family())) {
-                    ctx.statement().setString(ctx.index(), value.toString());
+                        ctx.statement().setBoolean(ctx.index(), (Boolean) value);
+                    break;
                 }
-                else {
-                    ctx.statement().setBigDecimal(ctx.index(), (BigDecimal) value);
+                case T_BIG_DECIMAL: {
+                    if (asList(SQLITE).contains(dialect.family())) {
+                        ctx.statement().setString(ctx.index(), value.toString());
+                    }
+                    else {
+                        ctx.statement().setBigDecimal(ctx.index(), (BigDecimal) value);
+                    }
+                    break;
                 }
-            }
-            else if (actualType == BigInteger.class) {
-                if (asList(SQLITE).contains(dialect.family())) {
-                    ctx.statement().setString(ctx.index(), value.toString());
+                case T_BIG_INTEGER: {
+                    if (asList(SQLITE).contains(dialect.family())) {
+                        ctx.statement().setString(ctx.index(), value.toString());
+                    }
+                    else {
+                        ctx.statement().setBigDecimal(ctx.index(), new BigDecimal((BigInteger) value));
+                    }
+                    break;
                 }
-                else {
-                    ctx.statement().setBigDecimal(ctx.index(), new BigDecimal((BigInteger) value));
+                case T_BYTE: {
+                    ctx.statement().setByte(ctx.index(), (Byte) value);
+                    break;
                 }
-            }
-            else if (actualType == Byte.class) {
-                ctx.statement().setByte(ctx.index(), (Byte) value);
-            }
-            else if (actualType == byte[].class) {
-                ctx.statement().setBytes(ctx.index(), (byte[]) value);
-            }
-            else if (actualType == Clob.class) {
-                ctx.statement().setClob(ctx.index(), (Clob) value);
-            }
-            else if (actualType == Double.class) {
-                ctx.statement().setDouble(ctx.index(), (Double) value);
-            }
-            else if (actualType == Float.class) {
-                ctx.statement().setFloat(ctx.index(), (Float) value);
-            }
-            else if (actualType == Integer.class) {
-                ctx.statement().setInt(ctx.index(), (Integer) value);
-            }
-            else if (actualType == Long.class) {
+                case T_BYTES: {
+                    ctx.statement().setBytes(ctx.index(), (byte[]) value);
+                    break;
+                }
+                case T_CLOB: {
+                    ctx.statement().setClob(ctx.index(), (Clob) value);
+                    break;
+                }
+                case T_DOUBLE: {
+                    ctx.statement().setDouble(ctx.index(), (Double) value);
+                    break;
+                }
+                case T_FLOAT: {
+                    ctx.statement().setFloat(ctx.index(), (Float) value);
+                    break;
+                }
+                case T_INTEGER: {
+                    ctx.statement().setInt(ctx.index(), (Integer) value);
+                    break;
+                }
+                case T_LONG: {
 
 
 
 
 
-                ctx.statement().setLong(ctx.index(), (Long) value);
-            }
-            else if (actualType == Short.class) {
-                ctx.statement().setShort(ctx.index(), (Short) value);
-            }
-            else if (actualType == String.class) {
-                ctx.statement().setString(ctx.index(), (String) value);
-            }
+                    ctx.statement().setLong(ctx.index(), (Long) value);
+                    break;
+                }
+                case T_SHORT: {
+                    ctx.statement().setShort(ctx.index(), (Short) value);
+                    break;
+                }
+                case T_STRING: {
+                    ctx.statement().setString(ctx.index(), (String) value);
+                    break;
+                }
 
-            // There is potential for trouble when binding date time as such
-            // -------------------------------------------------------------
-            else if (actualType == Date.class) {
-                Date date = (Date) value;
+                // There is potential for trouble when binding date time as such
+                // -------------------------------------------------------------
+                case T_DATE: {
+                    Date date = (Date) value;
 
-                if (dialect == SQLITE) {
-                    ctx.statement().setString(ctx.index(), date.toString());
-                }
+                    if (dialect == SQLITE) {
+                        ctx.statement().setString(ctx.index(), date.toString());
+                    }
 
 
 
@@ -1025,98 +1185,112 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
 
 
-                else {
-                    ctx.statement().setDate(ctx.index(), date);
+                    else {
+                        ctx.statement().setDate(ctx.index(), date);
+                    }
+                    break;
                 }
-            }
-            else if (actualType == Time.class) {
-                Time time = (Time) value;
+                case T_TIME: {
+                    Time time = (Time) value;
 
-                if (dialect == SQLITE) {
-                    ctx.statement().setString(ctx.index(), time.toString());
-                }
-                else {
-                    ctx.statement().setTime(ctx.index(), time);
+                    if (dialect == SQLITE) {
+                        ctx.statement().setString(ctx.index(), time.toString());
+                    }
+                    else {
+                        ctx.statement().setTime(ctx.index(), time);
+                    }
+                    break;
                 }
-            }
-            else if (actualType == Timestamp.class) {
-                Timestamp timestamp = (Timestamp) value;
+                case T_TIMESTAMP: {
+                    Timestamp timestamp = (Timestamp) value;
 
-                if (dialect == SQLITE) {
-                    ctx.statement().setString(ctx.index(), timestamp.toString());
-                }
-                else {
-                    ctx.statement().setTimestamp(ctx.index(), timestamp);
+                    if (dialect == SQLITE) {
+                        ctx.statement().setString(ctx.index(), timestamp.toString());
+                    }
+                    else {
+                        ctx.statement().setTimestamp(ctx.index(), timestamp);
+                    }
+                    break;
                 }
-            }
 
 
-            else if (actualType == LocalDate.class) {
-                ctx.statement().setDate(ctx.index(), Date.valueOf((LocalDate) value));
-            }
-            else if (actualType == LocalTime.class) {
-                ctx.statement().setTime(ctx.index(), Time.valueOf((LocalTime) value));
-            }
-            else if (actualType == LocalDateTime.class) {
-                ctx.statement().setTimestamp(ctx.index(), Timestamp.valueOf((LocalDateTime) value));
-            }
-            else if (actualType == OffsetTime.class) {
-                ctx.statement().setString(ctx.index(), value.toString());
-            }
-            else if (actualType == OffsetDateTime.class) {
-                ctx.statement().setString(ctx.index(), value.toString());
-            }
+                case T_LOCAL_DATE: {
+                    ctx.statement().setDate(ctx.index(), Date.valueOf((LocalDate) value));
+                    break;
+                }
+                case T_LOCAL_TIME: {
+                    ctx.statement().setTime(ctx.index(), Time.valueOf((LocalTime) value));
+                    break;
+                }
+                case T_LOCAL_DATE_TIME: {
+                    ctx.statement().setTimestamp(ctx.index(), Timestamp.valueOf((LocalDateTime) value));
+                    break;
+                }
+                case T_OFFSET_TIME: {
+                    ctx.statement().setString(ctx.index(), value.toString());
+                    break;
+                }
+                case T_OFFSET_DATE_TIME: {
+                    ctx.statement().setString(ctx.index(), value.toString());
+                    break;
+                }
 
 
-            // [#566] Interval data types are best bound as Strings
-            else if (actualType == YearToMonth.class) {
-                if (dialect.family() == POSTGRES) {
-                    ctx.statement().setObject(ctx.index(), toPGInterval((YearToMonth) value));
+                // [#566] Interval data types are best bound as Strings
+                case T_YEAR_TO_MONTH: {
+                    if (dialect.family() == POSTGRES) {
+                        ctx.statement().setObject(ctx.index(), toPGInterval((YearToMonth) value));
+                    }
+                    else {
+                        ctx.statement().setString(ctx.index(), value.toString());
+                    }
+                    break;
                 }
-                else {
-                    ctx.statement().setString(ctx.index(), value.toString());
+                case T_DAY_TO_SECOND: {
+                    if (dialect.family() == POSTGRES) {
+                        ctx.statement().setObject(ctx.index(), toPGInterval((DayToSecond) value));
+                    }
+                    else {
+                        ctx.statement().setString(ctx.index(), value.toString());
+                    }
+                    break;
                 }
-            }
-            else if (actualType == DayToSecond.class) {
-                if (dialect.family() == POSTGRES) {
-                    ctx.statement().setObject(ctx.index(), toPGInterval((DayToSecond) value));
+                case T_UBYTE: {
+                    ctx.statement().setShort(ctx.index(), ((UByte) value).shortValue());
+                    break;
                 }
-                else {
-                    ctx.statement().setString(ctx.index(), value.toString());
+                case T_USHORT: {
+                    ctx.statement().setInt(ctx.index(), ((UShort) value).intValue());
+                    break;
                 }
-            }
-            else if (actualType == UByte.class) {
-                ctx.statement().setShort(ctx.index(), ((UByte) value).shortValue());
-            }
-            else if (actualType == UShort.class) {
-                ctx.statement().setInt(ctx.index(), ((UShort) value).intValue());
-            }
-            else if (actualType == UInteger.class) {
+                case T_UINTEGER: {
 
 
 
 
 
-                ctx.statement().setLong(ctx.index(), ((UInteger) value).longValue());
-            }
-            else if (actualType == ULong.class) {
+                    ctx.statement().setLong(ctx.index(), ((UInteger) value).longValue());
+                    break;
+                }
+                case T_ULONG: {
 
 
 
 
 
-                ctx.statement().setBigDecimal(ctx.index(), new BigDecimal(value.toString()));
-            }
-            else if (actualType == UUID.class) {
-                switch (dialect.family()) {
+                    ctx.statement().setBigDecimal(ctx.index(), new BigDecimal(value.toString()));
+                    break;
+                }
+                case T_UUID: {
+                    switch (dialect.family()) {
 
-                    // [#1624] Some JDBC drivers natively support the
-                    // java.util.UUID data type
-                    case H2:
-                    case POSTGRES: {
-                        ctx.statement().setObject(ctx.index(), value);
-                        break;
-                    }
+                        // [#1624] Some JDBC drivers natively support the
+                        // java.util.UUID data type
+                        case H2:
+                        case POSTGRES: {
+                            ctx.statement().setObject(ctx.index(), value);
+                            break;
+                        }
 
 
 
@@ -1125,55 +1299,60 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
 
 
-                    // Most databases don't have such a type. In this case, jOOQ
-                    // emulates the type
-                    default: {
-                        ctx.statement().setString(ctx.index(), value.toString());
-                        break;
+                        // Most databases don't have such a type. In this case, jOOQ
+                        // emulates the type
+                        default: {
+                            ctx.statement().setString(ctx.index(), value.toString());
+                            break;
+                        }
                     }
+                    break;
                 }
-            }
 
-            // The type byte[] is handled earlier. byte[][] can be handled here
-            else if (actualType.isArray()) {
-                switch (dialect.family()) {
-                    case POSTGRES: {
-                        ctx.statement().setString(ctx.index(), toPGArrayString((Object[]) value));
-                        break;
-                    }
-                    case HSQLDB: {
-                        Object[] a = (Object[]) value;
-                        Class<?> t = actualType;
-
-                        // [#2325] Some array types are not natively supported by HSQLDB
-                        // More integration tests are probably needed...
-                        if (actualType == UUID[].class) {
-                            a = Convert.convertArray(a, String[].class);
-                            t = String[].class;
+                // The type byte[] is handled earlier. byte[][] can be handled here
+                case T_ARRAY: {
+                    switch (dialect.family()) {
+                        case POSTGRES: {
+                            ctx.statement().setString(ctx.index(), toPGArrayString((Object[]) value));
+                            break;
                         }
-
-                        ctx.statement().setArray(ctx.index(), new MockArray(dialect, a, t));
-                        break;
-                    }
-                    case H2: {
-                        ctx.statement().setObject(ctx.index(), value);
-                        break;
+                        case HSQLDB: {
+                            Object[] a = (Object[]) value;
+                            Class<?> t = actualType;
+
+                            // [#2325] Some array types are not natively supported by HSQLDB
+                            // More integration tests are probably needed...
+                            if (actualType == UUID[].class) {
+                                a = Convert.convertArray(a, String[].class);
+                                t = String[].class;
+                            }
+
+                            ctx.statement().setArray(ctx.index(), new MockArray(dialect, a, t));
+                            break;
+                        }
+                        case H2: {
+                            ctx.statement().setObject(ctx.index(), value);
+                            break;
+                        }
+                        default:
+                            throw new SQLDialectNotSupportedException("Cannot bind ARRAY types in dialect " + dialect);
                     }
-                    default:
-                        throw new SQLDialectNotSupportedException("Cannot bind ARRAY types in dialect " + dialect);
+                    break;
                 }
-            }
 
 
 
 
 
 
-            else if (EnumType.class.isAssignableFrom(actualType)) {
-                ctx.statement().setString(ctx.index(), ((EnumType) value).getLiteral());
-            }
-            else {
-                ctx.statement().setObject(ctx.index(), value);
+                case T_ENUM: {
+                    ctx.statement().setString(ctx.index(), ((EnumType) value).getLiteral());
+                    break;
+                }
+                default: {
+                    ctx.statement().setObject(ctx.index(), value);
+                    break;
+                }
             }
         }
     }
@@ -1353,129 +1532,156 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
     public void get(BindingGetResultSetContext<U> ctx) throws SQLException {
         T result = null;
 
-        if (type == Blob.class) {
-            result = (T) ctx.resultSet().getBlob(ctx.index());
-        }
-        else if (type == Boolean.class) {
-            result = (T) wasNull(ctx.resultSet(), Boolean.valueOf(ctx.resultSet().getBoolean(ctx.index())));
-        }
-        else if (type == BigInteger.class) {
-            // The SQLite JDBC driver doesn't support BigDecimals
-            if (ctx.configuration().dialect() == SQLDialect.SQLITE) {
-                result = Convert.convert(ctx.resultSet().getString(ctx.index()), (Class<T>) BigInteger.class);
+        switch (typeCode()) {
+            case T_BLOB: {
+                result = (T) ctx.resultSet().getBlob(ctx.index());
+                break;
             }
-            else {
-                BigDecimal b = ctx.resultSet().getBigDecimal(ctx.index());
-                result = (T) (b == null ? null : b.toBigInteger());
+            case T_BOOLEAN: {
+                result = (T) wasNull(ctx.resultSet(), Boolean.valueOf(ctx.resultSet().getBoolean(ctx.index())));
+                break;
             }
-        }
-        else if (type == BigDecimal.class) {
-            // The SQLite JDBC driver doesn't support BigDecimals
-            if (ctx.configuration().dialect() == SQLDialect.SQLITE) {
-                result = Convert.convert(ctx.resultSet().getString(ctx.index()), (Class<T>) BigDecimal.class);
+            case T_BIG_INTEGER: {
+                // The SQLite JDBC driver doesn't support BigDecimals
+                if (ctx.configuration().dialect() == SQLDialect.SQLITE) {
+                    result = Convert.convert(ctx.resultSet().getString(ctx.index()), (Class<T>) BigInteger.class);
+                }
+                else {
+                    BigDecimal b = ctx.resultSet().getBigDecimal(ctx.index());
+                    result = (T) (b == null ? null : b.toBigInteger());
+                }
+                break;
             }
-            else {
-                result = (T) ctx.resultSet().getBigDecimal(ctx.index());
+            case T_BIG_DECIMAL: {
+                // The SQLite JDBC driver doesn't support BigDecimals
+                if (ctx.configuration().dialect() == SQLDialect.SQLITE) {
+                    result = Convert.convert(ctx.resultSet().getString(ctx.index()), (Class<T>) BigDecimal.class);
+                }
+                else {
+                    result = (T) ctx.resultSet().getBigDecimal(ctx.index());
+                }
+                break;
+            }
+            case T_BYTE: {
+                result = (T) wasNull(ctx.resultSet(), Byte.valueOf(ctx.resultSet().getByte(ctx.index())));
+                break;
+            }
+            case T_BYTES: {
+                result = (T) ctx.resultSet().getBytes(ctx.index());
+                break;
+            }
+            case T_CLOB: {
+                result = (T) ctx.resultSet().getClob(ctx.index());
+                break;
+            }
+            case T_DATE: {
+                result = (T) getDate(ctx.family(), ctx.resultSet(), ctx.index());
+                break;
+            }
+            case T_DOUBLE: {
+                result = (T) wasNull(ctx.resultSet(), Double.valueOf(ctx.resultSet().getDouble(ctx.index())));
+                break;
+            }
+            case T_FLOAT: {
+                result = (T) wasNull(ctx.resultSet(), Float.valueOf(ctx.resultSet().getFloat(ctx.index())));
+                break;
+            }
+            case T_INTEGER: {
+                result = (T) wasNull(ctx.resultSet(), Integer.valueOf(ctx.resultSet().getInt(ctx.index())));
+                break;
             }
-        }
-        else if (type == Byte.class) {
-            result = (T) wasNull(ctx.resultSet(), Byte.valueOf(ctx.resultSet().getByte(ctx.index())));
-        }
-        else if (type == byte[].class) {
-            result = (T) ctx.resultSet().getBytes(ctx.index());
-        }
-        else if (type == Clob.class) {
-            result = (T) ctx.resultSet().getClob(ctx.index());
-        }
-        else if (type == Date.class) {
-            result = (T) getDate(ctx.family(), ctx.resultSet(), ctx.index());
-        }
-        else if (type == Double.class) {
-            result = (T) wasNull(ctx.resultSet(), Double.valueOf(ctx.resultSet().getDouble(ctx.index())));
-        }
-        else if (type == Float.class) {
-            result = (T) wasNull(ctx.resultSet(), Float.valueOf(ctx.resultSet().getFloat(ctx.index())));
-        }
-        else if (type == Integer.class) {
-            result = (T) wasNull(ctx.resultSet(), Integer.valueOf(ctx.resultSet().getInt(ctx.index())));
-        }
 
-        else if (type == LocalDate.class) {
-            result = (T) localDate(getDate(ctx.family(), ctx.resultSet(), ctx.index()));
-        }
-        else if (type == LocalTime.class) {
-            result = (T) localTime(getTime(ctx.family(), ctx.resultSet(), ctx.index()));
-        }
-        else if (type == LocalDateTime.class) {
-            result = (T) localDateTime(getTimestamp(ctx.family(), ctx.resultSet(), ctx.index()));
-        }
+            case T_LOCAL_DATE: {
+                result = (T) localDate(getDate(ctx.family(), ctx.resultSet(), ctx.index()));
+                break;
+            }
+            case T_LOCAL_TIME: {
+                result = (T) localTime(getTime(ctx.family(), ctx.resultSet(), ctx.index()));
+                break;
+            }
+            case T_LOCAL_DATE_TIME: {
+                result = (T) localDateTime(getTimestamp(ctx.family(), ctx.resultSet(), ctx.index()));
+                break;
+            }
 
-        else if (type == Long.class) {
-            result = (T) wasNull(ctx.resultSet(), Long.valueOf(ctx.resultSet().getLong(ctx.index())));
-        }
+            case T_LONG: {
+                result = (T) wasNull(ctx.resultSet(), Long.valueOf(ctx.resultSet().getLong(ctx.index())));
+                break;
+            }
 
-        else if (type == OffsetTime.class) {
-            result = (T) offsetTime(ctx.resultSet().getString(ctx.index()));
-        }
-        else if (type == OffsetDateTime.class) {
-            result = (T) offsetDateTime(ctx.resultSet().getString(ctx.index()));
-        }
+            case T_OFFSET_TIME: {
+                result = (T) offsetTime(ctx.resultSet().getString(ctx.index()));
+                break;
+            }
+            case T_OFFSET_DATE_TIME: {
+                result = (T) offsetDateTime(ctx.resultSet().getString(ctx.index()));
+                break;
+            }
 
-        else if (type == Short.class) {
-            result = (T) wasNull(ctx.resultSet(), Short.valueOf(ctx.resultSet().getShort(ctx.index())));
-        }
-        else if (type == String.class) {
-            result = (T) ctx.resultSet().getString(ctx.index());
-        }
-        else if (type == Time.class) {
-            result = (T) getTime(ctx.family(), ctx.resultSet(), ctx.index());
-        }
-        else if (type == Timestamp.class) {
-            result = (T) getTimestamp(ctx.family(), ctx.resultSet(), ctx.index());
-        }
-        else if (type == YearToMonth.class) {
-            if (ctx.family() == POSTGRES) {
-                Object object = ctx.resultSet().getObject(ctx.index());
-                result = (T) (object == null ? null : PostgresUtils.toYearToMonth(object));
+            case T_SHORT: {
+                result = (T) wasNull(ctx.resultSet(), Short.valueOf(ctx.resultSet().getShort(ctx.index())));
+                break;
             }
-            else {
-                String string = ctx.resultSet().getString(ctx.index());
-                result = (T) (string == null ? null : YearToMonth.valueOf(string));
+            case T_STRING: {
+                result = (T) ctx.resultSet().getString(ctx.index());
+                break;
             }
-        }
-        else if (type == DayToSecond.class) {
-            if (ctx.family() == POSTGRES) {
-                Object object = ctx.resultSet().getObject(ctx.index());
-                result = (T) (object == null ? null : PostgresUtils.toDayToSecond(object));
+            case T_TIME: {
+                result = (T) getTime(ctx.family(), ctx.resultSet(), ctx.index());
+                break;
             }
-            else {
-                String string = ctx.resultSet().getString(ctx.index());
-                result = (T) (string == null ? null : DayToSecond.valueOf(string));
+            case T_TIMESTAMP: {
+                result = (T) getTimestamp(ctx.family(), ctx.resultSet(), ctx.index());
+                break;
             }
-        }
-        else if (type == UByte.class) {
-            result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UByte.class);
-        }
-        else if (type == UShort.class) {
-            result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UShort.class);
-        }
-        else if (type == UInteger.class) {
-            result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UInteger.class);
-        }
-        else if (type == ULong.class) {
-            result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), ULong.class);
-        }
-        else if (type == UUID.class) {
-            switch (ctx.family()) {
-
-                // [#1624] Some JDBC drivers natively support the
-                // java.util.UUID data type
-                case H2:
-                case POSTGRES: {
-                    result = (T) ctx.resultSet().getObject(ctx.index());
-                    break;
+            case T_YEAR_TO_MONTH: {
+                if (ctx.family() == POSTGRES) {
+                    Object object = ctx.resultSet().getObject(ctx.index());
+                    result = (T) (object == null ? null : PostgresUtils.toYearToMonth(object));
+                }
+                else {
+                    String string = ctx.resultSet().getString(ctx.index());
+                    result = (T) (string == null ? null : YearToMonth.valueOf(string));
+                }
+                break;
+            }
+            case T_DAY_TO_SECOND: {
+                if (ctx.family() == POSTGRES) {
+                    Object object = ctx.resultSet().getObject(ctx.index());
+                    result = (T) (object == null ? null : PostgresUtils.toDayToSecond(object));
                 }
+                else {
+                    String string = ctx.resultSet().getString(ctx.index());
+                    result = (T) (string == null ? null : DayToSecond.valueOf(string));
+                }
+                break;
+            }
+            case T_UBYTE: {
+                result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UByte.class);
+                break;
+            }
+            case T_USHORT: {
+                result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UShort.class);
+                break;
+            }
+            case T_UINTEGER: {
+                result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UInteger.class);
+                break;
+            }
+            case T_ULONG: {
+                result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), ULong.class);
+                break;
+            }
+            case T_UUID: {
+                switch (ctx.family()) {
 
+                    // [#1624] Some JDBC drivers natively support the
+                    // java.util.UUID data type
+                    case H2:
+                    case POSTGRES: {
+                        result = (T) ctx.resultSet().getObject(ctx.index());
+                        break;
+                    }
 
 
 
@@ -1483,55 +1689,63 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
 
 
-                // Most databases don't have such a type. In this case, jOOQ
-                // emulates the type
-                default: {
-                    result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UUID.class);
-                    break;
+
+                    // Most databases don't have such a type. In this case, jOOQ
+                    // emulates the type
+                    default: {
+                        result = (T) Convert.convert(ctx.resultSet().getString(ctx.index()), UUID.class);
+                        break;
+                    }
                 }
+                break;
             }
-        }
 
-        // The type byte[] is handled earlier. byte[][] can be handled here
-        else if (type.isArray()) {
-            switch (ctx.family()) {
-                case POSTGRES: {
-                    result = pgGetArray(ctx, ctx.resultSet(), type, ctx.index());
-                    break;
-                }
+            // The type byte[] is handled earlier. byte[][] can be handled here
+            case T_ARRAY: {
+                switch (ctx.family()) {
+                    case POSTGRES: {
+                        result = pgGetArray(ctx, ctx.resultSet(), type, ctx.index());
+                        break;
+                    }
 
-                default:
-                    // Note: due to a HSQLDB bug, it is not recommended to call rs.getObject() here:
-                    // See https://sourceforge.net/tracker/?func=detail&aid=3181365&group_id=23316&atid=378131
-                    result = (T) convertArray(ctx.resultSet().getArray(ctx.index()), (Class<? extends Object[]>) type);
-                    break;
+                    default:
+                        // Note: due to a HSQLDB bug, it is not recommended to call rs.getObject() here:
+                        // See https://sourceforge.net/tracker/?func=detail&aid=3181365&group_id=23316&atid=378131
+                        result = (T) convertArray(ctx.resultSet().getArray(ctx.index()), (Class<? extends Object[]>) type);
+                        break;
+                }
+                break;
             }
-        }
 
 
 
 
 
-        else if (EnumType.class.isAssignableFrom(type)) {
-            result = (T) getEnumType((Class<EnumType>) type, ctx.resultSet().getString(ctx.index()));
-        }
-        else if (Record.class.isAssignableFrom(type)) {
-            switch (ctx.family()) {
-                case POSTGRES:
-                    result = (T) pgNewRecord(type, null, ctx.resultSet().getObject(ctx.index()));
-                    break;
+            case T_ENUM: {
+                result = (T) getEnumType((Class<EnumType>) type, ctx.resultSet().getString(ctx.index()));
+                break;
+            }
+            case T_RECORD: {
+                switch (ctx.family()) {
+                    case POSTGRES:
+                        result = (T) pgNewRecord(type, null, ctx.resultSet().getObject(ctx.index()));
+                        break;
 
-                default:
-                    result = (T) ctx.resultSet().getObject(ctx.index(), typeMap(type, ctx.configuration()));
-                    break;
+                    default:
+                        result = (T) ctx.resultSet().getObject(ctx.index(), typeMap(type, ctx.configuration()));
+                        break;
+                }
+                break;
+            }
+            case T_RESULT: {
+                ResultSet nested = (ResultSet) ctx.resultSet().getObject(ctx.index());
+                result = (T) DSL.using(ctx.configuration()).fetch(nested);
+                break;
+            }
+            default: {
+                result = (T) unlob(ctx.resultSet().getObject(ctx.index()));
+                break;
             }
-        }
-        else if (Result.class.isAssignableFrom(type)) {
-            ResultSet nested = (ResultSet) ctx.resultSet().getObject(ctx.index());
-            result = (T) DSL.using(ctx.configuration()).fetch(nested);
-        }
-        else {
-            result = (T) unlob(ctx.resultSet().getObject(ctx.index()));
         }
 
         // [#4372] Attach records if possible / required
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.CacheStatistics;
+
+/**
+ * A default implementation of {@link CacheStatistics}.
+ *
+ * @author Lukas Eder
+ */
+final class DefaultCacheStatistics implements CacheStatistics {
+
+    private final LongAdder hits      = new LongAdder();
+    private final LongAdder misses    = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    final void hit() {
+        hits.increment();
+    }
+
+    final void miss() {
+        misses.increment();
+    }
+
+    final void eviction() {
+        evictions.increment();
+    }
+
+    @Override
+    public final long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public final long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public final long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public final void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics [hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + "]";
+    }
+}
@@ -50,6 +50,8 @@ import static org.jooq.impl.DSL.sequence;
 import static org.jooq.impl.DSL.sql;
 import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.Tools.DATA_CACHE_STATISTICS_RENDER;
+import static org.jooq.impl.Tools.DATA_CACHE_STATISTICS_STATEMENT;
 import static org.jooq.impl.Tools.EMPTY_QUERY;
 import static org.jooq.impl.Tools.EMPTY_TABLE_RECORD;
 import static org.jooq.impl.Tools.EMPTY_UPDATABLE_RECORD;
@@ -94,6 +96,7 @@ import org.jooq.Attachable;
 import org.jooq.Batch;
 import org.jooq.BatchBindStep;
 import org.jooq.BindContext;
+import org.jooq.CacheStatistics;
 import org.jooq.Catalog;
 import org.jooq.CommonTableExpression;
 import org.jooq.Condition;
@@ -200,6 +203,7 @@ import org.jooq.Record6;
 import org.jooq.Record7;
 import org.jooq.Record8;
 import org.jooq.Record9;
+import org.jooq.RecordNavigator;
 import org.jooq.RenderContext;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
@@ -683,6 +687,16 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return bindContext(stmt).visit(part).peekIndex();
     }
 
+    @Override
+    public CacheStatistics renderCacheStatistics() {
+        return Tools.cacheStatistics(configuration(), DATA_CACHE_STATISTICS_RENDER);
+    }
+
+    @Override
+    public CacheStatistics statementCacheStatistics() {
+        return Tools.cacheStatistics(configuration(), DATA_CACHE_STATISTICS_STATEMENT);
+    }
+
     // -------------------------------------------------------------------------
     // XXX Attachable and Serializable API
     // -------------------------------------------------------------------------
@@ -708,6 +722,15 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new LoaderImpl<R>(configuration(), table);
     }
 
+    // -------------------------------------------------------------------------
+    // XXX Access to the navigator API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public RecordNavigator navigator() {
+        return new RecordNavigatorImpl(configuration());
+    }
+
     // -------------------------------------------------------------------------
     // XXX Plain SQL API
     // -------------------------------------------------------------------------
@@ -1140,7 +1163,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
     @Override
     public Cursor<Record> fetchLazy(ResultSet rs, Field<?>... fields) {
         ExecuteContext ctx = new DefaultExecuteContext(configuration());
-        ExecuteListener listener = new ExecuteListeners(ctx);
+        ExecuteListener listener = ExecuteListeners.get(ctx);
 
         ctx.resultSet(rs);
         return new CursorImpl<Record>(ctx, listener, fields, null, false, true);
@@ -3610,6 +3633,16 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return new FetchCount(configuration(), query).fetchOne().value1();
     }
 
+    @Override
+    public <R extends Record> Result<R> fetchParallel(Select<R> query, Field<? extends Number> key, int partitions) {
+        return new PartitionedFetch<R>(configuration(), query, key, partitions).fetch();
+    }
+
+    @Override
+    public <R extends Record> Stream<R> fetchParallelStream(Select<R> query, Field<? extends Number> key, int partitions, boolean ordered) {
+        return new PartitionedFetch<R>(configuration(), query, key, partitions).stream(ordered);
+    }
+
     @Override
     public int fetchCount(Table<?> table) {
         return fetchCount(table, trueCondition());
@@ -40,6 +40,8 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.impl.Tools.statementCache;
+
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -594,7 +596,7 @@ class DefaultExecuteContext implements ExecuteContext {
     final void connection(ConnectionProvider provider, Connection c) {
         if (c != null) {
             LOCAL_CONNECTION.set(c);
-            connection = new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c), configuration.settings());
+            connection = new SettingsEnabledConnection(new ProviderEnabledConnection(provider, c, statementCache(configuration)), configuration.settings());
         }
     }
 
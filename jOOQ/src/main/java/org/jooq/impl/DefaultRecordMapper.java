@@ -43,6 +43,7 @@ package org.jooq.impl;
 import static java.util.Collections.nCopies;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Tools.DATA_REFLECTION_CACHE_COMPILED_MAPPER;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.getAnnotatedGetter;
 import static org.jooq.impl.Tools.getAnnotatedMembers;
@@ -53,9 +54,13 @@ import static org.jooq.impl.Tools.getMatchingSetters;
 import static org.jooq.impl.Tools.getPropertyName;
 import static org.jooq.impl.Tools.hasColumnAnnotations;
 import static org.jooq.tools.reflect.Reflect.accessible;
+import static org.jooq.tools.reflect.Reflect.wrapper;
 
 import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
@@ -63,6 +68,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -86,6 +92,8 @@ import org.jooq.RecordMapper;
 import org.jooq.RecordMapperProvider;
 import org.jooq.RecordType;
 import org.jooq.exception.MappingException;
+import org.jooq.impl.Tools.Cache;
+import org.jooq.impl.Tools.Cache.CachedOperation;
 import org.jooq.tools.Convert;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.reflect.Reflect;
@@ -554,6 +562,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final List<java.lang.reflect.Method>[]           methods;
         private final Map<String, List<RecordMapper<R, Object>>> nested;
         private final E                                          instance;
+        private final CompiledPOJOMapper                         compiled;
 
         MutablePOJOMapper(Constructor<? extends E> constructor, E instance) {
             this.constructor = accessible(constructor);
@@ -630,11 +639,90 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
                 nested.put(prefix, list);
             }
+
+            // The above reflection information is resolved to MethodHandles
+            // only once per record type and POJO type. Proxies and nested
+            // mappings keep using reflection.
+            if (constructor != null && nested.isEmpty()) {
+                ArrayList<String> names = new ArrayList<String>(fields.length);
+                for (Field<?> field : fields)
+                    names.add(field.getName());
+
+                this.compiled = Cache.run(configuration, new CachedOperation<CompiledPOJOMapper>() {
+
+                    @Override
+                    public CompiledPOJOMapper call() {
+                        return compile();
+                    }
+
+                }, DATA_REFLECTION_CACHE_COMPILED_MAPPER, type, names);
+            }
+            else {
+                this.compiled = null;
+            }
+        }
+
+        /**
+         * Resolve the reflection information of this mapper into a
+         * {@link CompiledPOJOMapper}, or return <code>null</code> if that
+         * isn't possible.
+         */
+        private final CompiledPOJOMapper compile() {
+            try {
+                Lookup lookup = MethodHandles.lookup();
+                List<CompiledSetter> setters = new ArrayList<CompiledSetter>();
+
+                for (int i = 0; i < fields.length; i++) {
+                    for (java.lang.reflect.Field member : members[i]) {
+
+                        // [#935] Avoid setting final fields
+                        if ((member.getModifiers() & Modifier.FINAL) == 0) {
+                            setters.add(new CompiledSetter(
+                                i,
+                                member.getType(),
+                                member.getGenericType(),
+                                lookup.unreflectSetter(member)
+                            ));
+                        }
+                    }
+
+                    for (java.lang.reflect.Method method : methods[i]) {
+                        setters.add(new CompiledSetter(
+                            i,
+                            method.getParameterTypes()[0],
+                            method.getGenericParameterTypes()[0],
+                            lookup.unreflect(method)
+                        ));
+                    }
+                }
+
+                return new CompiledPOJOMapper(
+                    lookup.unreflectConstructor(constructor),
+                    setters.toArray(new CompiledSetter[setters.size()])
+                );
+            }
+
+            // Members that cannot be unreflected are set through reflection
+            catch (IllegalAccessException e) {
+                return null;
+            }
         }
 
         @SuppressWarnings("rawtypes")
         @Override
         public final E map(R record) {
+            if (compiled != null) {
+                try {
+                    return (E) compiled.map(record, instance);
+                }
+                catch (Error e) {
+                    throw e;
+                }
+                catch (Throwable e) {
+                    throw new MappingException("An error ocurred when mapping record to " + type, e);
+                }
+            }
+
             try {
                 E result = instance != null ? instance : constructor.newInstance();
 
@@ -773,6 +861,76 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    /**
+     * A {@link MutablePOJOMapper} whose members and setters have been resolved
+     * to {@link MethodHandle}s bound to column indexes.
+     * <p>
+     * This mapper depends only on the record type's field names and on the
+     * POJO type, which is why it can be cached in a {@link Configuration}.
+     */
+    private static class CompiledPOJOMapper {
+
+        private final MethodHandle     constructor;
+        private final CompiledSetter[] setters;
+
+        CompiledPOJOMapper(MethodHandle constructor, CompiledSetter[] setters) {
+            this.constructor = constructor.asType(MethodType.methodType(Object.class));
+            this.setters = setters;
+        }
+
+        final Object map(Record record, Object instance) throws Throwable {
+            Object result = instance != null ? instance : (Object) constructor.invokeExact();
+
+            for (CompiledSetter setter : setters)
+                setter.set(record, result);
+
+            return result;
+        }
+    }
+
+    /**
+     * A single member or setter of a {@link CompiledPOJOMapper}.
+     */
+    private static class CompiledSetter {
+
+        private final int          index;
+        private final Class<?>     type;
+        private final Class<?>     wrapper;
+        private final boolean      convertNull;
+        private final Class<?>     componentType;
+        private final MethodHandle handle;
+
+        CompiledSetter(int index, Class<?> type, Type genericType, MethodHandle handle) {
+            this.index = index;
+            this.type = type;
+            this.wrapper = wrapper(type);
+            this.convertNull = Convert.convert((Object) null, type) != null;
+            this.componentType =
+                  List.class.isAssignableFrom(type)
+               && genericType instanceof ParameterizedType
+               && ((ParameterizedType) genericType).getActualTypeArguments()[0] instanceof Class
+                ? (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0]
+                : null;
+            this.handle = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+
+        @SuppressWarnings("rawtypes")
+        final void set(Record record, Object result) throws Throwable {
+            Object value = record.get(index);
+
+            // Values that are already of the target type need no conversion.
+            // null is converted to the default value of primitive types.
+            if (value == null ? convertNull : !wrapper.isInstance(value))
+                value = Convert.convert(value, type);
+
+            // [#3082] Map nested collection types
+            if (componentType != null && value instanceof Collection)
+                value = Convert.convert((Collection) value, componentType);
+
+            handle.invokeExact(result, value);
+        }
+    }
+
     /**
      * Convert a record into an "immutable" POJO (final fields, "matching"
      * constructor).
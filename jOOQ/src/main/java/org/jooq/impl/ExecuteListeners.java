@@ -41,16 +41,19 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static org.jooq.impl.Tools.DATA_EXECUTE_LISTENERS;
 import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.Serializable;
 
+import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 import org.jooq.conf.Settings;
+import org.jooq.tools.JooqLogger;
 import org.jooq.tools.LoggerListener;
+import org.jooq.tools.StopWatch;
 import org.jooq.tools.StopWatchListener;
 
 /**
@@ -64,18 +67,50 @@ final class ExecuteListeners implements ExecuteListener {
     /**
      * Generated UID
      */
-    private static final long       serialVersionUID = 7399239846062763212L;
+    private static final long            serialVersionUID    = 7399239846062763212L;
 
-    private final ExecuteListener[] listeners;
+    /**
+     * The listener used when there are no listeners.
+     */
+    private static final ExecuteListener EMPTY_LISTENER      = new DefaultExecuteListener();
+
+    /**
+     * The loggers of the default logging listeners, which are added only if
+     * they actually log anything.
+     */
+    private static final JooqLogger      LOGGER_LISTENER_LOG = JooqLogger.getLogger(LoggerListener.class);
+    private static final JooqLogger      STOP_WATCH_LOG      = JooqLogger.getLogger(StopWatch.class);
+
+    /**
+     * The {@link LoggerListener} is stateless and can be shared.
+     */
+    private static final ExecuteListener LOGGER_LISTENER     = new LoggerListener();
+
+    private final ExecuteListener[]      listeners;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
     // an open Result
-    private boolean                 resultStart;
-    private boolean                 fetchEnd;
+    private boolean                      resultStart;
+    private boolean                      fetchEnd;
 
-    ExecuteListeners(ExecuteContext ctx) {
-        listeners = listeners(ctx);
+    /**
+     * Get a listener for an <code>ExecuteContext</code>, and fire its
+     * {@link #start(ExecuteContext)} event.
+     * <p>
+     * If there are no listeners, a shared no-op listener is returned.
+     */
+    static final ExecuteListener get(ExecuteContext ctx) {
+        ExecuteListener[] listeners = listeners(ctx);
+
+        if (listeners.length == 0)
+            return EMPTY_LISTENER;
+        else
+            return new ExecuteListeners(ctx, listeners);
+    }
+
+    private ExecuteListeners(ExecuteContext ctx, ExecuteListener[] listeners) {
+        this.listeners = listeners;
 
         start(ctx);
     }
@@ -83,21 +118,91 @@ final class ExecuteListeners implements ExecuteListener {
     /**
      * Provide delegate listeners from an <code>ExecuteContext</code>
      */
-    private static ExecuteListener[] listeners(ExecuteContext ctx) {
-        List<ExecuteListener> result = new ArrayList<ExecuteListener>();
+    private static final ExecuteListener[] listeners(ExecuteContext ctx) {
+        ExecuteListener[] result = providedListeners(ctx.configuration());
+
+        // The logging listeners are only added if their loggers are enabled
+        if (!FALSE.equals(ctx.configuration().settings().isExecuteLogging())) {
+            boolean logger = LOGGER_LISTENER_LOG.isDebugEnabled();
+            boolean stopWatch = STOP_WATCH_LOG.isDebugEnabled();
 
-        for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders())
+            if (logger || stopWatch) {
+                ExecuteListener[] copy = new ExecuteListener[result.length + (logger ? 1 : 0) + (stopWatch ? 1 : 0)];
+                System.arraycopy(result, 0, copy, 0, result.length);
+
+                int i = result.length;
+                if (logger)
+                    copy[i++] = LOGGER_LISTENER;
+                if (stopWatch)
+                    copy[i++] = new StopWatchListener();
+
+                result = copy;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Provide the listeners from a <code>Configuration</code>'s
+     * {@link ExecuteListenerProvider}s.
+     * <p>
+     * A {@link DefaultExecuteListenerProvider} always provides the same
+     * listener. If all providers are such providers, the listeners are cached
+     * in the configuration, for as long as its providers don't change.
+     */
+    private static final ExecuteListener[] providedListeners(Configuration configuration) {
+        ExecuteListenerProvider[] providers = configuration.executeListenerProviders();
+
+        if (providers == null || providers.length == 0)
+            return EMPTY_EXECUTE_LISTENER;
+
+        Object cached = configuration.data(DATA_EXECUTE_LISTENERS);
+        if (cached instanceof ProvidedListeners && ((ProvidedListeners) cached).providers == providers)
+            return ((ProvidedListeners) cached).listeners;
+
+        ExecuteListener[] result = new ExecuteListener[providers.length];
+        boolean cacheable = true;
+        int size = 0;
+
+        for (ExecuteListenerProvider provider : providers) {
 
             // Could be null after deserialisation
-            if (provider != null)
-                result.add(provider.provide());
+            if (provider != null) {
+                result[size++] = provider.provide();
+                cacheable = cacheable && provider instanceof DefaultExecuteListenerProvider;
+            }
+        }
 
-        if (!FALSE.equals(ctx.configuration().settings().isExecuteLogging())) {
-            result.add(new LoggerListener());
-            result.add(new StopWatchListener());
+        if (size < result.length) {
+            ExecuteListener[] copy = new ExecuteListener[size];
+            System.arraycopy(result, 0, copy, 0, size);
+            result = copy;
         }
 
-        return result.toArray(EMPTY_EXECUTE_LISTENER);
+        if (cacheable)
+            configuration.data(DATA_EXECUTE_LISTENERS, new ProvidedListeners(providers, result));
+
+        return result;
+    }
+
+    /**
+     * The cached listeners of a set of {@link ExecuteListenerProvider}s.
+     */
+    private static final class ProvidedListeners implements Serializable {
+
+        /**
+         * Generated UID
+         */
+        private static final long                 serialVersionUID = -3390946916226009146L;
+
+        final transient ExecuteListenerProvider[] providers;
+        final transient ExecuteListener[]         listeners;
+
+        ProvidedListeners(ExecuteListenerProvider[] providers, ExecuteListener[] listeners) {
+            this.providers = providers;
+            this.listeners = listeners;
+        }
     }
 
     @Override
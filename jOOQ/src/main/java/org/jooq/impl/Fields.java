@@ -46,6 +46,8 @@ import static org.jooq.impl.Tools.indexOrFail;
 
 import java.sql.SQLWarning;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.jooq.Clause;
 import org.jooq.Context;
@@ -68,8 +70,20 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
 
     private static final long       serialVersionUID = -6911012275707591576L;
     private static final JooqLogger log              = JooqLogger.getLogger(Fields.class);
+
+    /**
+     * The number of fields up to which a linear search by identity is cheaper
+     * than an index lookup.
+     */
+    private static final int        INDEX_THRESHOLD  = 8;
+
     Field<?>[]                      fields;
 
+    /**
+     * A lazily initialised index of {@link #fields} by identity.
+     */
+    private transient volatile Map<Field<?>, Integer> index;
+
     Fields(Field<?>... fields) {
         this.fields = fields;
     }
@@ -90,9 +104,9 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
             return null;
 
         // [#4540] Try finding a match by identity
-        for (Field<?> f : fields)
-            if (f == field)
-                return (Field<T>) f;
+        int i = identityIndexOf(field);
+        if (i >= 0)
+            return (Field<T>) fields[i];
 
         // [#1802] Try finding an exact match (e.g. exact matching qualified name)
         for (Field<?> f : fields)
@@ -259,18 +273,20 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
     @Override
     public final int indexOf(Field<?> field) {
 
+        // [#4540] Match by identity first
+        int i = identityIndexOf(field);
+        if (i >= 0)
+            return i;
+
         // Get an exact match, or a field with a similar name
         Field<?> compareWith = field(field);
 
         if (compareWith != null) {
-            int size = fields.length;
-
-            // [#4540] Match by identity first
-            for (int i = 0; i < size; i++)
-                if (fields[i] == compareWith)
-                    return i;
+            i = identityIndexOf(compareWith);
+            if (i >= 0)
+                return i;
 
-            for (int i = 0; i < size; i++)
+            for (i = 0; i < fields.length; i++)
                 if (fields[i].equals(compareWith))
                     return i;
         }
@@ -278,6 +294,40 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
         return -1;
     }
 
+    /**
+     * The index of the first field that is identical to the argument field, or
+     * <code>-1</code> if no such field exists.
+     * <p>
+     * This is a constant-time lookup for larger rows. The index is shared by
+     * all records referencing this <code>Fields</code> instance, e.g. all
+     * records of a table.
+     */
+    private final int identityIndexOf(Field<?> field) {
+        Field<?>[] f = fields;
+
+        if (f.length <= INDEX_THRESHOLD) {
+            for (int i = 0; i < f.length; i++)
+                if (f[i] == field)
+                    return i;
+
+            return -1;
+        }
+
+        Map<Field<?>, Integer> map = index;
+        if (map == null) {
+            map = new IdentityHashMap<Field<?>, Integer>(f.length);
+
+            // Iterate backwards, such that the first of several identical fields wins
+            for (int i = f.length - 1; i >= 0; i--)
+                map.put(f[i], i);
+
+            index = map;
+        }
+
+        Integer result = map.get(field);
+        return result == null ? -1 : result;
+    }
+
     @Override
     public final int indexOf(String fieldName) {
         return indexOf(field(fieldName));
@@ -394,5 +444,6 @@ final class Fields<R extends Record> extends AbstractQueryPart implements Record
         result[fields.length] = f;
 
         fields = result;
+        index = null;
     }
 }
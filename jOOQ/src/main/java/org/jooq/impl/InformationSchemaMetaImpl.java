@@ -425,6 +425,9 @@ public static void main(String[] args) {
         return unmodifiableList(primaryKeys);
     }
 
+    @Override
+    public final void invalidate() {}
+
     private final class InformationSchemaCatalog extends CatalogImpl {
 
         /**
@@ -61,6 +61,7 @@ import static org.jooq.impl.Tools.DataKey.DATA_INSERT_SELECT_WITHOUT_INSERT_COLU
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.jooq.Clause;
@@ -72,6 +73,7 @@ import org.jooq.InsertQuery;
 import org.jooq.Merge;
 import org.jooq.MergeNotMatchedStep;
 import org.jooq.MergeOnConditionStep;
+import org.jooq.Param;
 import org.jooq.QueryPart;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
@@ -513,4 +515,29 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
     public final boolean isExecutable() {
         return insertMaps.isExecutable() || defaultValues || select != null;
     }
+
+    /**
+     * The values of a plain, single-row <code>INSERT .. VALUES</code>
+     * statement, if they are all bind values, or <code>null</code> if this
+     * statement cannot be rewritten into a multi-row statement.
+     */
+    final FieldMapForInsert singleRowBindValues() {
+        if (with != null
+                || select != null
+                || defaultValues
+                || onDuplicateKeyUpdate
+                || onDuplicateKeyIgnore
+                || !returning.isEmpty())
+            return null;
+
+        List<FieldMapForInsert> maps = insertMaps.insertMaps;
+        if (maps.get(0) == null || (maps.size() > 1 && (maps.size() > 2 || maps.get(1) != null)))
+            return null;
+
+        for (Field<?> value : maps.get(0).values())
+            if (!(value instanceof Param) || ((Param<?>) value).isInline())
+                return null;
+
+        return maps.get(0);
+    }
 }
@@ -56,15 +56,23 @@ import java.nio.charset.CharsetDecoder;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Stream;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.InsertQuery;
@@ -90,6 +98,7 @@ import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.csv.CSVParser;
 import org.jooq.tools.csv.CSVReader;
+import org.jooq.tools.csv.MappedCSVReader;
 
 import org.xml.sax.InputSource;
 
@@ -135,6 +144,8 @@ final class LoaderImpl<R extends Record> implements
     private static final int             CONTENT_JSON            = 2;
     private static final int             CONTENT_ARRAYS          = 3;
 
+    private static final int             CHUNK_SIZE              = 1000;
+
     // Configuration data
     // ------------------
     private final DSLContext             create;
@@ -148,6 +159,7 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter              = 1;
     private int                          bulk                    = BULK_NONE;
     private int                          bulkAfter               = 1;
+    private int                          parallelism             = 1;
     private int                          content                 = CONTENT_CSV;
     private final InputDelay             data                    = new InputDelay();
     private Iterator<? extends Object[]> arrays;
@@ -158,6 +170,7 @@ final class LoaderImpl<R extends Record> implements
     private char                         quote                   = CSVParser.DEFAULT_QUOTE_CHARACTER;
     private char                         separator               = CSVParser.DEFAULT_SEPARATOR;
     private String                       nullString              = null;
+    private boolean                      memoryMapped            = false;
     private Field<?>[]                   source;
     private Field<?>[]                   fields;
     private LoaderFieldMapper            fieldMapper;
@@ -172,6 +185,7 @@ final class LoaderImpl<R extends Record> implements
     private int                          stored;
     private int                          executed;
     private int                          buffered;
+    private boolean                      aborted;
     private final List<LoaderError>      errors;
 
     LoaderImpl(Configuration configuration, Table<R> table) {
@@ -286,6 +300,12 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> parallel(int number) {
+        parallelism = number;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -603,6 +623,12 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> memoryMapped() {
+        this.memoryMapped = true;
+        return this;
+    }
+
     // -------------------------------------------------------------------------
     // XML configuration
     // -------------------------------------------------------------------------
@@ -652,6 +678,9 @@ final class LoaderImpl<R extends Record> implements
 
         if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
+
+        if (parallel() && (commit == COMMIT_ALL || batch == BATCH_ALL || bulk == BULK_ALL))
+            throw new LoaderConfigurationException("Cannot apply parallel loading with commitAll, batchAll or bulkAll flags. Turn off either flag.");
     }
 
     private void executeJSON() throws IOException {
@@ -679,6 +708,13 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeCSV() throws IOException {
+        Charset charset = memoryMapped ? data.charset() : null;
+
+        if (MappedCSVReader.supports(charset, separator, quote, CSVParser.DEFAULT_ESCAPE_CHARACTER)) {
+            executeMappedCSV(charset);
+            return;
+        }
+
         CSVReader reader = null;
 
         try {
@@ -704,6 +740,47 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    private final void executeMappedCSV(Charset charset) throws IOException {
+        FileInputStream in = null;
+        MappedCSVReader reader = null;
+
+        try {
+            in = new FileInputStream(data.file);
+            reader = new MappedCSVReader(in.getChannel(), charset, separator, quote, ignoreRows == 1 ? 0 : ignoreRows);
+
+            if (ignoreRows == 1)
+                source = Tools.fieldsByName(reader.next());
+
+            // [#5145] The LoaderFieldMapper can be applied off the header, in
+            //         order to know what columns need to be decoded
+            if (fields == null && fieldMapper != null && source != null)
+                fields0(new Object[source.length]);
+
+            if (fields != null) {
+                boolean[] decode = new boolean[fields.length];
+
+                for (int i = 0; i < fields.length; i++)
+                    decode[i] = fields[i] != null;
+
+                reader.columns(decode);
+            }
+
+            executeSQL(reader);
+        }
+
+        // SQLExceptions originating from rollbacks or commits are always fatal
+        // They are propagated, and not swallowed
+        catch (SQLException e) {
+            throw Tools.translate(null, e);
+        }
+        finally {
+            if (reader != null)
+                reader.close();
+            if (in != null)
+                in.close();
+        }
+    }
+
     private void executeRows() {
         try {
             executeSQL(arrays);
@@ -717,6 +794,11 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private void executeSQL(Iterator<? extends Object[]> iterator) throws SQLException {
+        if (parallel()) {
+            executeParallel(iterator);
+            return;
+        }
+
         Object[] row = null;
         BatchBindStep bind = null;
         InsertQuery<R> insert = null;
@@ -883,6 +965,236 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    /**
+     * Whether rows are loaded in parallel.
+     * <p>
+     * A {@link DefaultConnectionProvider} provides only a single connection,
+     * which cannot be shared by several chunks.
+     */
+    private boolean parallel() {
+        return parallelism > 1 && !(configuration.connectionProvider() instanceof DefaultConnectionProvider);
+    }
+
+    /**
+     * Split rows into chunks and load each chunk with a separate
+     * {@link LoaderImpl} on its own connection.
+     */
+    private void executeParallel(Iterator<? extends Object[]> iterator) throws SQLException {
+        Executor executor = configuration.executorProvider().provide();
+        Deque<Chunk> chunks = new ArrayDeque<Chunk>();
+
+        // Chunks contain about CHUNK_SIZE rows, but never split a bulk
+        // statement, a batch, or a transaction
+        int unit =
+              (bulk == BULK_AFTER ? bulkAfter : 1)
+            * (batch == BATCH_AFTER ? batchAfter : 1)
+            * (commit == COMMIT_AFTER ? commitAfter : 1);
+        int size = unit * Math.max(1, (CHUNK_SIZE + unit - 1) / unit);
+
+        int offset = 0;
+        Object[] row = null;
+        List<Object[]> rows = new ArrayList<Object[]>();
+
+        try {
+            while (!aborted) {
+                boolean last = !iterator.hasNext() || (row = iterator.next()) == null;
+
+                if (!last) {
+
+                    // [#5145] Lazy initialisation of fields off the first row
+                    //         in case LoaderFieldMapper was used.
+                    if (fields == null)
+                        fields0(row);
+
+                    // Readers may reuse row arrays between rows
+                    rows.add(row.clone());
+                }
+
+                if (rows.size() == size || (last && !rows.isEmpty())) {
+
+                    // Wait for the oldest chunk to complete, if all connections are busy
+                    if (chunks.size() >= parallelism)
+                        merge(chunks.poll());
+
+                    if (!aborted) {
+                        Chunk chunk = new Chunk(rows, offset);
+                        chunks.add(chunk);
+                        executor.execute(chunk);
+
+                        offset += rows.size();
+                        rows = new ArrayList<Object[]>();
+                    }
+                }
+
+                if (last)
+                    break;
+            }
+
+            while (!chunks.isEmpty() && !aborted)
+                merge(chunks.poll());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while loading", e);
+        }
+
+        // Chunks are left only if loading failed or was aborted
+        finally {
+            cancel(chunks);
+        }
+    }
+
+    /**
+     * Cancel chunks, interrupting those that are being loaded, and wait for
+     * those to stop, such that no connection is in use anymore when loading
+     * stops.
+     * <p>
+     * The outcome of chunks that completed nonetheless is added to this
+     * loader's outcome.
+     */
+    private void cancel(Collection<Chunk> chunks) {
+        boolean interrupted = false;
+
+        for (Chunk chunk : chunks)
+            chunk.cancel(true);
+
+        for (Chunk chunk : chunks) {
+            if (chunk.started) {
+                for (;;) {
+                    try {
+                        chunk.stopped.await();
+                        break;
+                    }
+                    catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+
+            if (chunk.loader != null)
+                merge(chunk.loader, chunk.offset);
+        }
+
+        chunks.clear();
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Wait for a chunk to complete and add its outcome to this loader's
+     * outcome.
+     */
+    private void merge(Chunk chunk) throws SQLException, InterruptedException {
+        LoaderImpl<R> loader;
+
+        try {
+            loader = chunk.get();
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof SQLException)
+                throw (SQLException) cause;
+            else if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            else if (cause instanceof Error)
+                throw (Error) cause;
+            else
+                throw new DataAccessException("Error while loading", cause);
+        }
+
+        merge(loader, chunk.offset);
+    }
+
+    /**
+     * Add a chunk's outcome to this loader's outcome.
+     */
+    private void merge(LoaderImpl<R> loader, int offset) {
+        processed += loader.processed;
+        stored += loader.stored;
+        executed += loader.executed;
+        ignored += loader.ignored;
+
+        for (LoaderError error : loader.errors)
+            errors.add(new LoaderErrorImpl(error.exception(), error.row(), error.rowIndex() + offset, error.query()));
+
+        if (listener != null)
+            for (int i = 0; i < loader.processed; i++)
+                listener.row(result);
+
+        if (onError == ON_ERROR_ABORT && !loader.errors.isEmpty())
+            aborted = true;
+    }
+
+    /**
+     * A chunk of rows that is loaded on its own connection.
+     */
+    private class Chunk extends FutureTask<LoaderImpl<R>> {
+
+        final int                      offset;
+        final CountDownLatch           stopped = new CountDownLatch(1);
+        volatile boolean               started;
+
+        /**
+         * The loader of a completed chunk, even if it was cancelled.
+         */
+        volatile LoaderImpl<R>         loader;
+
+        Chunk(final List<Object[]> rows, int offset) {
+            super(new Callable<LoaderImpl<R>>() {
+                @Override
+                public LoaderImpl<R> call() throws SQLException {
+                    ConnectionProvider provider = configuration.connectionProvider();
+                    Connection connection = provider.acquire();
+
+                    try {
+                        LoaderImpl<R> loader = new LoaderImpl<R>(configuration.derive(new DefaultConnectionProvider(connection)), table);
+
+                        loader.onDuplicate = onDuplicate;
+                        loader.onError = onError;
+                        loader.commit = commit;
+                        loader.commitAfter = commitAfter;
+                        loader.batch = batch;
+                        loader.batchAfter = batchAfter;
+                        loader.bulk = bulk;
+                        loader.bulkAfter = bulkAfter;
+                        loader.nullString = nullString;
+                        loader.source = source;
+                        loader.fields = fields;
+                        loader.primaryKey = primaryKey;
+
+                        loader.executeSQL(rows.iterator());
+                        return loader;
+                    }
+                    finally {
+                        provider.release(connection);
+                    }
+                }
+            });
+
+            this.offset = offset;
+        }
+
+        @Override
+        public void run() {
+            started = true;
+
+            try {
+                super.run();
+            }
+            finally {
+                stopped.countDown();
+            }
+        }
+
+        @Override
+        protected void set(LoaderImpl<R> v) {
+            loader = v;
+            super.set(v);
+        }
+    }
+
     private void commit() throws SQLException {
         Connection connection = configuration.connectionProvider().acquire();
 
@@ -1007,6 +1319,23 @@ final class LoaderImpl<R extends Record> implements
         Charset        cs;
         CharsetDecoder dec;
 
+        /**
+         * The charset of a file input, or <code>null</code> if the input is
+         * not a file.
+         */
+        Charset charset() {
+            if (file == null)
+                return null;
+            else if (charsetName != null)
+                return Charset.forName(charsetName);
+            else if (cs != null)
+                return cs;
+            else if (dec != null)
+                return dec.charset();
+            else
+                return Charset.defaultCharset();
+        }
+
         BufferedReader reader() throws IOException {
             if (reader != null)
                 return reader;
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.conf.Settings;
+
+/**
+ * A {@link org.jooq.Configuration}-scoped cache of {@link DatabaseMetaData}
+ * call results, as used by {@link MetaImpl}.
+ * <p>
+ * Results are cached per call, when they are first needed, and expire after
+ * {@link Settings#getMetaCacheTTL()} milliseconds. Readers don't lock the
+ * cache. Concurrent readers may call the same {@link DatabaseMetaData} method
+ * twice before its result is cached, in case of which the last result wins.
+ * <p>
+ * Cached results are shared between readers, and must not be modified.
+ *
+ * @author Lukas Eder
+ */
+final class MetaCache {
+
+    private final long                                ttl;
+    private final ConcurrentMap<List<?>, CachedValue> values;
+
+    MetaCache(long ttl) {
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.values = new ConcurrentHashMap<List<?>, CachedValue>();
+    }
+
+    /**
+     * Get a cached result, or <code>null</code> if no result is cached or if
+     * the cached result has expired.
+     *
+     * @param key The {@link DatabaseMetaData} method name and its arguments.
+     */
+    final Result<Record> get(List<?> key) {
+        CachedValue value = values.get(key);
+
+        if (value == null)
+            return null;
+
+        if (System.nanoTime() - value.created > ttl) {
+            values.remove(key, value);
+            return null;
+        }
+
+        return value.result;
+    }
+
+    /**
+     * Cache a result.
+     *
+     * @param key The {@link DatabaseMetaData} method name and its arguments.
+     */
+    final void put(List<?> key, Result<Record> result) {
+        values.put(key, new CachedValue(result, System.nanoTime()));
+    }
+
+    /**
+     * Discard all cached results.
+     */
+    final void invalidate() {
+        values.clear();
+    }
+
+    private static final class CachedValue {
+        final Result<Record> result;
+        final long           created;
+
+        CachedValue(Result<Record> result, long created) {
+            this.result = result;
+            this.created = created;
+        }
+    }
+}
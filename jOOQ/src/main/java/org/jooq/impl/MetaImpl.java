@@ -86,6 +86,7 @@ import static org.jooq.SQLDialect.MARIADB;
 import static org.jooq.SQLDialect.MYSQL;
 import static org.jooq.SQLDialect.SQLITE;
 import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Tools.metaCache;
 
 import java.io.Serializable;
 import java.sql.Connection;
@@ -151,13 +152,37 @@ final class MetaImpl implements Meta, Serializable {
         Result<Record> run(DatabaseMetaData meta) throws SQLException;
     }
 
-    private final Result<Record> meta(MetaFunction consumer) {
-        return ctx.connectionResult(new ConnectionCallable<Result<Record>>() {
-            @Override
-            public Result<Record> run(Connection connection) throws SQLException {
-                return consumer.run(connection.getMetaData());
-            }
-        });
+    /**
+     * Run a {@link MetaFunction}, or get its result from the {@link MetaCache}.
+     *
+     * @param key The {@link DatabaseMetaData} method name and its arguments.
+     */
+    private final Result<Record> meta(MetaFunction consumer, Object... key) {
+        MetaCache cache = metaCache(configuration);
+        List<Object> k = asList(key);
+        Result<Record> result = cache == null ? null : cache.get(k);
+
+        if (result == null) {
+            result = ctx.connectionResult(new ConnectionCallable<Result<Record>>() {
+                @Override
+                public Result<Record> run(Connection connection) throws SQLException {
+                    return consumer.run(connection.getMetaData());
+                }
+            });
+
+            if (cache != null)
+                cache.put(k, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public final void invalidate() {
+        MetaCache cache = metaCache(configuration);
+
+        if (cache != null)
+            cache.invalidate();
     }
 
     @Override
@@ -174,7 +199,7 @@ final class MetaImpl implements Meta, Serializable {
                         SQLDataType.VARCHAR // TABLE_CATALOG
                     );
                 }
-            });
+            }, "getCatalogs");
 
             for (String name : catalogs.getValues(0, String.class))
                 result.add(new MetaCatalog(name));
@@ -266,7 +291,7 @@ final class MetaImpl implements Meta, Serializable {
                             SQLDataType.VARCHAR // TABLE_SCHEM
                         );
                     }
-                });
+                }, "getSchemas");
 
 
                 for (String name : schemas.getValues(0, String.class)) {
@@ -284,7 +309,7 @@ final class MetaImpl implements Meta, Serializable {
                             SQLDataType.VARCHAR  // TABLE_CATALOG
                         );
                     }
-                });
+                }, "getCatalogs");
 
                 for (String name : schemas.getValues(0, String.class)) {
                     result.add(new MetaSchema(name, MetaCatalog.this));
@@ -313,7 +338,7 @@ final class MetaImpl implements Meta, Serializable {
         }
 
         @Override
-        public final synchronized List<Table<?>> getTables() {
+        public final List<Table<?>> getTables() {
             Result<Record> tables = meta(new MetaFunction() {
                 @Override
                 public Result<Record> run(DatabaseMetaData meta) throws SQLException {
@@ -373,7 +398,7 @@ final class MetaImpl implements Meta, Serializable {
                         SQLDataType.VARCHAR  // TABLE_TYPE
                     );
                 }
-            });
+            }, "getTables", getName());
 
             List<Table<?>> result = new ArrayList<Table<?>>();
             for (Record table : tables) {
@@ -415,17 +440,21 @@ final class MetaImpl implements Meta, Serializable {
                     tableName
                 });
 
-                columnCache = new LinkedHashMap<Name, Result<Record>>();
+                Map<Name, Result<Record>> cache = new LinkedHashMap<Name, Result<Record>>();
 
                 for (Entry<Record, Result<Record>> entry : groups.entrySet()) {
                     Record key = entry.getKey();
                     Result<Record> value = entry.getValue();
-                    columnCache.put(name(key.get(inverseSchemaCatalog ? tableCat : tableSchem), key.get(tableName)), value);
+                    cache.put(name(key.get(inverseSchemaCatalog ? tableCat : tableSchem), key.get(tableName)), value);
                 }
+
+                // Publish the fully initialised map only, as readers don't synchronize
+                columnCache = cache;
             }
 
-            if (columnCache != null) {
-                return columnCache.get(name(schema, table));
+            Map<Name, Result<Record>> cache = columnCache;
+            if (cache != null) {
+                return cache.get(name(schema, table));
             }
             else {
                 return getColumns0(schema, table);
@@ -466,7 +495,7 @@ final class MetaImpl implements Meta, Serializable {
                         int.class     // NULLABLE
                     );
                 }
-            });
+            }, "getColumns", schema, table);
         }
     }
 
@@ -518,7 +547,7 @@ final class MetaImpl implements Meta, Serializable {
                         rs = meta.getPrimaryKeys(schema, null, getName());
                     }
 
-                    return
+                    Result<Record> r =
                     ctx.fetch(
                         rs,
                         String.class, // TABLE_CAT
@@ -528,11 +557,13 @@ final class MetaImpl implements Meta, Serializable {
                         int.class,    // KEY_SEQ
                         String.class  // PK_NAME
                     );
+
+                    // Sort by KEY_SEQ before the result is cached
+                    r.sortAsc(4);
+                    return r;
                 }
-            });
+            }, "getPrimaryKeys", schema, getName());
 
-            // Sort by KEY_SEQ
-            result.sortAsc(4);
             return createPrimaryKey(result, 3);
         }
 
@@ -564,7 +595,7 @@ final class MetaImpl implements Meta, Serializable {
                         String.class   // PK_NAME
                     );
                 }
-            });
+            }, "getImportedKeys", getSchema().getName(), getName());
 
             Map<Record, Result<Record>> groups = result.intoGroups(new Field[] {
                 result.field(inverseSchemaCatalog ? 1 : 0),
@@ -768,7 +799,7 @@ final class MetaImpl implements Meta, Serializable {
                         String.class   // PK_NAME
                     );
                 }
-            });
+            }, "getExportedKeys", pkTable.getSchema().getName(), pkTable.getName());
 
             Map<Record, Result<Record>> groups = result.intoGroups(new Field[] {
                 result.field(inverseSchemaCatalog ? 5 : 4),
@@ -0,0 +1,481 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.min;
+import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.using;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * The implementation of
+ * {@link org.jooq.DSLContext#fetchParallel(Select, Field, int)} and
+ * {@link org.jooq.DSLContext#fetchParallelStream(Select, Field, int, boolean)}.
+ * <p>
+ * A <code>SELECT</code> query is wrapped in a derived table, whose key range
+ * is split into contiguous partitions, based on the key's
+ * <code>MIN()</code> and <code>MAX()</code> values. Each partition is fetched
+ * by a separate query, which runs on an {@link Executor} provided by
+ * {@link Configuration#executorProvider()}, using its own connection from
+ * {@link Configuration#connectionProvider()}. The first failing partition
+ * cancels all other partitions.
+ *
+ * @author Lukas Eder
+ */
+final class PartitionedFetch<R extends Record> {
+
+    private static final JooqLogger        log         = JooqLogger.getLogger(PartitionedFetch.class);
+
+    /**
+     * The number of records that each partition may buffer ahead of a
+     * streaming consumer.
+     */
+    private static final int               BUFFER_SIZE = 1000;
+
+    /**
+     * The maximum time in nanoseconds that a partition waits for a streaming
+     * consumer to consume records from a full queue.
+     */
+    private static final long              TIMEOUT     = TimeUnit.MINUTES.toNanos(1);
+
+    private final Configuration            configuration;
+    private final Table<R>                 table;
+    private final Field<? extends Number>  key;
+    private final int                      partitions;
+
+    PartitionedFetch(Configuration configuration, Select<R> query, Field<? extends Number> key, int partitions) {
+        if (partitions < 1)
+            throw new IllegalArgumentException("Number of partitions must be at least 1: " + partitions);
+
+        this.configuration = configuration;
+        this.table = query.asTable("q");
+        this.key = table.field(key);
+        this.partitions = partitions;
+
+        if (this.key == null)
+            throw new IllegalArgumentException("Field " + key + " is not contained in the query's SELECT clause");
+    }
+
+    /**
+     * Whether partitions can be fetched concurrently.
+     * <p>
+     * A single connection must not be used by several threads concurrently.
+     */
+    private final boolean parallel(List<Condition> conditions) {
+        return conditions.size() > 1 && !(configuration.connectionProvider() instanceof DefaultConnectionProvider);
+    }
+
+    /**
+     * Cancel all tasks, interrupting those that are already running.
+     */
+    private static final void cancel(List<? extends FutureTask<?>> tasks) {
+        for (FutureTask<?> task : tasks)
+            task.cancel(true);
+    }
+
+    final Result<R> fetch() {
+        final DSLContext create = using(configuration);
+        List<Condition> conditions = conditions(create);
+
+        boolean parallel = parallel(conditions);
+        List<FutureTask<Result<R>>> tasks = new ArrayList<FutureTask<Result<R>>>(conditions.size());
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Executor executor = parallel ? configuration.executorProvider().provide() : null;
+
+        for (final Condition condition : conditions) {
+            tasks.add(new PartitionTask<Result<R>>(new Callable<Result<R>>() {
+                @Override
+                public Result<R> call() {
+                    return create.selectFrom(table).where(condition).fetch();
+                }
+            }, tasks, failure));
+        }
+
+        for (FutureTask<Result<R>> task : tasks)
+            if (parallel)
+                executor.execute(task);
+            else
+                task.run();
+
+        // Records are merged in partition order, i.e. ordered by key ranges
+        Result<R> result = null;
+        try {
+            for (FutureTask<Result<R>> task : tasks) {
+                if (result == null)
+                    result = task.get();
+                else
+                    result.addAll(task.get());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while waiting for partitions to be fetched", e);
+        }
+        // Report the first failure, rather than the first failed partition
+        catch (ExecutionException e) {
+            throw rethrow(failure.get());
+        }
+        catch (CancellationException e) {
+            throw rethrow(failure.get());
+        }
+        finally {
+            cancel(tasks);
+        }
+
+        return result;
+    }
+
+    final Stream<R> stream(boolean ordered) {
+        final DSLContext create = using(configuration);
+        List<Condition> conditions = conditions(create);
+
+        // Sequentially fetched partitions are always ordered
+        if (!parallel(conditions))
+            return conditions.stream().flatMap(c -> create.selectFrom(table).where(c).fetchStream());
+
+        Merger merger = new Merger(create, conditions, ordered);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                merger,
+                ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL
+            ),
+            false
+        ).onClose(() -> merger.close());
+    }
+
+    private static final RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException)
+            throw (RuntimeException) cause;
+        else if (cause instanceof Error)
+            throw (Error) cause;
+        else
+            throw new DataAccessException("Error while fetching partition", cause);
+    }
+
+    /**
+     * A task fetching a partition, which cancels all other partitions' tasks
+     * when it fails first.
+     */
+    private static final class PartitionTask<T> extends FutureTask<T> {
+
+        private final List<? extends FutureTask<?>> tasks;
+        private final AtomicReference<Throwable>    failure;
+
+        PartitionTask(Callable<T> callable, List<? extends FutureTask<?>> tasks, AtomicReference<Throwable> failure) {
+            super(callable);
+
+            this.tasks = tasks;
+            this.failure = failure;
+        }
+
+        @Override
+        protected final void setException(Throwable t) {
+            super.setException(t);
+
+            // Failures of cancelled tasks are ignored. Otherwise, this task is
+            // already done here, and will not be cancelled itself
+            if (!isCancelled() && failure.compareAndSet(null, t))
+                PartitionedFetch.cancel(tasks);
+        }
+    }
+
+    /**
+     * An iterator that merges records from partitions, which are fetched
+     * concurrently by background tasks.
+     * <p>
+     * The background tasks and client code communicate through bounded
+     * queues containing records and a final {@link #END} element per
+     * partition. Ordered merging uses a queue per partition, which are
+     * consumed one after the other. Unordered merging uses a single queue
+     * shared by all partitions.
+     * <p>
+     * The background tasks hold on to their cursors, so an abandoned stream
+     * would keep its connections forever. Instead, the merger is closed if
+     * client code does not consume any records from a full queue within
+     * {@link #TIMEOUT}.
+     */
+    private final class Merger implements Iterator<R> {
+
+        private final DSLContext                    create;
+        private final List<Condition>               conditions;
+        private final boolean                       ordered;
+        private final List<BlockingQueue<Object>>   queues;
+        private final List<FutureTask<Void>>        tasks;
+        private final AtomicReference<Throwable>    failure;
+        private volatile boolean                    cancelled;
+        private volatile boolean                    abandoned;
+        private boolean                             started;
+        private int                                 ended;
+
+        /**
+         * The next record taken from a queue, if any.
+         */
+        private Object                              next;
+
+        Merger(DSLContext create, List<Condition> conditions, boolean ordered) {
+            this.create = create;
+            this.conditions = conditions;
+            this.ordered = ordered;
+            this.queues = new ArrayList<BlockingQueue<Object>>();
+            this.tasks = new ArrayList<FutureTask<Void>>();
+            this.failure = new AtomicReference<Throwable>();
+
+            if (ordered)
+                for (int i = 0; i < conditions.size(); i++)
+                    queues.add(new ArrayBlockingQueue<Object>(BUFFER_SIZE));
+            else
+                queues.add(new ArrayBlockingQueue<Object>(BUFFER_SIZE * conditions.size()));
+        }
+
+        /**
+         * Start fetching all partitions.
+         * <p>
+         * This is delayed until records are requested, such that no
+         * connections are acquired by streams that are never consumed.
+         */
+        private final void start() {
+            Executor executor = configuration.executorProvider().provide();
+
+            for (int i = 0; i < conditions.size(); i++) {
+                final Condition condition = conditions.get(i);
+                final BlockingQueue<Object> queue = queues.get(ordered ? i : 0);
+
+                tasks.add(new PartitionTask<Void>(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        try (Cursor<R> cursor = create.selectFrom(table).where(condition).fetchLazy()) {
+                            for (R record : cursor)
+                                if (!put(queue, record))
+                                    return null;
+
+                            put(queue, END);
+                        }
+
+                        return null;
+                    }
+                }, tasks, failure));
+            }
+
+            for (FutureTask<Void> task : tasks)
+                executor.execute(task);
+        }
+
+        /**
+         * Put an element in a queue, unless fetching is cancelled or
+         * abandoned while waiting for the queue to drain, and return whether
+         * more records should be put.
+         */
+        private final boolean put(BlockingQueue<Object> queue, Object element) {
+            long deadline = System.nanoTime() + TIMEOUT;
+
+            try {
+                while (!cancelled && failure.get() == null) {
+                    if (System.nanoTime() - deadline > 0) {
+                        log.warn("Partitioned fetch", "Closing stream, as no records were consumed within " + TimeUnit.NANOSECONDS.toSeconds(TIMEOUT) + " seconds. Streams must be closed explicitly.");
+                        abandoned = true;
+
+                        // The partitions' cursors are closed when their tasks
+                        // stop, including this one
+                        close();
+                        return false;
+                    }
+
+                    if (queue.offer(element, 10, TimeUnit.MILLISECONDS))
+                        return true;
+                }
+            }
+
+            // Tasks are interrupted when they are cancelled
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return false;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            if (next == null) {
+                if (!started) {
+                    start();
+                    started = true;
+                }
+
+                while (next == null && !cancelled && ended < conditions.size()) {
+                    Object element;
+
+                    try {
+                        element = queues.get(ordered ? ended : 0).poll(10, TimeUnit.MILLISECONDS);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new DataAccessException("Interrupted while waiting for records to be fetched", e);
+                    }
+
+                    // Failures are reported as soon as possible, even if
+                    // other partitions' records are still queued
+                    Throwable cause = failure.get();
+                    if (cause != null) {
+                        close();
+                        throw rethrow(cause);
+                    }
+
+                    if (element == END)
+                        ended++;
+                    else
+                        next = element;
+                }
+
+                if (next == null && abandoned)
+                    throw new DataAccessException("The stream was closed, as no records were consumed within " + TimeUnit.NANOSECONDS.toSeconds(TIMEOUT) + " seconds");
+            }
+
+            return next != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final R next() {
+            if (!hasNext())
+                throw new NoSuchElementException("There are no more records to fetch from this partitioned query");
+
+            R result = (R) next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * Stop fetching any partitions.
+         */
+        final void close() {
+            cancelled = true;
+            cancel(tasks);
+        }
+    }
+
+    /**
+     * The queue element signalling that all records of a partition have been
+     * read.
+     */
+    private static final Object END = new Object();
+
+    /**
+     * Split the key range into partitions, and return a condition per
+     * partition.
+     * <p>
+     * The first partition also contains <code>NULL</code> keys, and the first
+     * and last partitions are unbounded, such that the union of all partitions
+     * is always the complete query result, even if the <code>MIN()</code> and
+     * <code>MAX()</code> values are out of date, or not integers.
+     */
+    @SuppressWarnings("unchecked")
+    private final List<Condition> conditions(DSLContext create) {
+        List<Condition> result = new ArrayList<Condition>();
+        Record2<? extends Number, ? extends Number> range = create.select(min(key), max(key)).from(table).fetchOne();
+
+        if (range.value1() == null || partitions == 1) {
+            result.add(trueCondition());
+            return result;
+        }
+
+        BigInteger lo = integer(range.value1());
+        BigInteger hi = integer(range.value2());
+        BigInteger span = hi.subtract(lo).add(BigInteger.ONE);
+        BigInteger n = span.min(BigInteger.valueOf(partitions));
+        BigInteger step = span.add(n).subtract(BigInteger.ONE).divide(n);
+
+        Field<Object> k = (Field<Object>) (Field<?>) key;
+        Object lower = null;
+
+        for (int i = 1; i <= n.intValue(); i++) {
+            Object upper = i < n.intValue() ? k.getDataType().convert(lo.add(step.multiply(BigInteger.valueOf(i)))) : null;
+
+            if (lower == null)
+                result.add(upper == null ? trueCondition() : k.lt(upper).or(k.isNull()));
+            else if (upper == null)
+                result.add(k.ge(lower));
+            else
+                result.add(k.ge(lower).and(k.lt(upper)));
+
+            lower = upper;
+        }
+
+        return result;
+    }
+
+    private static final BigInteger integer(Number number) {
+        return new BigDecimal(number.toString()).toBigInteger();
+    }
+}
@@ -40,6 +40,9 @@
  */
 package org.jooq.impl;
 
+import static java.sql.ResultSet.CONCUR_READ_ONLY;
+import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -63,11 +66,50 @@ import org.jooq.tools.jdbc.DefaultConnection;
 final class ProviderEnabledConnection extends DefaultConnection {
 
     private final ConnectionProvider connectionProvider;
+    private final StatementCache     statementCache;
+    private final Connection         physicalConnection;
 
     ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection) {
+        this(connectionProvider, connection, null);
+    }
+
+    ProviderEnabledConnection(ConnectionProvider connectionProvider, Connection connection, StatementCache statementCache) {
         super(connection);
 
         this.connectionProvider = connectionProvider;
+        this.statementCache = statementCache;
+        this.physicalConnection = statementCache != null ? physical(connection) : null;
+    }
+
+    /**
+     * The physical connection behind a pooled, logical connection, or
+     * <code>null</code> if the connection does not wrap another one.
+     * <p>
+     * Connection pools hand out a new logical connection for every checkout
+     * of the same physical connection. Statements are cached on the physical
+     * connection, such that they survive the release of the logical one.
+     */
+    private static final Connection physical(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                Connection result = connection.unwrap(Connection.class);
+
+                if (result != null && result != connection)
+                    return result;
+            }
+        }
+
+        // Some drivers and mock connections do not support unwrapping
+        catch (SQLException ignore) {}
+
+        return null;
+    }
+
+    /**
+     * The connection on which cached statements are prepared.
+     */
+    private final Connection cachingConnection() {
+        return physicalConnection != null ? physicalConnection : getDelegate();
     }
 
     // ------------------------------------------------------------------------
@@ -79,6 +121,13 @@ final class ProviderEnabledConnection extends DefaultConnection {
         Connection connection = getDelegate();
 
         if (connection != null) {
+
+            // Statements must not be cached beyond the lifecycle of a
+            // connection, unless the connection is provided by the user, or
+            // unless they were prepared on the physical connection of a pool
+            if (statementCache != null && physicalConnection == null && !(connectionProvider instanceof DefaultConnectionProvider))
+                statementCache.evict(connection);
+
             connectionProvider.release(connection);
         }
     }
@@ -109,6 +158,9 @@ final class ProviderEnabledConnection extends DefaultConnection {
 
     @Override
     public final PreparedStatement prepareStatement(String sql) throws SQLException {
+        if (statementCache != null)
+            return new ProviderEnabledPreparedStatement(this, statementCache.prepareStatement(cachingConnection(), sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, true));
+
         return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql));
     }
 
@@ -120,6 +172,9 @@ final class ProviderEnabledConnection extends DefaultConnection {
     @Override
     public final PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
         throws SQLException {
+        if (statementCache != null)
+            return new ProviderEnabledPreparedStatement(this, statementCache.prepareStatement(cachingConnection(), sql, resultSetType, resultSetConcurrency, false));
+
         return new ProviderEnabledPreparedStatement(this, getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
     }
 
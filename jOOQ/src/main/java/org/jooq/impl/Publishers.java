@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.Executor;
+
+import org.jooq.Configuration;
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Factories for Reactive Streams {@link Publisher} instances that fetch
+ * results from a {@link ResultQuery}.
+ * <p>
+ * This requires <code>org.reactivestreams:reactive-streams</code> on the
+ * classpath, which is an optional dependency of jOOQ. The {@link ResultQuery}
+ * API does not depend on it.
+ *
+ * @author Lukas Eder
+ */
+public final class Publishers {
+
+    /**
+     * Fetch results asynchronously through a Reactive Streams
+     * {@link Publisher}.
+     * <p>
+     * Each subscription executes its own copy of the query lazily (see
+     * {@link ResultQuery#fetchLazy()}) on an {@link Executor} provided by the
+     * underlying {@link Configuration#executorProvider()}, as soon as the
+     * first demand is signalled. Concurrent subscriptions thus do not share
+     * any statement, cursor or result state. The copies render the same SQL
+     * as the query, which must not be modified while subscriptions are
+     * active.
+     * <p>
+     * Records are then fetched from the underlying {@link ResultSet} only as
+     * they are requested, such that no more than the requested number of
+     * records is held in memory. The JDBC driver may buffer records according
+     * to {@link ResultQuery#fetchSize(int)}.
+     * <p>
+     * Cancelling a subscription cancels the underlying {@link Statement} and
+     * closes the underlying {@link Cursor}.
+     *
+     * @param query The query to fetch results from. This must be a query
+     *            created by jOOQ.
+     * @return The publisher. This will never be <code>null</code>.
+     */
+    public static <R extends Record> Publisher<R> of(ResultQuery<R> query) {
+        AbstractResultQuery<R> q = resultQuery(query);
+        return ResultQueryPublisher.of(q, () -> Tools.configuration(q).executorProvider().provide());
+    }
+
+    /**
+     * Fetch results asynchronously through a {@link Publisher} whose records
+     * are fetched by tasks running in the given executor.
+     *
+     * @param query The query to fetch results from. This must be a query
+     *            created by jOOQ.
+     * @return The publisher. This will never be <code>null</code>.
+     * @see #of(ResultQuery)
+     */
+    public static <R extends Record> Publisher<R> of(ResultQuery<R> query, Executor executor) {
+        return ResultQueryPublisher.of(resultQuery(query), () -> executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R extends Record> AbstractResultQuery<R> resultQuery(ResultQuery<R> query) {
+        if (query instanceof AbstractResultQuery)
+            return (AbstractResultQuery<R>) query;
+        else if (query instanceof SelectImpl)
+            return (AbstractResultQuery<R>) ((SelectImpl<R, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) query).getDelegate();
+        else
+            throw new IllegalArgumentException("Unsupported query type: " + query.getClass());
+    }
+
+    private Publishers() {}
+}
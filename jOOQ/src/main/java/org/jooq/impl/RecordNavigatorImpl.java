@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.using;
+import static org.jooq.impl.Tools.maxBindValues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Deferred;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.Record;
+import org.jooq.RecordNavigator;
+import org.jooq.Result;
+import org.jooq.RowN;
+import org.jooq.Table;
+import org.jooq.TableField;
+
+/**
+ * The default implementation of {@link RecordNavigator}.
+ * <p>
+ * Requests are grouped in {@link Batch} objects, one per foreign key and
+ * navigation direction. Each batch keeps a {@link Deferred} per distinct key
+ * value, and a list of key values that still need to be fetched.
+ *
+ * @author Lukas Eder
+ */
+final class RecordNavigatorImpl implements RecordNavigator {
+
+    private final DSLContext                              create;
+    private final Map<ForeignKey<?, ?>, ParentBatch<?>>   parents;
+    private final Map<ForeignKey<?, ?>, ChildrenBatch<?>> children;
+
+    RecordNavigatorImpl(Configuration configuration) {
+        this.create = using(configuration);
+        this.parents = new LinkedHashMap<ForeignKey<?, ?>, ParentBatch<?>>();
+        this.children = new LinkedHashMap<ForeignKey<?, ?>, ChildrenBatch<?>>();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final <R extends Record, O extends Record> Deferred<O> fetchParent(ForeignKey<R, O> key, R record) {
+        ParentBatch<O> batch = (ParentBatch<O>) parents.get(key);
+
+        if (batch == null)
+            parents.put(key, batch = new ParentBatch<O>(key.getKey().getTable(), key.getKey().getFieldsArray()));
+
+        return batch.request(record, key.getFieldsArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final <R extends Record, O extends Record> Deferred<Result<R>> fetchChildren(ForeignKey<R, O> key, O record) {
+        ChildrenBatch<R> batch = (ChildrenBatch<R>) children.get(key);
+
+        if (batch == null)
+            children.put(key, batch = new ChildrenBatch<R>(key.getTable(), key.getFieldsArray()));
+
+        return batch.request(record, key.getKey().getFieldsArray());
+    }
+
+    @Override
+    public final void dispatch() {
+        for (ParentBatch<?> batch : parents.values())
+            batch.dispatch();
+
+        for (ChildrenBatch<?> batch : children.values())
+            batch.dispatch();
+    }
+
+    private final class ParentBatch<O extends Record> extends Batch<O, O> {
+        ParentBatch(Table<O> table, TableField<O, ?>[] fields) {
+            super(table, fields);
+        }
+
+        @Override
+        final O value(Result<O> result) {
+            return result == null ? null : result.get(0);
+        }
+    }
+
+    private final class ChildrenBatch<R extends Record> extends Batch<R, Result<R>> {
+        ChildrenBatch(Table<R> table, TableField<R, ?>[] fields) {
+            super(table, fields);
+        }
+
+        @Override
+        final Result<R> value(Result<R> result) {
+            return result == null ? create.newResult(table) : result;
+        }
+    }
+
+    /**
+     * All requests for a given foreign key and navigation direction.
+     *
+     * @param <R> The record type of the table that is queried
+     * @param <T> The value type of the requests
+     */
+    private abstract class Batch<R extends Record, T> {
+        final Table<R>                  table;
+        final TableField<R, ?>[]        fields;
+        final Map<Object, DeferredImpl> deferreds;
+        final List<Object>              pending;
+
+        Batch(Table<R> table, TableField<R, ?>[] fields) {
+            this.table = table;
+            this.fields = fields;
+            this.deferreds = new HashMap<Object, DeferredImpl>();
+            this.pending = new ArrayList<Object>();
+        }
+
+        /**
+         * The value for the records that match a given key, or for no records,
+         * if <code>result</code> is <code>null</code>.
+         */
+        abstract T value(Result<R> result);
+
+        /**
+         * Request the records whose {@link #fields} match the values of some
+         * other fields in a given record.
+         */
+        final Deferred<T> request(Record record, TableField<?, ?>[] referencing) {
+            Object[] values = new Object[fields.length];
+
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].getDataType().convert(record.get(referencing[i]));
+
+                // NULL never matches any records
+                if (values[i] == null) {
+                    DeferredImpl deferred = new DeferredImpl();
+                    deferred.resolve(value(null));
+                    return deferred;
+                }
+            }
+
+            Object key = key(values);
+            DeferredImpl deferred = deferreds.get(key);
+
+            if (deferred == null) {
+                deferreds.put(key, deferred = new DeferredImpl());
+                pending.add(key);
+            }
+
+            return deferred;
+        }
+
+        final void dispatch() {
+            if (pending.isEmpty())
+                return;
+
+            int size = Math.max(1, maxBindValues(create.dialect()) / fields.length);
+            Map<Object, Result<R>> index = new HashMap<Object, Result<R>>();
+
+            for (int i = 0; i < pending.size(); i += size) {
+                for (R record : create.selectFrom(table)
+                                      .where(condition(pending.subList(i, Math.min(i + size, pending.size()))))
+                                      .fetch()) {
+
+                    Object[] values = new Object[fields.length];
+                    for (int j = 0; j < fields.length; j++)
+                        values[j] = record.get(fields[j]);
+
+                    Object key = key(values);
+                    Result<R> result = index.get(key);
+
+                    if (result == null)
+                        index.put(key, result = create.newResult(table));
+
+                    result.add(record);
+                }
+            }
+
+            for (Object key : pending)
+                deferreds.get(key).resolve(value(index.get(key)));
+
+            pending.clear();
+        }
+
+        @SuppressWarnings("unchecked")
+        private final Condition condition(List<Object> keys) {
+            if (fields.length == 1)
+                return ((Field<Object>) fields[0]).in(keys);
+
+            List<RowN> rows = new ArrayList<RowN>(keys.size());
+            for (Object key : keys)
+                rows.add(row(((List<?>) key).toArray()));
+
+            return row(fields).in(rows);
+        }
+
+        /**
+         * A key that is suitable for hashing, given some key values.
+         */
+        private final Object key(Object[] values) {
+            return values.length == 1 ? values[0] : Arrays.asList(values);
+        }
+
+        private final class DeferredImpl implements Deferred<T> {
+            private T       value;
+            private boolean done;
+
+            final void resolve(T v) {
+                this.value = v;
+                this.done = true;
+            }
+
+            @Override
+            public final T get() {
+                if (!done)
+                    RecordNavigatorImpl.this.dispatch();
+
+                return value;
+            }
+
+            @Override
+            public final boolean isDone() {
+                return done;
+            }
+        }
+    }
+}
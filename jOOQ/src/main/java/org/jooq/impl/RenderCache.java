@@ -0,0 +1,716 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.settingsSnapshot;
+import static org.jooq.tools.reflect.Reflect.accessible;
+
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jooq.Binding;
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.Cursor;
+import org.jooq.DataType;
+import org.jooq.Param;
+import org.jooq.QueryPart;
+import org.jooq.Result;
+import org.jooq.Results;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.exception.MappingException;
+import org.jooq.impl.AbstractQuery.Rendered;
+
+/**
+ * A {@link Configuration}-scoped, LRU-bounded cache of rendered SQL strings.
+ * <p>
+ * Renderings are cached per query shape, dialect and {@link Settings} values,
+ * as configured in {@link Settings#getRenderCacheSize()}. The shape of a query
+ * is its {@link QueryPart} tree, including inlined values, but excluding the
+ * values of bind variables. Structurally identical queries thus share the
+ * same rendering, even if they were built independently, and each query
+ * binds its own values to it.
+ * <p>
+ * Some query parts render differently depending on the values of bind
+ * variables, e.g. by inlining them or by omitting them altogether. A rendering
+ * is reused only if the values of all such bind variables are equal. The
+ * {@link Settings} values are compared only when a configuration's
+ * {@link Settings} instance is replaced, so they should not be modified in
+ * place while the cache is in use.
+ *
+ * @author Lukas Eder
+ */
+final class RenderCache {
+
+    /**
+     * Types whose subtypes outside of jOOQ (i.e. generated code) have no
+     * state of their own.
+     */
+    private static final Class<?>[]      GENERATED = {
+        TableImpl.class,
+        UDTImpl.class,
+        SchemaImpl.class,
+        CatalogImpl.class
+    };
+
+    /**
+     * Immutable types that are mostly shared between queries, and that are
+     * thus compared by identity, rather than walked.
+     */
+    private static final Class<?>[]      SHARED    = {
+        DataType.class,
+        Binding.class,
+        Converter.class
+    };
+
+    /**
+     * Types that are referenced from queries for their execution, but that
+     * are not rendered.
+     */
+    private static final Class<?>[]      EXECUTION = {
+        Configuration.class,
+        Result.class,
+        Results.class,
+        Cursor.class,
+        Connection.class,
+        Statement.class,
+        ResultSet.class
+    };
+
+    private final int                    size;
+    private final DefaultCacheStatistics statistics;
+    private final Map<Key, Entry>        renderings;
+    private volatile Fingerprint         fingerprint;
+
+    @SuppressWarnings("serial")
+    RenderCache(final int size, DefaultCacheStatistics statistics) {
+        this.size = size;
+        this.statistics = statistics;
+        this.renderings = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > RenderCache.this.size) {
+                    RenderCache.this.statistics.eviction();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Compute the cache key of a query.
+     */
+    final Key key(Configuration configuration, QueryPart query) {
+        Settings settings = configuration.settings();
+        Fingerprint f = fingerprint;
+
+        // The settings are compared by value only when they are replaced
+        if (f == null || f.settings != settings)
+            fingerprint = f = new Fingerprint(settings);
+
+        Shape shape = new Shape(configuration.family());
+        shape.walk(query);
+        return new Key(configuration.dialect(), f, shape.tokens.toArray(), shape.params);
+    }
+
+    /**
+     * Get a cached rendering with the bind values of the query of a given
+     * key, or <code>null</code> if there is no such rendering.
+     */
+    final Rendered get(Key key) {
+        Entry entry;
+
+        synchronized (renderings) {
+            entry = renderings.get(key);
+        }
+
+        if (entry != null && entry.matches(key.params)) {
+            statistics.hit();
+            return entry.rendered(key.params);
+        }
+
+        statistics.miss();
+        return null;
+    }
+
+    /**
+     * Cache a rendering of the query of a given key.
+     */
+    final void put(Key key, Rendered rendered) {
+        Entry entry = Entry.of(key.params, rendered);
+
+        // Renderings that bind values, which are not contained in the query
+        // itself (e.g. computed from other bind values), cannot be reused
+        if (entry != null) {
+            synchronized (renderings) {
+                renderings.put(key.withoutParams(), entry);
+            }
+        }
+    }
+
+    /**
+     * The cache key of a rendering.
+     */
+    static final class Key {
+
+        private final SQLDialect     dialect;
+        private final Fingerprint    settings;
+        private final Object[]       tokens;
+        private final int            hash;
+
+        /**
+         * The bind variables of the query, in the order of the query's shape.
+         * These are not part of the key.
+         */
+        final List<Param<?>>         params;
+
+        Key(SQLDialect dialect, Fingerprint settings, Object[] tokens, List<Param<?>> params) {
+            this(dialect, settings, tokens, 31 * (31 * dialect.hashCode() + settings.hash) + Arrays.hashCode(tokens), params);
+        }
+
+        private Key(SQLDialect dialect, Fingerprint settings, Object[] tokens, int hash, List<Param<?>> params) {
+            this.dialect = dialect;
+            this.settings = settings;
+            this.tokens = tokens;
+            this.hash = hash;
+            this.params = params;
+        }
+
+        /**
+         * A copy of this key that does not reference the query's bind
+         * variables.
+         */
+        final Key withoutParams() {
+            return new Key(dialect, settings, tokens, hash, null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+
+                return hash == other.hash
+                    && dialect == other.dialect
+                    && (settings == other.settings || Arrays.equals(settings.values, other.settings.values))
+                    && Arrays.equals(tokens, other.tokens);
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * A cached rendering.
+     */
+    private static final class Entry {
+
+        private final String   sql;
+
+        /**
+         * The indexes of the bound params in the query's shape.
+         */
+        private final int[]    bound;
+
+        /**
+         * The indexes of params in the query's shape, which were not bound,
+         * and their values.
+         */
+        private final int[]    unbound;
+        private final Object[] values;
+
+        private Entry(String sql, int[] bound, int[] unbound, Object[] values) {
+            this.sql = sql;
+            this.bound = bound;
+            this.unbound = unbound;
+            this.values = values;
+        }
+
+        /**
+         * Create an entry for a rendering, or <code>null</code> if its bind
+         * values are not all contained in a query's shape.
+         */
+        static final Entry of(List<Param<?>> params, Rendered rendered) {
+            Map<Param<?>, Integer> indexes = new IdentityHashMap<Param<?>, Integer>();
+            for (int i = 0; i < params.size(); i++)
+                indexes.put(params.get(i), i);
+
+            int[] bound = new int[rendered.bindValues.size()];
+            boolean[] isBound = new boolean[params.size()];
+
+            for (int i = 0; i < bound.length; i++) {
+                Integer index = indexes.get(rendered.bindValues.get(i));
+
+                if (index == null)
+                    return null;
+
+                bound[i] = index;
+                isBound[index] = true;
+            }
+
+            List<Integer> unbound = new ArrayList<Integer>();
+            for (int i = 0; i < isBound.length; i++)
+                if (!isBound[i])
+                    unbound.add(i);
+
+            int[] u = new int[unbound.size()];
+            Object[] values = new Object[u.length];
+
+            for (int i = 0; i < u.length; i++) {
+                u[i] = unbound.get(i);
+                values[i] = params.get(u[i]).getValue();
+            }
+
+            return new Entry(rendered.sql, bound, u, values);
+        }
+
+        /**
+         * Whether this rendering can be reused with a query's params.
+         */
+        final boolean matches(List<Param<?>> params) {
+            for (int i = 0; i < unbound.length; i++)
+                if (!Objects.deepEquals(params.get(unbound[i]).getValue(), values[i]))
+                    return false;
+
+            return true;
+        }
+
+        /**
+         * This rendering with a query's bind values.
+         */
+        final Rendered rendered(List<Param<?>> params) {
+            QueryPartList<Param<?>> bindValues = new QueryPartList<Param<?>>();
+
+            for (int i = 0; i < bound.length; i++)
+                bindValues.add(params.get(bound[i]));
+
+            return new Rendered(sql, bindValues);
+        }
+    }
+
+    /**
+     * The values of a {@link Settings} instance.
+     */
+    private static final class Fingerprint {
+
+        private final Settings settings;
+        private final Object[] values;
+        private final int      hash;
+
+        Fingerprint(Settings settings) {
+            this.settings = settings;
+            this.values = settingsSnapshot(settings);
+            this.hash = Arrays.hashCode(values);
+        }
+    }
+
+    /**
+     * The shape of a query, collected by walking its object graph.
+     * <p>
+     * Objects are represented by their type and their state. Objects that are
+     * referenced several times are represented by a {@link Reference} to their
+     * first occurrence, which also handles cycles. Objects of unknown or
+     * {@link #SHARED} types are represented by their {@link Identity}.
+     */
+    private static final class Shape {
+
+        private final SQLDialect     family;
+        private final List<Object>   tokens;
+        private final List<Param<?>> params;
+
+        /**
+         * An open addressing identity hash table of all walked objects and
+         * their indexes.
+         */
+        private Object[]             seen;
+        private int[]                indexes;
+        private int                  size;
+
+        Shape(SQLDialect family) {
+            this.family = family;
+            this.tokens = new ArrayList<Object>();
+            this.params = new ArrayList<Param<?>>();
+            this.seen = new Object[256];
+            this.indexes = new int[256];
+        }
+
+        /**
+         * Add an object to the walked objects, and return <code>-1</code>, or
+         * return its index if it was walked already.
+         */
+        private final int seen(Object object) {
+            int mask = seen.length - 1;
+            int i = System.identityHashCode(object) & mask;
+
+            for (Object o = seen[i]; o != null; o = seen[i = (i + 1) & mask])
+                if (o == object)
+                    return indexes[i];
+
+            seen[i] = object;
+            indexes[i] = size++;
+
+            if (size * 2 > seen.length)
+                resize();
+
+            return -1;
+        }
+
+        private final void resize() {
+            Object[] s = seen;
+            int[] x = indexes;
+            int mask = s.length * 2 - 1;
+
+            seen = new Object[s.length * 2];
+            indexes = new int[s.length * 2];
+
+            for (int j = 0; j < s.length; j++) {
+                if (s[j] != null) {
+                    int i = System.identityHashCode(s[j]) & mask;
+
+                    while (seen[i] != null)
+                        i = (i + 1) & mask;
+
+                    seen[i] = s[j];
+                    indexes[i] = x[j];
+                }
+            }
+        }
+
+        final void walk(Object object) {
+            if (object == null) {
+                tokens.add(null);
+                return;
+            }
+
+            Class<?> type = object.getClass();
+            Descriptor descriptor = Descriptor.of(type);
+
+            if (descriptor.kind == Kind.VALUE) {
+                tokens.add(object);
+                return;
+            }
+
+            int index = seen(object);
+            if (index >= 0) {
+                tokens.add(new Reference(index));
+                return;
+            }
+
+            tokens.add(type);
+
+            switch (descriptor.kind) {
+                case EXECUTION:
+                    break;
+
+                case PARAM:
+                    param((Param<?>) object);
+                    break;
+
+                case PRIMITIVE_ARRAY:
+                    tokens.add(new Value(object));
+                    break;
+
+                case ARRAY: {
+                    Object[] array = (Object[]) object;
+                    tokens.add(array.length);
+
+                    for (Object element : array)
+                        walk(element);
+
+                    break;
+                }
+
+                case JOOQ:
+                    fields(object, descriptor.fields);
+
+                    // jOOQ types are walked by their fields, unless they extend
+                    // JDK collections
+                    if (object instanceof AbstractCollection)
+                        elements((Collection<?>) object);
+                    else if (object instanceof AbstractMap)
+                        entries((Map<?, ?>) object);
+
+                    break;
+
+                case COLLECTION:
+                    elements((Collection<?>) object);
+                    break;
+
+                case MAP:
+                    entries((Map<?, ?>) object);
+                    break;
+
+                default:
+                    tokens.add(new Identity(object));
+                    break;
+            }
+        }
+
+        /**
+         * Bind variables are represented by their type, but not their value,
+         * unless the value may be rendered.
+         */
+        private final void param(Param<?> param) {
+            Object value = param.getValue();
+            Binding<?, ?> binding = param.getBinding();
+
+            tokens.add(param.getParamName());
+            tokens.add(param.isInline());
+            walk(param.getDataType());
+
+            if (param.isInline()
+                    || !(binding instanceof DefaultBinding)
+                    || ((DefaultBinding<?, ?>) binding).isValueDependent(family))
+                tokens.add(new Value(value));
+            else
+                tokens.add(value == null ? null : value.getClass());
+
+            params.add(param);
+        }
+
+        private final void fields(Object object, java.lang.reflect.Field[] fields) {
+            try {
+                for (java.lang.reflect.Field field : fields)
+                    walk(field.get(object));
+            }
+            catch (IllegalAccessException e) {
+                throw new MappingException("Cannot read query part", e);
+            }
+        }
+
+        private final void elements(Collection<?> collection) {
+            tokens.add(collection.size());
+
+            for (Object element : collection)
+                walk(element);
+        }
+
+        private final void entries(Map<?, ?> map) {
+            tokens.add(map.size());
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                walk(entry.getKey());
+                walk(entry.getValue());
+            }
+        }
+    }
+
+    private static enum Kind {
+        VALUE,
+        EXECUTION,
+        PARAM,
+        PRIMITIVE_ARRAY,
+        ARRAY,
+        JOOQ,
+        COLLECTION,
+        MAP,
+        IDENTITY
+    }
+
+    /**
+     * How objects of a type are walked, lazily initialised per type.
+     */
+    private static final class Descriptor {
+
+        private static final ClassValue<Descriptor> DESCRIPTORS = new ClassValue<Descriptor>() {
+            @Override
+            protected Descriptor computeValue(Class<?> type) {
+                Kind kind = kind(type);
+                return new Descriptor(kind, kind == Kind.JOOQ ? fields(type) : null);
+            }
+        };
+
+        final Kind                                  kind;
+        final java.lang.reflect.Field[]             fields;
+
+        private Descriptor(Kind kind, java.lang.reflect.Field[] fields) {
+            this.kind = kind;
+            this.fields = fields;
+        }
+
+        static final Descriptor of(Class<?> type) {
+            return DESCRIPTORS.get(type);
+        }
+
+        private static final Kind kind(Class<?> type) {
+            if (type == String.class
+                    || type == Boolean.class
+                    || type == Character.class
+                    || type == Class.class
+                    || Enum.class.isAssignableFrom(type)
+                    || Number.class.isAssignableFrom(type) && type.getName().startsWith("java."))
+                return Kind.VALUE;
+            else if (isAssignable(EXECUTION, type))
+                return Kind.EXECUTION;
+            else if (isAssignable(SHARED, type))
+                return Kind.IDENTITY;
+            else if (Param.class.isAssignableFrom(type))
+                return Kind.PARAM;
+            else if (type.isArray())
+                return type.getComponentType().isPrimitive() ? Kind.PRIMITIVE_ARRAY : Kind.ARRAY;
+            else if (type.getName().startsWith("org.jooq.") || isAssignable(GENERATED, type))
+                return Kind.JOOQ;
+            else if (Collection.class.isAssignableFrom(type))
+                return Kind.COLLECTION;
+            else if (Map.class.isAssignableFrom(type))
+                return Kind.MAP;
+            else
+                return Kind.IDENTITY;
+        }
+
+        private static final java.lang.reflect.Field[] fields(Class<?> type) {
+            List<java.lang.reflect.Field> result = new ArrayList<java.lang.reflect.Field>();
+
+            // Generated types are walked by the fields of their jOOQ super types
+            for (Class<?> t = type; t != null; t = t.getSuperclass()) {
+                if (!t.getName().startsWith("org.jooq."))
+                    continue;
+
+                for (java.lang.reflect.Field field : t.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+
+                    if (!Modifier.isStatic(modifiers)
+                            && !Modifier.isTransient(modifiers)
+                            && !isAssignable(EXECUTION, field.getType()))
+                        result.add(accessible(field));
+                }
+            }
+
+            return result.toArray(new java.lang.reflect.Field[result.size()]);
+        }
+
+        private static final boolean isAssignable(Class<?>[] types, Class<?> type) {
+            for (Class<?> t : types)
+                if (t.isAssignableFrom(type))
+                    return true;
+
+            return false;
+        }
+    }
+
+    /**
+     * A reference to an object that has already been walked.
+     */
+    private static final class Reference {
+
+        private final int index;
+
+        Reference(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Reference && ((Reference) obj).index == index;
+        }
+    }
+
+    /**
+     * A value, which may be an array.
+     */
+    private static final class Value {
+
+        private final Object value;
+
+        Value(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(new Object[] { value });
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Value && Objects.deepEquals(((Value) obj).value, value);
+        }
+    }
+
+    /**
+     * An object of an unknown type, which is compared by identity.
+     */
+    private static final class Identity {
+
+        private final Object object;
+
+        Identity(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Identity && ((Identity) obj).object == object;
+        }
+    }
+}
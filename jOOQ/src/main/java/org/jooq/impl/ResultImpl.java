@@ -43,6 +43,7 @@ package org.jooq.impl;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static org.jooq.conf.SettingsTools.getInternPoolSize;
 import static org.jooq.impl.DSL.insertInto;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.table;
@@ -161,9 +162,24 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
     }
 
     ResultImpl(Configuration configuration, Fields<R> fields) {
+        this(configuration, fields, new ArrayList<R>());
+    }
+
+    ResultImpl(Configuration configuration, Fields<R> fields, List<R> records) {
         this.configuration = configuration;
         this.fields = fields;
-        this.records = new ArrayList<R>();
+        this.records = records;
+    }
+
+    /**
+     * Create a new, empty result with the same record type and the same kind
+     * of record storage.
+     */
+    private final ResultImpl<R> emptyCopy() {
+        if (records instanceof ColumnarRecords)
+            return new ResultImpl<R>(configuration, fields, ((ColumnarRecords<R>) records).empty());
+        else
+            return new ResultImpl<R>(configuration, fields);
     }
 
     // -------------------------------------------------------------------------
@@ -174,7 +190,11 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
     public final void attach(Configuration c) {
         this.configuration = c;
 
-        for (R record : records)
+        // Columnar records are materialised with the current configuration
+        if (records instanceof ColumnarRecords)
+            ((ColumnarRecords<R>) records).attach(c);
+        else
+            for (R record : records)
             if (record != null)
                 record.attach(c);
     }
@@ -338,6 +358,9 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
 
     @Override
     public final List<?> getValues(int fieldIndex) {
+        if (records instanceof ColumnarRecords)
+            return ((ColumnarRecords<R>) records).values(fieldIndex);
+
         List<Object> result = new ArrayList<Object>(size());
 
         for (R record : this) {
@@ -757,10 +780,20 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
 
     @Override
     public final void formatCSV(Writer writer, CSVFormat format) {
+        formatCSV(writer, format, fields.fields, this);
+    }
+
+    /**
+     * Format records as CSV, one by one, as they are produced by an
+     * {@link Iterable}.
+     * <p>
+     * This is shared between {@link Result} and {@link org.jooq.Cursor}.
+     */
+    static final void formatCSV(Writer writer, CSVFormat format, Field<?>[] fields, Iterable<? extends Record> records) {
         try {
             if (format.header()) {
                 String sep1 = "";
-                for (Field<?> field : fields.fields) {
+                for (Field<?> field : fields) {
                     writer.append(sep1);
                     writer.append(formatCSV0(field.getName(), format));
 
@@ -770,10 +803,10 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
                 writer.append(format.newline());
             }
 
-            for (Record record : this) {
+            for (Record record : records) {
                 String sep2 = "";
 
-                for (int index = 0; index < fields.fields.length; index++) {
+                for (int index = 0; index < fields.length; index++) {
                     writer.append(sep2);
                     writer.append(formatCSV0(record.getValue(index), format));
 
@@ -790,7 +823,7 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
         }
     }
 
-    private final String formatCSV0(Object value, CSVFormat format) {
+    private static final String formatCSV0(Object value, CSVFormat format) {
 
         // [#4746] Escape null and empty strings
         if (value == null)
@@ -818,7 +851,7 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
         }
     }
 
-    private final Object formatJSON0(Object value) {
+    private static final Object formatJSON0(Object value) {
         if (value instanceof byte[])
             return DatatypeConverter.printBase64Binary((byte[]) value);
 
@@ -896,14 +929,23 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
 
     @Override
     public final void formatJSON(Writer writer, JSONFormat format) {
+        formatJSON(writer, format, fields.fields, this);
+    }
+
+    /**
+     * Format records as JSON, one by one, as they are produced by an
+     * {@link Iterable}.
+     * <p>
+     * This is shared between {@link Result} and {@link org.jooq.Cursor}.
+     */
+    static final void formatJSON(Writer writer, JSONFormat format, Field<?>[] fields, Iterable<? extends Record> records) {
         try {
             List<Map<String, String>> f = null;
-            List<Object> r = new ArrayList<Object>();
 
             if (format.header()) {
                 f = new ArrayList<Map<String, String>>();
 
-                for (Field<?> field : fields.fields) {
+                for (Field<?> field : fields) {
                     Map<String, String> fieldMap = new LinkedHashMap<String, String>();
 
                     if (field instanceof TableField) {
@@ -928,43 +970,53 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
 
             switch (format.recordFormat()) {
                 case ARRAY:
-                    for (Record record : this) {
+                case OBJECT:
+                    break;
+                default:
+                    throw new IllegalArgumentException("Format not supported: " + format);
+            }
+
+            // Records are written individually, rather than collecting them
+            // in a single JSON structure first
+            if (f == null) {
+                writer.append("[");
+            }
+            else {
+                writer.append("{\"fields\":");
+                writer.append(JSONArray.toJSONString(f));
+                writer.append(",\"records\":[");
+            }
+
+            String sep = "";
+            for (Record record : records) {
+                writer.append(sep);
+
+                switch (format.recordFormat()) {
+                    case ARRAY: {
                         List<Object> list = new ArrayList<Object>();
 
-                        for (int index = 0; index < fields.fields.length; index++)
+                        for (int index = 0; index < fields.length; index++)
                             list.add(formatJSON0(record.get(index)));
 
-                        r.add(list);
+                        writer.append(JSONArray.toJSONString(list));
+                        break;
                     }
 
-                    break;
-                case OBJECT:
-                    for (Record record : this) {
+                    case OBJECT: {
                         Map<String, Object> map = new LinkedHashMap<String, Object>();
 
-                        for (int index = 0; index < fields.fields.length; index++)
+                        for (int index = 0; index < fields.length; index++)
                             map.put(record.field(index).getName(), formatJSON0(record.get(index)));
 
-                        r.add(map);
+                        writer.append(JSONObject.toJSONString(map));
+                        break;
                     }
+                }
 
-                    break;
-                default:
-                    throw new IllegalArgumentException("Format not supported: " + format);
-            }
-
-            if (f == null) {
-                writer.append(JSONArray.toJSONString(r));
-            }
-            else {
-                Map<String, List<?>> map = new LinkedHashMap<String, List<?>>();
-
-                map.put("fields", f);
-                map.put("records", r);
-
-                writer.append(JSONObject.toJSONString(map));
+                sep = ",";
             }
 
+            writer.append(f == null ? "]" : "]}");
             writer.flush();
         }
         catch (java.io.IOException e) {
@@ -986,11 +1038,21 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
 
     @Override
     public final void formatXML(Writer writer) {
+        formatXML(writer, fields.fields, this);
+    }
+
+    /**
+     * Format records as XML, one by one, as they are produced by an
+     * {@link Iterable}.
+     * <p>
+     * This is shared between {@link Result} and {@link org.jooq.Cursor}.
+     */
+    static final void formatXML(Writer writer, Field<?>[] fields, Iterable<? extends Record> records) {
         try {
             writer.append("<result xmlns=\"http://www.jooq.org/xsd/jooq-export-3.7.0.xsd\">");
             writer.append("<fields>");
 
-            for (Field<?> field : fields.fields) {
+            for (Field<?> field : fields) {
                 writer.append("<field");
 
                 if (field instanceof TableField) {
@@ -1022,14 +1084,14 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
             writer.append("</fields>");
             writer.append("<records>");
 
-            for (Record record : this) {
+            for (Record record : records) {
                 writer.append("<record>");
 
-                for (int index = 0; index < fields.fields.length; index++) {
+                for (int index = 0; index < fields.length; index++) {
                     Object value = record.get(index);
 
                     writer.append("<value field=\"");
-                    writer.append(escapeXML(fields.fields[index].getName()));
+                    writer.append(escapeXML(fields[index].getName()));
                     writer.append("\"");
 
                     if (value == null) {
@@ -1238,7 +1300,7 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
         return handler;
     }
 
-    private final String escapeXML(String string) {
+    private static final String escapeXML(String string) {
         return StringUtils.replaceEach(string,
             new String[] { "\"", "'", "<", ">", "&" },
             new String[] { "&quot;", "&apos;", "&lt;", "&gt;", "&amp;"});
@@ -1311,6 +1373,16 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
     private final <K, V> Map<K, V> intoMap0(int kIndex, int vIndex) {
         Map<K, V> map = new LinkedHashMap<K, V>();
 
+        if (records instanceof ColumnarRecords) {
+            ColumnarRecords<R> c = (ColumnarRecords<R>) records;
+
+            for (int i = 0; i < c.size(); i++)
+                if (map.put((K) c.value(i, kIndex), (V) c.value(i, vIndex)) != null)
+                    throw new InvalidResultException("Key " + c.value(i, kIndex) + " is not unique in Result for " + this);
+
+            return map;
+        }
+
         for (R record : this)
             if (map.put((K) record.get(kIndex), (V) record.get(vIndex)) != null)
                 throw new InvalidResultException("Key " + record.get(kIndex) + " is not unique in Result for " + this);
@@ -1575,7 +1647,7 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
             Result<R> result = map.get(val);
 
             if (result == null) {
-                result = new ResultImpl<R>(configuration, fields);
+                result = emptyCopy();
                 map.put(val, result);
             }
 
@@ -1611,6 +1683,24 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
     private final <K, V> Map<K, List<V>> intoGroups0(int kIndex, int vIndex) {
         Map<K, List<V>> map = new LinkedHashMap<K, List<V>>();
 
+        if (records instanceof ColumnarRecords) {
+            ColumnarRecords<R> c = (ColumnarRecords<R>) records;
+
+            for (int i = 0; i < c.size(); i++) {
+                K k = (K) c.value(i, kIndex);
+                List<V> result = map.get(k);
+
+                if (result == null) {
+                    result = new ArrayList<V>();
+                    map.put(k, result);
+                }
+
+                result.add((V) c.value(i, vIndex));
+            }
+
+            return map;
+        }
+
         for (R record : this) {
             K k = (K) record.get(kIndex);
             V v = (V) record.get(vIndex);
@@ -2305,10 +2395,14 @@ final class ResultImpl<R extends Record> implements Result<R>, AttachableInterna
 
     @Override
     public final Result<R> intern(int... fieldIndexes) {
+        int poolSize = getInternPoolSize(Tools.settings(configuration));
+
         for (int fieldIndex : fieldIndexes) {
             if (fields.fields[fieldIndex].getType() == String.class) {
+                StringPool pool = poolSize > 0 ? new StringPool(poolSize, false) : null;
+
                 for (Record record : this) {
-                    ((AbstractRecord) record).intern0(fieldIndex);
+                    ((AbstractRecord) record).intern0(fieldIndex, pool);
                 }
             }
         }
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.jooq.Clause;
+import org.jooq.Context;
+import org.jooq.Field;
+import org.jooq.Record;
+
+/**
+ * A copy of an {@link AbstractResultQuery}, which renders the copied query's
+ * SQL, but which keeps its own execution state.
+ *
+ * @author Lukas Eder
+ */
+final class ResultQueryCopy<R extends Record> extends AbstractResultQuery<R> {
+
+    /**
+     * Generated UID
+     */
+    private static final long            serialVersionUID = -1206370286442468318L;
+
+    private final AbstractResultQuery<R> query;
+
+    ResultQueryCopy(AbstractResultQuery<R> query) {
+        super(query.configuration());
+
+        this.query = query;
+    }
+
+    // ------------------------------------------------------------------------
+    // ResultQuery API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public final void accept(Context<?> ctx) {
+        ctx.visit(query);
+    }
+
+    @Override
+    public final Clause[] clauses(Context<?> ctx) {
+
+        // Copies don't emit clauses themselves.
+        return null;
+    }
+
+    @Override
+    public final Class<? extends R> getRecordType() {
+        return query.getRecordType();
+    }
+
+    @Override
+    protected final Field<?>[] getFields(ResultSetMetaData meta) throws SQLException {
+        return query.getFields(meta);
+    }
+
+    @Override
+    final boolean isForUpdate() {
+        return query.isForUpdate();
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.Cursor;
+import org.jooq.ExecutorProvider;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.tools.JooqLogger;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Publisher} that fetches records lazily from a {@link ResultQuery},
+ * according to subscriber demand.
+ *
+ * @author Lukas Eder
+ */
+final class ResultQueryPublisher<R extends Record> implements Publisher<R> {
+
+    private static final JooqLogger      log = JooqLogger.getLogger(ResultQueryPublisher.class);
+
+    private final AbstractResultQuery<R> query;
+    private final ExecutorProvider       executorProvider;
+
+    private ResultQueryPublisher(AbstractResultQuery<R> query, ExecutorProvider executorProvider) {
+        this.query = query;
+        this.executorProvider = executorProvider;
+    }
+
+    /**
+     * Create a new publisher.
+     * <p>
+     * Reactive Streams is an optional dependency. Callers must not reference
+     * this class's type directly, as verifying such callers would load the
+     * {@link Publisher} type, even if no publisher is ever created.
+     */
+    static final <R extends Record> Publisher<R> of(AbstractResultQuery<R> query, ExecutorProvider executorProvider) {
+        return new ResultQueryPublisher<R>(query, executorProvider);
+    }
+
+    @Override
+    public final void subscribe(Subscriber<? super R> subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("subscriber");
+
+        // Concurrent subscriptions must not share the query's execution state
+        ResultQuerySubscription subscription = new ResultQuerySubscription(query.copy(), subscriber, executorProvider.provide());
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * The subscription state.
+     * <p>
+     * All cursor interaction happens in {@link #drain()}, which is guarded by
+     * {@link #wip}, such that it never runs concurrently, and such that
+     * subscriber signals are serialised. Only {@link #cancel()} may touch the
+     * cursor from another thread, in order to cancel the JDBC statement.
+     */
+    private final class ResultQuerySubscription implements Subscription, Runnable {
+
+        private final ResultQuery<R>        query;
+        private final Subscriber<? super R> subscriber;
+        private final Executor              executor;
+        private final AtomicLong            requested = new AtomicLong();
+        private final AtomicInteger         wip       = new AtomicInteger();
+        private volatile boolean            cancelled;
+        private volatile Cursor<R>          cursor;
+        private boolean                     done;
+        private Throwable                   invalidRequest;
+
+        ResultQuerySubscription(ResultQuery<R> query, Subscriber<? super R> subscriber, Executor executor) {
+            this.query = query;
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        @Override
+        public final void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Non-positive request: " + n);
+                cancelled = true;
+            }
+            else {
+                long r, u;
+
+                do {
+                    r = requested.get();
+                    u = r + n;
+
+                    if (u < 0)
+                        u = Long.MAX_VALUE;
+                }
+                while (!requested.compareAndSet(r, u));
+            }
+
+            schedule();
+        }
+
+        @Override
+        public final void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+
+                // Cancel the statement, as the drain loop may be
+                // blocked in ResultSet.next()
+                Cursor<R> c = cursor;
+                if (c instanceof CursorImpl)
+                    ((CursorImpl<R>) c).cancel();
+
+                schedule();
+            }
+        }
+
+        private final void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                }
+                catch (RuntimeException e) {
+                    done = true;
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public final void run() {
+            int missed = 1;
+
+            for (;;) {
+                if (done)
+                    return;
+
+                if (cancelled) {
+                    terminate(invalidRequest);
+                    return;
+                }
+
+                long r = requested.get();
+                long e = 0L;
+
+                try {
+                    if (cursor == null)
+                        cursor = query.fetchLazy();
+
+                    while (e != r) {
+                        if (cancelled)
+                            break;
+
+                        R record = cursor.fetchOne();
+                        if (record == null) {
+                            terminate(null);
+                            subscriber.onComplete();
+                            return;
+                        }
+
+                        subscriber.onNext(record);
+                        e++;
+                    }
+                }
+                catch (Throwable t) {
+
+                    // Errors caused by a cancelled statement are not reported
+                    terminate(cancelled ? invalidRequest : t);
+                    return;
+                }
+
+                if (e != 0L && r != Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private final void terminate(Throwable error) {
+            done = true;
+
+            Cursor<R> c = cursor;
+            if (c != null) {
+                try {
+                    c.close();
+                }
+                catch (Exception e) {
+                    log.debug("Error while closing cursor", e);
+                }
+            }
+
+            if (error != null)
+                subscriber.onError(error);
+        }
+    }
+}
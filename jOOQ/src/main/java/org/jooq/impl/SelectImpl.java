@@ -131,6 +131,7 @@ import org.jooq.TableLike;
 import org.jooq.WindowDefinition;
 import org.jooq.exception.MappingException;
 
+
 /**
  * A wrapper for a {@link SelectQuery}
  *
@@ -2668,6 +2669,16 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().resultSetHoldability(resultSetHoldability);
     }
 
+    @Override
+    public final ResultQuery<R> readOnly(boolean readOnly) {
+        return getDelegate().readOnly(readOnly);
+    }
+
+    @Override
+    public final ResultQuery<R> readAhead(int readAhead) {
+        return getDelegate().readAhead(readAhead);
+    }
+
     @Override
     public final ResultQuery<R> intern(Field<?>... fields) {
         return getDelegate().intern(fields);
@@ -2708,6 +2719,11 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().fetch();
     }
 
+    @Override
+    public final Result<R> fetchColumnar() {
+        return getDelegate().fetchColumnar();
+    }
+
     @Override
     public final ResultSet fetchResultSet() {
         return getDelegate().fetchResultSet();
@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.conf.Settings;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A {@link org.jooq.Configuration}-scoped, LRU-bounded cache of
+ * {@link PreparedStatement} objects.
+ * <p>
+ * Statements are cached per JDBC {@link Connection}, SQL string, result set
+ * type and result set concurrency, as configured in
+ * {@link Settings#getStatementCacheSize()}. A cached statement is removed from
+ * the cache while it is in use, and put back when it is closed, such that no
+ * two executions can share the same statement at the same time.
+ * <p>
+ * Statements are cached across the release of a connection if the
+ * {@link org.jooq.ConnectionProvider} hands out the same JDBC connection
+ * several times, e.g. {@link DefaultConnectionProvider}, or if the provided
+ * connection is a pooled, logical connection that can be unwrapped to its
+ * physical connection via {@link Connection#unwrap(Class)}. In the latter
+ * case, statements are prepared on the physical connection. With any other
+ * provider, all statements of a connection are evicted when the connection
+ * is released, as the connection may be closed or handed out to another
+ * client after that.
+ *
+ * @author Lukas Eder
+ */
+final class StatementCache {
+
+    private final int                         size;
+    private final DefaultCacheStatistics      statistics;
+    private final Map<Key, PreparedStatement> statements;
+
+    @SuppressWarnings("serial")
+    StatementCache(final int size, DefaultCacheStatistics statistics) {
+        this.size = size;
+        this.statistics = statistics;
+        this.statements = new LinkedHashMap<Key, PreparedStatement>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.size) {
+                    StatementCache.this.statistics.eviction();
+                    JDBCUtils.safeClose(eldest.getValue());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get a cached statement, or prepare a new one.
+     *
+     * @param defaultType Whether the default result set type and concurrency
+     *            are requested, i.e. {@link Connection#prepareStatement(String)}
+     *            should be called.
+     */
+    final PreparedStatement prepareStatement(Connection connection, String sql, int type, int concurrency, boolean defaultType) throws SQLException {
+        Key key = new Key(connection, sql, type, concurrency);
+        PreparedStatement result;
+
+        synchronized (statements) {
+            result = statements.remove(key);
+        }
+
+        if (result != null && !result.isClosed()) {
+            statistics.hit();
+        }
+        else {
+
+            // A statement that was closed while it was cached has been
+            // evicted by the JDBC driver
+            if (result != null)
+                statistics.eviction();
+
+            statistics.miss();
+            result = defaultType
+                ? connection.prepareStatement(sql)
+                : connection.prepareStatement(sql, type, concurrency);
+        }
+
+        return new CachedPreparedStatement(key, result);
+    }
+
+    /**
+     * Return a statement to the cache, or close it if an equivalent statement
+     * is already cached.
+     */
+    final void release(Key key, PreparedStatement statement) {
+        synchronized (statements) {
+            if (!statements.containsKey(key)) {
+                statements.put(key, statement);
+                return;
+            }
+        }
+
+        JDBCUtils.safeClose(statement);
+    }
+
+    /**
+     * Evict and close all statements of a connection.
+     */
+    final void evict(Connection connection) {
+        List<PreparedStatement> evicted = new ArrayList<PreparedStatement>();
+
+        synchronized (statements) {
+            Iterator<Map.Entry<Key, PreparedStatement>> it = statements.entrySet().iterator();
+
+            while (it.hasNext()) {
+                Map.Entry<Key, PreparedStatement> entry = it.next();
+
+                if (entry.getKey().connection == connection) {
+                    evicted.add(entry.getValue());
+                    it.remove();
+                }
+            }
+        }
+
+        for (PreparedStatement statement : evicted) {
+            statistics.eviction();
+            JDBCUtils.safeClose(statement);
+        }
+    }
+
+    /**
+     * The cache key of a statement.
+     */
+    private static final class Key {
+
+        private final Connection connection;
+        private final String     sql;
+        private final int        type;
+        private final int        concurrency;
+
+        Key(Connection connection, String sql, int type, int concurrency) {
+            this.connection = connection;
+            this.sql = sql;
+            this.type = type;
+            this.concurrency = concurrency;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(connection);
+            result = 31 * result + sql.hashCode();
+            result = 31 * result + type;
+            result = 31 * result + concurrency;
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+
+                return connection == other.connection
+                    && type == other.type
+                    && concurrency == other.concurrency
+                    && sql.equals(other.sql);
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * A statement that is returned to the cache when it is closed.
+     * <p>
+     * Bind values, batches, warnings, and the statement properties that are
+     * set by jOOQ are reset to their JDBC defaults before the statement is
+     * returned to the cache.
+     */
+    private final class CachedPreparedStatement extends DefaultPreparedStatement {
+
+        private final Key key;
+        private boolean   closed;
+
+        CachedPreparedStatement(Key key, PreparedStatement delegate) {
+            super(delegate);
+
+            this.key = key;
+        }
+
+        @Override
+        public final boolean isClosed() throws SQLException {
+            return closed || super.isClosed();
+        }
+
+        @Override
+        public final void close() throws SQLException {
+            if (closed)
+                return;
+
+            closed = true;
+            PreparedStatement delegate = getDelegate();
+
+            try {
+                delegate.clearParameters();
+                delegate.clearBatch();
+                delegate.clearWarnings();
+                delegate.setQueryTimeout(0);
+                delegate.setMaxRows(0);
+                delegate.setFetchSize(0);
+            }
+
+            // A statement that cannot be reset must not be reused
+            catch (SQLException e) {
+                delegate.close();
+                return;
+            }
+
+            release(key, delegate);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+/**
+ * A bounded pool of {@link String} values, used to deduplicate fetched values
+ * instead of {@link String#intern()}.
+ * <p>
+ * The pool is a direct-mapped hash table: each string hashes to exactly one
+ * slot, and a string that maps to an occupied slot with a different value
+ * evicts it. This keeps lookups constant-time and memory bounded, while
+ * low-cardinality values quickly settle in the pool. Unlike
+ * {@link String#intern()}, pooled strings are not shared across pools and can
+ * be garbage collected together with the pool.
+ * <p>
+ * An adaptive pool stops deduplicating values once it has observed that its
+ * values are of high cardinality, i.e. when less than half of the first
+ * {@link #SAMPLE_SIZE} lookups were hits.
+ * <p>
+ * Pools are not thread-safe.
+ *
+ * @author Lukas Eder
+ */
+final class StringPool {
+
+    /**
+     * The number of lookups after which an adaptive pool decides whether to
+     * keep deduplicating values.
+     */
+    static final int       SAMPLE_SIZE = 1024;
+
+    private final String[] table;
+    private final int      mask;
+    private boolean        adaptive;
+    private boolean        disabled;
+    private int            lookups;
+    private int            hits;
+
+    StringPool(int capacity, boolean adaptive) {
+        int c = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.table = new String[c];
+        this.mask = c - 1;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Return a pooled string equal to the argument, or the argument itself, if
+     * no such string has been pooled yet.
+     */
+    final String intern(String string) {
+        if (string == null || disabled)
+            return string;
+
+        int h = string.hashCode();
+        int i = (h ^ (h >>> 16)) & mask;
+        String pooled = table[i];
+
+        if (adaptive && ++lookups == SAMPLE_SIZE) {
+            adaptive = false;
+            disabled = hits < SAMPLE_SIZE / 2;
+        }
+
+        if (pooled != null && (pooled == string || pooled.hashCode() == h && pooled.equals(string))) {
+            hits++;
+            return pooled;
+        }
+
+        table[i] = string;
+        return string;
+    }
+
+    /**
+     * Return a pooled value for the argument, if it is a {@link String}.
+     */
+    final Object intern(Object value) {
+        return value instanceof String ? intern((String) value) : value;
+    }
+}
@@ -66,6 +66,7 @@ import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.InsertQuery;
 import org.jooq.Record;
+import org.jooq.RecordType;
 import org.jooq.Row;
 import org.jooq.StoreQuery;
 import org.jooq.Table;
@@ -92,11 +93,24 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
     private final Table<R>          table;
 
     public TableRecordImpl(Table<R> table) {
-        super(table.fields());
+        super(row(table));
 
         this.table = table;
     }
 
+    /**
+     * Share the table's {@link Fields} between all records of the table, such
+     * that field lookups can use an index that is built only once.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final RowImpl row(Table<?> table) {
+        RecordType<?> type = table.recordType();
+
+        return type instanceof Fields
+            ? new RowImpl((Fields) type)
+            : new RowImpl(table.fields());
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final <T> R with(Field<T> field, T value) {
@@ -159,6 +173,8 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
     }
 
     final int storeInsert(final Field<?>[] storeFields) {
+        checkWritable();
+
         final int[] result = new int[1];
 
         delegate(configuration(), (Record) this, INSERT)
@@ -53,6 +53,9 @@ import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
 import static org.jooq.conf.SettingsTools.getBackslashEscaping;
+import static org.jooq.conf.SettingsTools.getMetaCacheTTL;
+import static org.jooq.conf.SettingsTools.getRenderCacheSize;
+import static org.jooq.conf.SettingsTools.getStatementCacheSize;
 import static org.jooq.conf.SettingsTools.reflectionCaching;
 import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
 import static org.jooq.impl.DDLStatementType.CREATE_INDEX;
@@ -121,6 +124,7 @@ import javax.persistence.Id;
 import org.jooq.Attachable;
 import org.jooq.AttachableInternal;
 import org.jooq.BindContext;
+import org.jooq.CacheStatistics;
 import org.jooq.Catalog;
 import org.jooq.Clause;
 import org.jooq.Condition;
@@ -155,6 +159,7 @@ import org.jooq.UDTRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.conf.BackslashEscaping;
 import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.TooManyRowsException;
@@ -224,6 +229,18 @@ final class Tools {
          */
         DATA_LOCK_ROWS_FOR_UPDATE,
 
+        /**
+         * This constant is used internally by jOOQ to indicate that records
+         * fetched by a {@link Cursor} should be read-only.
+         */
+        DATA_READ_ONLY_RECORDS,
+
+        /**
+         * This constant is used internally by jOOQ to communicate the number of
+         * records that a {@link Cursor} should read ahead in the background.
+         */
+        DATA_READ_AHEAD,
+
         /**
          * [#1520] Count the number of bind values, and potentially enforce a static
          * statement.
@@ -388,6 +405,50 @@ final class Tools {
     static final String          DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS   = new String("org.jooq.configuration.reflection-cache.get-matching-members");
     static final String          DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS   = new String("org.jooq.configuration.reflection-cache.get-matching-setters");
     static final String          DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS = new String("org.jooq.configuration.reflection-cache.has-column-annotations");
+    static final String          DATA_REFLECTION_CACHE_COMPILED_MAPPER        = new String("org.jooq.configuration.reflection-cache.compiled-mapper");
+
+    /**
+     * These are {@link CacheStatistics} for caches that are maintained in a
+     * {@link Configuration}.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on these
+     * objects.
+     */
+    static final String          DATA_CACHE_STATISTICS_RENDER                 = new String("org.jooq.configuration.cache-statistics.render");
+    static final String          DATA_CACHE_STATISTICS_STATEMENT              = new String("org.jooq.configuration.cache-statistics.statement");
+
+    /**
+     * The {@link StatementCache} of a {@link Configuration}.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on this
+     * object.
+     */
+    static final String          DATA_STATEMENT_CACHE                         = new String("org.jooq.configuration.statement-cache");
+
+    /**
+     * The {@link RenderCache} of a {@link Configuration}.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on this
+     * object.
+     */
+    static final String          DATA_RENDER_CACHE                            = new String("org.jooq.configuration.render-cache");
+
+    /**
+     * The {@link MetaCache} of a {@link Configuration}.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on this
+     * object.
+     */
+    static final String          DATA_META_CACHE                              = new String("org.jooq.configuration.meta-cache");
+
+    /**
+     * The {@link ExecuteListener}s provided by a {@link Configuration}'s
+     * {@link DefaultExecuteListenerProvider}s.
+     * <p>
+     * <code>new String()</code> is used to allow for synchronizing on this
+     * object.
+     */
+    static final String          DATA_EXECUTE_LISTENERS                       = new String("org.jooq.configuration.execute-listeners");
 
     // ------------------------------------------------------------------------
     // Other constants
@@ -2354,6 +2415,160 @@ final class Tools {
         }
     }
 
+    /**
+     * Get the {@link CacheStatistics} of a given cache type from a
+     * {@link Configuration}, lazily initialising them if needed.
+     */
+    static final DefaultCacheStatistics cacheStatistics(Configuration configuration, String type) {
+        DefaultCacheStatistics result = (DefaultCacheStatistics) configuration.data(type);
+
+        if (result == null) {
+
+            // String synchronization is OK as all type literals were created using new String()
+            synchronized (type) {
+                result = (DefaultCacheStatistics) configuration.data(type);
+
+                if (result == null) {
+                    result = new DefaultCacheStatistics();
+                    configuration.data(type, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The instance fields of {@link Settings}, lazily initialised.
+     */
+    private static volatile java.lang.reflect.Field[] settingsFields;
+
+    /**
+     * A snapshot of all values of a {@link Settings} object, which can be
+     * compared with {@link Arrays#equals(Object[], Object[])} to detect
+     * changes to the settings.
+     * <p>
+     * Nested objects, such as a {@link org.jooq.conf.RenderMapping}, are
+     * compared by identity.
+     */
+    static final Object[] settingsSnapshot(Settings settings) {
+        java.lang.reflect.Field[] fields = settingsFields;
+
+        if (fields == null) {
+            List<java.lang.reflect.Field> list = new ArrayList<java.lang.reflect.Field>();
+
+            for (Class<?> type = Settings.class; type != Object.class; type = type.getSuperclass()) {
+                for (java.lang.reflect.Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        accessible(field);
+                        list.add(field);
+                    }
+                }
+            }
+
+            settingsFields = fields = list.toArray(new java.lang.reflect.Field[list.size()]);
+        }
+
+        Object[] result = new Object[fields.length];
+
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                Object value = fields[i].get(settings);
+                result[i] = value instanceof List ? new ArrayList<Object>((List<?>) value) : value;
+            }
+        }
+        catch (IllegalAccessException e) {
+            throw new MappingException("Cannot read settings", e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the {@link StatementCache} from a {@link Configuration}, lazily
+     * initialising it if needed, or <code>null</code> if statements should not
+     * be cached.
+     */
+    static final StatementCache statementCache(Configuration configuration) {
+        int size = getStatementCacheSize(configuration.settings());
+
+        if (size <= 0)
+            return null;
+
+        StatementCache result = (StatementCache) configuration.data(DATA_STATEMENT_CACHE);
+
+        if (result == null) {
+
+            // String synchronization is OK as all type literals were created using new String()
+            synchronized (DATA_STATEMENT_CACHE) {
+                result = (StatementCache) configuration.data(DATA_STATEMENT_CACHE);
+
+                if (result == null) {
+                    result = new StatementCache(size, cacheStatistics(configuration, DATA_CACHE_STATISTICS_STATEMENT));
+                    configuration.data(DATA_STATEMENT_CACHE, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the {@link RenderCache} from a {@link Configuration}, lazily
+     * initialising it if needed, or <code>null</code> if renderings should not
+     * be cached.
+     */
+    static final RenderCache renderCache(Configuration configuration) {
+        if (!SettingsTools.renderCache(configuration.settings()))
+            return null;
+
+        RenderCache result = (RenderCache) configuration.data(DATA_RENDER_CACHE);
+
+        if (result == null) {
+
+            // String synchronization is OK as all type literals were created using new String()
+            synchronized (DATA_RENDER_CACHE) {
+                result = (RenderCache) configuration.data(DATA_RENDER_CACHE);
+
+                if (result == null) {
+                    result = new RenderCache(getRenderCacheSize(configuration.settings()), cacheStatistics(configuration, DATA_CACHE_STATISTICS_RENDER));
+                    configuration.data(DATA_RENDER_CACHE, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the {@link MetaCache} from a {@link Configuration}, lazily
+     * initialising it if needed, or <code>null</code> if meta data should not
+     * be cached.
+     */
+    static final MetaCache metaCache(Configuration configuration) {
+        long ttl = getMetaCacheTTL(configuration.settings());
+
+        if (ttl <= 0)
+            return null;
+
+        MetaCache result = (MetaCache) configuration.data(DATA_META_CACHE);
+
+        if (result == null) {
+
+            // String synchronization is OK as all type literals were created using new String()
+            synchronized (DATA_META_CACHE) {
+                result = (MetaCache) configuration.data(DATA_META_CACHE);
+
+                if (result == null) {
+                    result = new MetaCache(ttl);
+                    configuration.data(DATA_META_CACHE, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
     /**
      * [#2965] This is a {@link Configuration}-based cache that can cache reflection information and other things
      */
@@ -2875,6 +3090,53 @@ final class Tools {
 
 
 
+    }
+
+    /**
+     * The maximum number of bind values that jOOQ puts in a single statement
+     * when it splits bulk operations into several statements.
+     * <p>
+     * This is the dialect's or its JDBC driver's limit, if there is any, or
+     * the PostgreSQL JDBC driver's limit, otherwise.
+     */
+    static final int maxBindValues(SQLDialect dialect) {
+        switch (dialect.family()) {
+            case SQLITE:
+                return 999;
+
+            default:
+                return Short.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The maximum number of rows that jOOQ puts in a single multi-row
+     * <code>INSERT</code> statement, regardless of the number of bind values.
+     * <p>
+     * This is relevant for dialects where multi-row inserts are emulated
+     * through <code>INSERT .. SELECT .. UNION ALL</code>, which limit the
+     * number of terms of a compound <code>SELECT</code>.
+     */
+    static final int maxRows(SQLDialect dialect) {
+        switch (dialect.family()) {
+            case FIREBIRD:
+                return 255;
+
+            case SQLITE:
+                return 500;
+
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The maximum number of rows that jOOQ puts in a single multi-row
+     * <code>INSERT</code> statement with a given number of columns, respecting
+     * both {@link #maxBindValues(SQLDialect)} and {@link #maxRows(SQLDialect)}.
+     */
+    static final int maxInsertRows(SQLDialect dialect, int columns) {
+        return Math.max(1, Math.min(maxRows(dialect), maxBindValues(dialect) / Math.max(1, columns)));
     }
 
     /**
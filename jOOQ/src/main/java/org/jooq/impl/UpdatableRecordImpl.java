@@ -126,6 +126,8 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
 
     @Override
     public final int store(final Field<?>... storeFields) {
+        checkWritable();
+
         final int[] result = new int[1];
 
         delegate(configuration(), (Record) this, STORE)
@@ -200,6 +202,8 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
     }
 
     private final int storeUpdate(final Field<?>[] storeFields, final TableField<R, ?>[] keys) {
+        checkWritable();
+
         final int[] result = new int[1];
 
         delegate(configuration(), (Record) this, UPDATE)
@@ -267,6 +271,11 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
 
     @Override
     public final int delete() {
+
+        // A deleted record is marked as changed, which isn't possible for
+        // read-only records
+        checkWritable();
+
         final int[] result = new int[1];
 
         delegate(configuration(), (Record) this, DELETE)
@@ -324,6 +333,8 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
 
     @Override
     public final void refresh(final Field<?>... refreshFields) {
+        checkWritable();
+
         SelectQuery<Record> select = create().selectQuery();
         select.addSelect(refreshFields);
         select.addFrom(getTable());
@@ -0,0 +1,556 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A CSV reader that parses bytes from a memory-mapped {@link FileChannel} or
+ * from a {@link ByteBuffer}.
+ * <p>
+ * Unlike {@link CSVReader}, this reader doesn't create a {@link String} per
+ * line, nor does it collect tokens in a {@link StringBuilder}. Fields are
+ * located in the underlying bytes, and only those fields that are selected
+ * through {@link #columns(boolean[])} are decoded to {@link String}. All other
+ * fields are returned as <code>null</code>.
+ * <p>
+ * Records are returned in a row array that is reused for all records of the
+ * same width. Client code must copy the row array if it needs to keep it
+ * beyond the next call to {@link #next()}.
+ * <p>
+ * Records are parsed exactly like {@link CSVReader} parses them with its
+ * default settings, including {@link CSVParser}'s handling of quotes and
+ * escape characters, and of line breaks within quoted fields, which are
+ * returned as <code>\n</code>. Line breaks are <code>\n</code>,
+ * <code>\r\n</code>, or <code>\r</code>.
+ * <p>
+ * This reader can only be used with charsets where the separator, quote,
+ * escape, and line break characters are encoded as single bytes that cannot
+ * be part of any other character's encoding. See
+ * {@link #supports(Charset, char, char, char)}.
+ *
+ * @author Lukas Eder
+ */
+public class MappedCSVReader implements Closeable, Iterator<String[]> {
+
+    /**
+     * The default size of the file regions that are mapped into memory.
+     */
+    public static final int   DEFAULT_WINDOW_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+    private final long        size;
+    private final Charset     charset;
+    private final byte        separator;
+    private final byte        quotechar;
+    private final byte        escape;
+    private int               windowSize;
+
+    // The currently mapped region, starting at file offset "base"
+    private ByteBuffer        buffer;
+    private ByteBuffer        copy;
+    private long              base;
+    private int               pos;
+
+    // Buffers that are reused between records
+    private boolean[]         columns;
+    private String[]          row;
+    private String[]          tokens;
+    private byte[]            scratch;
+
+    // Parser state that is carried over from one record to the next, as in
+    // CSVParser
+    private boolean           inField;
+
+    /**
+     * Constructs a reader on a {@link FileChannel}, which is mapped into
+     * memory in regions of {@link #DEFAULT_WINDOW_SIZE} bytes.
+     *
+     * @param channel the channel of an underlying CSV file.
+     * @param charset the charset of the CSV file.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param line the line number to skip for start reading
+     */
+    public MappedCSVReader(FileChannel channel, Charset charset, char separator, char quotechar, int line) throws IOException {
+        this(channel, charset, separator, quotechar, CSVParser.DEFAULT_ESCAPE_CHARACTER, line, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a reader on a {@link FileChannel}, which is mapped into
+     * memory in regions of <code>windowSize</code> bytes.
+     *
+     * @param channel the channel of an underlying CSV file.
+     * @param charset the charset of the CSV file.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param escape the character to use for escaping a separator or quote
+     * @param line the line number to skip for start reading
+     * @param windowSize the size of the mapped file regions. Regions are
+     *            enlarged if a single record doesn't fit in them.
+     */
+    public MappedCSVReader(FileChannel channel, Charset charset, char separator, char quotechar, char escape, int line, int windowSize) throws IOException {
+        this(channel, channel.size(), charset, separator, quotechar, escape, windowSize);
+
+        map(0);
+        skipLines(line);
+    }
+
+    /**
+     * Constructs a reader on the remaining content of a {@link ByteBuffer},
+     * e.g. a large direct buffer.
+     *
+     * @param buffer the underlying CSV content.
+     * @param charset the charset of the CSV content.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param line the line number to skip for start reading
+     */
+    public MappedCSVReader(ByteBuffer buffer, Charset charset, char separator, char quotechar, int line) throws IOException {
+        this(null, buffer.remaining(), charset, separator, quotechar, CSVParser.DEFAULT_ESCAPE_CHARACTER, 0);
+
+        this.buffer = buffer.slice();
+        this.copy = this.buffer.duplicate();
+        skipLines(line);
+    }
+
+    private MappedCSVReader(FileChannel channel, long size, Charset charset, char separator, char quotechar, char escape, int windowSize) {
+        if (!supports(charset, separator, quotechar, escape))
+            throw new UnsupportedOperationException("Charset " + charset + " or separator, quote, and escape characters are not supported");
+
+        this.channel = channel;
+        this.size = size;
+        this.charset = charset;
+        this.separator = (byte) separator;
+        this.quotechar = (byte) quotechar;
+        this.escape = (byte) escape;
+        this.windowSize = windowSize;
+        this.scratch = new byte[CSVParser.INITIAL_READ_SIZE];
+    }
+
+    /**
+     * Whether this reader can parse content of a given charset, with the given
+     * special characters.
+     * <p>
+     * This is the case for {@link Charset}s that encode ASCII characters as
+     * single bytes which never appear in multi-byte sequences, i.e.
+     * <code>UTF-8</code>, <code>US-ASCII</code>, and <code>ISO-8859-1</code>,
+     * and for ASCII special characters.
+     */
+    public static boolean supports(Charset charset, char separator, char quotechar, char escape) {
+        if (charset == null)
+            return false;
+
+        String name = charset.name();
+        return ("UTF-8".equals(name) || "US-ASCII".equals(name) || "ISO-8859-1".equals(name))
+            && separator != CSVParser.NULL_CHARACTER
+            && separator < 0x80 && quotechar < 0x80 && escape < 0x80
+            && separator != '\r' && separator != '\n'
+            && quotechar != '\r' && quotechar != '\n'
+            && escape != '\r' && escape != '\n'
+            && separator != escape
+            && (quotechar == CSVParser.NULL_CHARACTER || (quotechar != separator && quotechar != escape));
+    }
+
+    /**
+     * Specify the columns that should be decoded.
+     *
+     * @param decode A flag per column index. Columns whose flag is
+     *            <code>false</code>, or whose index exceeds the array length,
+     *            are returned as <code>null</code>. If the argument is
+     *            <code>null</code>, all columns are decoded, which is the
+     *            default.
+     */
+    public void columns(boolean[] decode) {
+        this.columns = decode;
+    }
+
+    /**
+     * Reads the entire content into a List with each element being a String[]
+     * of tokens.
+     * <p>
+     * Unlike with {@link #next()}, the returned row arrays are not reused.
+     */
+    public List<String[]> readAll() throws IOException {
+        List<String[]> result = new ArrayList<String[]>();
+
+        String[] row;
+        while (hasNext() && (row = readNext()) != null)
+            result.add(row.clone());
+
+        return result;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the reused row array containing the next record's fields, or
+     *         <code>null</code> if there are no more records.
+     * @throws IOException if bad things happen during the read
+     */
+    public String[] readNext() throws IOException {
+        if (!hasNext())
+            return null;
+
+        for (;;) {
+            int start = pos;
+            int width = parse();
+
+            if (width == 0)
+                return null;
+
+            if (width > 0) {
+                if (row == null || row.length != width)
+                    row = new String[width];
+
+                System.arraycopy(tokens, 0, row, 0, width);
+                return row;
+            }
+
+            // The record exceeds the mapped region. Map a new region starting
+            // with this record, enlarging it if the record didn't fit at all
+            remap(start);
+        }
+    }
+
+    /**
+     * Parse the record at the current position into {@link #tokens}.
+     * <p>
+     * This is a port of {@link CSVParser#parseLineMulti(String)} as used by
+     * {@link CSVReader}, operating on bytes rather than on lines, with
+     * <code>strictQuotes = false</code> and
+     * <code>ignoreLeadingWhiteSpace = true</code>. As all special characters
+     * are single bytes that are never part of a multi-byte sequence, comparing
+     * bytes is equivalent to comparing characters.
+     *
+     * @return The record width, <code>0</code> if the file ends in an
+     *         un-terminated quoted field before any field of the record was
+     *         complete, or <code>-1</code> if the record is incomplete in the
+     *         currently mapped region.
+     */
+    private int parse() throws IOException {
+        int limit = buffer.limit();
+        boolean last = base + limit >= size;
+        boolean inField = this.inField;
+        boolean inQuotes = false;
+        int line = pos;
+        int width = 0;
+        int length = 0;
+
+        for (;;) {
+            boolean decode = columns == null || (width < columns.length && columns[width]);
+
+            // Ordinary content is copied in runs
+            int from = pos;
+            while (pos < limit) {
+                byte b = buffer.get(pos);
+
+                if (b == separator || b == quotechar || b == escape || b == '\n' || b == '\r')
+                    break;
+
+                pos++;
+            }
+
+            if (pos > from) {
+                inField = true;
+
+                if (decode) {
+                    ensureScratch(length + pos - from);
+                    copy.limit(pos).position(from);
+                    copy.get(scratch, length, pos - from);
+                    length += pos - from;
+                }
+            }
+
+            if (pos >= limit) {
+                if (!last)
+                    return -1;
+
+                // Like CSVReader, discard an un-terminated quoted field at the
+                // end of the file
+                if (!inQuotes)
+                    token(width++, decode ? new String(scratch, 0, length, charset) : null);
+
+                break;
+            }
+
+            byte c = buffer.get(pos);
+
+            // Line breaks are re-appended as \n within quoted fields
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && pos + 1 >= limit && !last)
+                    return -1;
+
+                pos += (c == '\r' && pos + 1 < limit && buffer.get(pos + 1) == '\n') ? 2 : 1;
+
+                if (inQuotes) {
+                    if (decode)
+                        length = append(length, (byte) '\n');
+
+                    line = pos;
+                    continue;
+                }
+
+                token(width++, decode ? new String(scratch, 0, length, charset) : null);
+                break;
+            }
+
+            // The next character on the same line, if any
+            int next;
+            if (pos + 1 < limit) {
+                next = buffer.get(pos + 1) & 0xFF;
+
+                if (next == '\n' || next == '\r')
+                    next = -1;
+            }
+            else if (!last) {
+                return -1;
+            }
+            else {
+                next = -1;
+            }
+
+            if (c == escape) {
+                if ((inQuotes || inField) && next != -1 && (next == quotechar || next == escape)) {
+                    if (decode)
+                        length = append(length, (byte) next);
+
+                    pos += 2;
+                }
+                else {
+                    pos++;
+                }
+            }
+            else if (c == quotechar) {
+                if ((inQuotes || inField) && next == quotechar) {
+                    if (decode)
+                        length = append(length, (byte) next);
+
+                    pos += 2;
+                }
+                else {
+
+                    // The tricky case of an embedded quote in the middle:
+                    // a,bc"d"ef,g
+                    if (chars(line, pos) > 2 && buffer.get(pos - 1) != separator && next != -1 && next != separator) {
+                        if (length > 0 && isAllWhiteSpace(length))
+                            length = 0;
+                        else if (decode)
+                            length = append(length, c);
+                    }
+
+                    inQuotes = !inQuotes;
+                    pos++;
+                }
+
+                inField = !inField;
+            }
+            else if (c == separator && !inQuotes) {
+                token(width++, decode ? new String(scratch, 0, length, charset) : null);
+                length = 0;
+                inField = false;
+                pos++;
+            }
+            else {
+                if (decode)
+                    length = append(length, c);
+
+                inField = true;
+                pos++;
+            }
+        }
+
+        this.inField = inField;
+        return width;
+    }
+
+    /**
+     * The number of characters (UTF-16 code units) encoded in a byte range, or
+     * <code>3</code> if there are more than <code>2</code> characters.
+     */
+    private final int chars(int from, int to) {
+        boolean utf8 = "UTF-8".equals(charset.name());
+        int result = 0;
+
+        for (int i = from; i < to && result <= 2; i++) {
+            int b = buffer.get(i) & 0xFF;
+
+            if (!utf8 || b < 0x80)
+                result++;
+            else if (b >= 0xF0)
+                result += 2;
+            else if (b >= 0xC0)
+                result++;
+        }
+
+        return result;
+    }
+
+    private final boolean isAllWhiteSpace(int length) {
+        String s = new String(scratch, 0, length, charset);
+
+        for (int i = 0; i < s.length(); i++)
+            if (!Character.isWhitespace(s.charAt(i)))
+                return false;
+
+        return true;
+    }
+
+    private final int append(int length, byte b) {
+        ensureScratch(length + 1);
+        scratch[length] = b;
+        return length + 1;
+    }
+
+    private final void ensureScratch(int length) {
+        if (scratch.length < length)
+            scratch = Arrays.copyOf(scratch, Math.max(length, scratch.length * 2));
+    }
+
+    private final void token(int index, String token) {
+        if (tokens == null)
+            tokens = new String[16];
+        else if (index >= tokens.length)
+            tokens = Arrays.copyOf(tokens, tokens.length * 2);
+
+        tokens[index] = token;
+    }
+
+    private final void skipLines(int lines) throws IOException {
+        for (int i = 0; i < lines && hasNext(); i++)
+            skipLine();
+    }
+
+    private final void skipLine() throws IOException {
+        for (;;) {
+            int start = pos;
+            int limit = buffer.limit();
+
+            while (pos < limit) {
+                byte b = buffer.get(pos++);
+
+                if (b == '\n')
+                    return;
+
+                if (b == '\r') {
+                    if (pos < limit) {
+                        if (buffer.get(pos) == '\n')
+                            pos++;
+
+                        return;
+                    }
+
+                    break;
+                }
+            }
+
+            if (base + limit >= size)
+                return;
+
+            remap(start);
+        }
+    }
+
+    /**
+     * Map a new region starting at a position of the current region.
+     */
+    private final void remap(int start) throws IOException {
+        if (channel == null)
+            throw new IOException("Incomplete record at end of CSV buffer");
+
+        // The region is too small for a single record
+        if (start == 0)
+            windowSize = (int) Math.min(Integer.MAX_VALUE, windowSize * 2L);
+
+        map(base + start);
+    }
+
+    private final void map(long offset) throws IOException {
+        base = offset;
+        pos = 0;
+        buffer = channel.map(MapMode.READ_ONLY, offset, Math.min(windowSize, size - offset));
+        copy = buffer.duplicate();
+    }
+
+    /**
+     * Closes the underlying channel.
+     *
+     * @throws IOException if the close fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null)
+            channel.close();
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Iterator implementation
+    // ------------------------------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+        return base + pos < size;
+    }
+
+    @Override
+    public String[] next() {
+        try {
+            return readNext();
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() method is not supported for CSV Iterator ");
+    }
+}
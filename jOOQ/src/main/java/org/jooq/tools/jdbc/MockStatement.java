@@ -91,6 +91,7 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     private final MockConnection        connection;
 
     private final MockDataProvider      data;
+    private final boolean               prepared;
     private final List<String>          sql;
     private final List<List<Object>>    bindings;
     private final List<Integer>         outParameterTypes;
@@ -118,6 +119,7 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     public MockStatement(MockConnection connection, MockDataProvider data, String sql) {
         this.connection = connection;
         this.data = data;
+        this.prepared = sql != null;
         this.sql = new ArrayList<String>();
         this.bindings = new ArrayList<List<Object>>();
         this.outParameterTypes = new ArrayList<Integer>();
@@ -316,7 +318,9 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     @Override
     public void clearBatch() throws SQLException {
         checkNotClosed();
-        sql.clear();
+
+        // The SQL string of a PreparedStatement is not part of its batch
+        sql.subList(prepared ? 1 : 0, sql.size()).clear();
         bindings.clear();
         bindings.add(new ArrayList<Object>());
     }
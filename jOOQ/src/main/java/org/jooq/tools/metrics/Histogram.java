@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative <code>long</code> values.
+ * <p>
+ * Values are counted in 64 buckets of exponentially growing size, bucket
+ * <code>i</code> containing values <code>v</code> with
+ * <code>2<sup>i-1</sup> &lt;= v &lt; 2<sup>i</sup></code>, and bucket
+ * <code>0</code> containing <code>0</code>. Percentiles are hence approximated
+ * with a relative error of less than a factor of 2, which is good enough for
+ * latencies, while recording a value costs only a few atomic increments.
+ *
+ * @author Lukas Eder
+ */
+public final class Histogram {
+
+    private static final int      BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder       count   = new LongAdder();
+    private final LongAdder       sum     = new LongAdder();
+    private final AtomicLong      max     = new AtomicLong();
+
+    /**
+     * Record a value. Negative values are recorded as <code>0</code>.
+     */
+    public void record(long value) {
+        if (value < 0)
+            value = 0;
+
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        sum.add(value);
+
+        long m;
+        while (value > (m = max.get()) && !max.compareAndSet(m, value));
+    }
+
+    /**
+     * The number of recorded values.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * The sum of all recorded values.
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * The maximum recorded value.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * The mean of all recorded values, or <code>0.0</code> if no values were
+     * recorded.
+     */
+    public double mean() {
+        long c = count();
+        return c == 0 ? 0.0 : (double) sum() / c;
+    }
+
+    /**
+     * An approximation of a percentile of the recorded values.
+     *
+     * @param percentile The percentile between <code>0.0</code> and
+     *            <code>1.0</code>, e.g. <code>0.99</code>.
+     * @return The upper bound of the bucket that contains the percentile, but
+     *         at most {@link #max()}.
+     */
+    public long percentile(double percentile) {
+        long[] snapshot = buckets();
+        long total = 0;
+
+        for (long b : snapshot)
+            total += b;
+
+        if (total == 0)
+            return 0;
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+
+            if (seen >= rank && snapshot[i] > 0)
+                return Math.min(upperBound(i), max());
+        }
+
+        return max();
+    }
+
+    /**
+     * A snapshot of the bucket counts.
+     */
+    public long[] buckets() {
+        long[] result = new long[BUCKETS];
+
+        for (int i = 0; i < BUCKETS; i++)
+            result[i] = buckets.get(i);
+
+        return result;
+    }
+
+    /**
+     * The inclusive upper bound of the values counted in a bucket.
+     */
+    public static long upperBound(int bucket) {
+        return bucket == 0 ? 0L : bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Reset this histogram.
+     * <p>
+     * Values that are recorded concurrently may or may not be discarded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            buckets.set(i, 0L);
+
+        count.reset();
+        sum.reset();
+        max.set(0L);
+    }
+
+    private static int bucket(long value) {
+        return Math.min(64 - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram [count=" + count() + ", mean=" + (long) mean() + ", p50=" + percentile(0.5) + ", p99=" + percentile(0.99) + ", max=" + max() + "]";
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jooq.ExecuteType;
+
+/**
+ * The default {@link MetricsExporter}, which collects {@link QueryTimings} in
+ * memory, in {@link QueryMetrics} per query shape and {@link ExecuteType}.
+ * <p>
+ * Recording is lock-free, except when a query shape is seen for the first
+ * time. In order to bound memory consumption, at most
+ * <code>maxShapes</code> distinct query shapes are collected. Timings of all
+ * further query shapes are collected in the {@link #OTHER} shape.
+ *
+ * @author Lukas Eder
+ */
+public class InMemoryMetricsExporter implements MetricsExporter {
+
+    /**
+     * The default maximum number of distinct query shapes.
+     */
+    public static final int                                                         DEFAULT_MAX_SHAPES = 10000;
+
+    /**
+     * The shape of queries exceeding the maximum number of distinct query
+     * shapes.
+     */
+    public static final String                                                      OTHER              = "<other>";
+
+    private static final ExecuteType[]                                              TYPES              = ExecuteType.values();
+
+    private final int                                                               maxShapes;
+    private final ConcurrentHashMap<String, AtomicReferenceArray<QueryMetrics>> metrics;
+
+    public InMemoryMetricsExporter() {
+        this(DEFAULT_MAX_SHAPES);
+    }
+
+    public InMemoryMetricsExporter(int maxShapes) {
+        this.maxShapes = maxShapes;
+        this.metrics = new ConcurrentHashMap<String, AtomicReferenceArray<QueryMetrics>>();
+    }
+
+    @Override
+    public void export(QueryTimings timings) {
+        String shape = timings.shape;
+        AtomicReferenceArray<QueryMetrics> byType = metrics.get(shape);
+
+        if (byType == null) {
+            if (metrics.size() >= maxShapes)
+                shape = OTHER;
+
+            byType = metrics.get(shape);
+            if (byType == null) {
+                AtomicReferenceArray<QueryMetrics> previous = metrics.putIfAbsent(shape, byType = new AtomicReferenceArray<QueryMetrics>(TYPES.length));
+
+                if (previous != null)
+                    byType = previous;
+            }
+        }
+
+        ExecuteType type = timings.type == null ? ExecuteType.OTHER : timings.type;
+        QueryMetrics m = byType.get(type.ordinal());
+
+        if (m == null && !byType.compareAndSet(type.ordinal(), null, m = new QueryMetrics(shape, type)))
+            m = byType.get(type.ordinal());
+
+        m.record(timings);
+    }
+
+    /**
+     * The metrics of a query shape and type, or <code>null</code> if no such
+     * query was executed.
+     */
+    public QueryMetrics metrics(String shape, ExecuteType type) {
+        AtomicReferenceArray<QueryMetrics> byType = metrics.get(shape);
+        return byType == null ? null : byType.get(type.ordinal());
+    }
+
+    /**
+     * A snapshot of all collected metrics.
+     */
+    public List<QueryMetrics> metrics() {
+        List<QueryMetrics> result = new ArrayList<QueryMetrics>();
+
+        for (AtomicReferenceArray<QueryMetrics> byType : metrics.values())
+            for (int i = 0; i < byType.length(); i++)
+                if (byType.get(i) != null)
+                    result.add(byType.get(i));
+
+        return result;
+    }
+
+    /**
+     * Discard all collected metrics.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+}
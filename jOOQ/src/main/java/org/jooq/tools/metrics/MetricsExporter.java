@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+/**
+ * An SPI for exporting the {@link QueryTimings} recorded by a
+ * {@link MetricsListener}, e.g. to a monitoring system.
+ * <p>
+ * Implementations are called on the executing thread, once per query
+ * execution, and possibly by many threads concurrently. They must hence be
+ * thread-safe, and they should not block. The {@link QueryTimings} argument
+ * must not be kept beyond the call.
+ *
+ * @author Lukas Eder
+ * @see InMemoryMetricsExporter
+ */
+public interface MetricsExporter {
+
+    /**
+     * Export the timings of a query execution.
+     */
+    void export(QueryTimings timings);
+}
@@ -0,0 +1,368 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+
+/**
+ * An {@link ExecuteListener} that records the render, prepare, bind, execute
+ * and fetch times as well as the row counts of query executions, and passes
+ * them to a {@link MetricsExporter}.
+ * <p>
+ * Timings are exported per normalised SQL string (see {@link #shape(String)})
+ * and {@link org.jooq.ExecuteType}. Unlike the
+ * {@link org.jooq.tools.StopWatchListener}, this listener doesn't keep any
+ * per-execution state in its own instance, so a single instance can be shared
+ * by all executions of a {@link Configuration}, e.g.: <code><pre>
+ * InMemoryMetricsExporter metrics = new InMemoryMetricsExporter();
+ * configuration.set(new DefaultExecuteListenerProvider(new MetricsListener(metrics)));
+ * </pre></code>
+ * <p>
+ * Recording timings doesn't acquire any locks, as long as the
+ * {@link MetricsExporter} doesn't, either.
+ *
+ * @author Lukas Eder
+ * @see DefaultExecuteListenerProvider
+ */
+public class MetricsListener extends DefaultExecuteListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long     serialVersionUID = -1562237421391358223L;
+
+    private final MetricsExporter exporter;
+
+    /**
+     * Create a listener that collects metrics in an
+     * {@link InMemoryMetricsExporter}.
+     */
+    public MetricsListener() {
+        this(new InMemoryMetricsExporter());
+    }
+
+    /**
+     * Create a listener that exports metrics to a {@link MetricsExporter}.
+     */
+    public MetricsListener(MetricsExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * The {@link MetricsExporter} receiving this listener's timings.
+     */
+    public final MetricsExporter exporter() {
+        return exporter;
+    }
+
+    /**
+     * The timings of the current execution. The listener itself is used as a
+     * key, such that several listeners don't interfere.
+     */
+    private final QueryTimings timings(ExecuteContext ctx) {
+        return (QueryTimings) ctx.data(this);
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        QueryTimings timings = new QueryTimings();
+        timings.start = System.nanoTime();
+        ctx.data(this, timings);
+    }
+
+    @Override
+    public void renderStart(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.renderStart = System.nanoTime();
+    }
+
+    @Override
+    public void renderEnd(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.renderNanos += System.nanoTime() - timings.renderStart;
+    }
+
+    @Override
+    public void prepareStart(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.prepareNanos += System.nanoTime() - timings.prepareStart;
+    }
+
+    @Override
+    public void bindStart(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.bindStart = System.nanoTime();
+    }
+
+    @Override
+    public void bindEnd(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.bindNanos += System.nanoTime() - timings.bindStart;
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.executeNanos += System.nanoTime() - timings.executeStart;
+    }
+
+    @Override
+    public void fetchStart(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.fetchStart = System.nanoTime();
+    }
+
+    @Override
+    public void fetchEnd(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.fetchNanos += System.nanoTime() - timings.fetchStart;
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null)
+            timings.failed = true;
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        QueryTimings timings = timings(ctx);
+
+        if (timings != null) {
+            ctx.data(this, null);
+
+            timings.end = System.nanoTime();
+            timings.type = ctx.type();
+            timings.rows = ctx.rows();
+            timings.shape = shape(ctx);
+
+            exporter.export(timings);
+        }
+    }
+
+    private static final String shape(ExecuteContext ctx) {
+        if (ctx.sql() != null)
+            return shape(ctx.sql());
+
+        String[] batchSQL = ctx.batchSQL();
+        if (batchSQL.length == 0)
+            return "";
+
+        StringBuilder sb = new StringBuilder();
+        String separator = "";
+
+        for (String sql : batchSQL) {
+            sb.append(separator).append(shape(sql));
+            separator = "; ";
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Normalise a SQL string to its "shape".
+     * <p>
+     * Queries that differ only in inlined literals or in the lengths of lists
+     * of bind variables or literals have the same shape. Normalisation:
+     * <ul>
+     * <li>replaces string and numeric literals by <code>?</code></li>
+     * <li>replaces lists of <code>?</code> like <code>(?, ?, ?)</code> by
+     * <code>(?)</code></li>
+     * <li>replaces sequences of whitespace by a single space</li>
+     * </ul>
+     * Quoted identifiers are left untouched.
+     */
+    public static String shape(String sql) {
+        if (sql == null)
+            return null;
+
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            // String literals
+            if (c == '\'') {
+                for (i++; i < length; i++) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'')
+                            i++;
+                        else
+                            break;
+                    }
+                }
+
+                placeholder(sb);
+            }
+
+            // Quoted identifiers
+            else if (c == '"' || c == '`' || c == '[') {
+                char close = c == '[' ? ']' : c;
+                int end = sql.indexOf(close, i + 1);
+
+                if (end == -1)
+                    end = length - 1;
+
+                sb.append(sql, i, end + 1);
+                i = end;
+            }
+
+            // Numeric literals, unless part of an identifier
+            else if (Character.isDigit(c) && !identifier(sb)) {
+                while (i + 1 < length && (Character.isLetterOrDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.'))
+                    i++;
+
+                sign(sb);
+                placeholder(sb);
+            }
+
+            else if (c == '?') {
+                placeholder(sb);
+            }
+
+            else if (Character.isWhitespace(c)) {
+                if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ')
+                    sb.append(' ');
+            }
+
+            else {
+                sb.append(c);
+            }
+        }
+
+        int last = sb.length() - 1;
+        if (last >= 0 && sb.charAt(last) == ' ')
+            sb.setLength(last);
+
+        return sb.toString();
+    }
+
+    /**
+     * Whether the normalised SQL ends with an identifier character.
+     */
+    private static boolean identifier(StringBuilder sb) {
+        if (sb.length() == 0)
+            return false;
+
+        char c = sb.charAt(sb.length() - 1);
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.' || c == ':';
+    }
+
+    /**
+     * Remove the sign of a signed numeric literal.
+     */
+    private static void sign(StringBuilder sb) {
+        int i = sb.length() - 1;
+
+        if (i >= 0 && (sb.charAt(i) == '-' || sb.charAt(i) == '+')) {
+            int j = i - 1;
+
+            if (j >= 0 && sb.charAt(j) == ' ')
+                j--;
+
+            if (j < 0 || "(,=<>".indexOf(sb.charAt(j)) >= 0)
+                sb.setLength(i);
+        }
+    }
+
+    /**
+     * Append a placeholder, unless it continues a list of placeholders.
+     */
+    private static void placeholder(StringBuilder sb) {
+        int i = sb.length() - 1;
+
+        if (i >= 0 && sb.charAt(i) == ' ')
+            i--;
+
+        if (i >= 0 && sb.charAt(i) == ',') {
+            int j = i - 1;
+
+            if (j >= 0 && sb.charAt(j) == ' ')
+                j--;
+
+            if (j >= 0 && sb.charAt(j) == '?') {
+                sb.setLength(j + 1);
+                return;
+            }
+        }
+
+        sb.append('?');
+    }
+}
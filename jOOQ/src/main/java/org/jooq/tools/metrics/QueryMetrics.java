@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.ExecuteType;
+
+/**
+ * Latency and row count histograms of all executions of a query shape and
+ * {@link ExecuteType}, as collected by an {@link InMemoryMetricsExporter}.
+ * <p>
+ * Latencies are in nanoseconds.
+ *
+ * @author Lukas Eder
+ */
+public final class QueryMetrics {
+
+    private final String      shape;
+    private final ExecuteType type;
+    private final Histogram   render  = new Histogram();
+    private final Histogram   prepare = new Histogram();
+    private final Histogram   bind    = new Histogram();
+    private final Histogram   execute = new Histogram();
+    private final Histogram   fetch   = new Histogram();
+    private final Histogram   total   = new Histogram();
+    private final Histogram   rows    = new Histogram();
+    private final LongAdder   errors  = new LongAdder();
+
+    QueryMetrics(String shape, ExecuteType type) {
+        this.shape = shape;
+        this.type = type;
+    }
+
+    final void record(QueryTimings timings) {
+        render.record(timings.renderNanos);
+        prepare.record(timings.prepareNanos);
+        bind.record(timings.bindNanos);
+        execute.record(timings.executeNanos);
+        fetch.record(timings.fetchNanos);
+        total.record(timings.totalNanos());
+
+        if (timings.rows >= 0)
+            rows.record(timings.rows);
+
+        if (timings.failed)
+            errors.increment();
+    }
+
+    /**
+     * The normalised SQL string of the query.
+     */
+    public String shape() {
+        return shape;
+    }
+
+    /**
+     * The type of the query.
+     */
+    public ExecuteType type() {
+        return type;
+    }
+
+    /**
+     * The number of executions.
+     */
+    public long count() {
+        return total.count();
+    }
+
+    /**
+     * The number of failed executions.
+     */
+    public long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * The SQL rendering latencies.
+     */
+    public Histogram render() {
+        return render;
+    }
+
+    /**
+     * The statement preparation latencies.
+     */
+    public Histogram prepare() {
+        return prepare;
+    }
+
+    /**
+     * The variable binding latencies.
+     */
+    public Histogram bind() {
+        return bind;
+    }
+
+    /**
+     * The statement execution latencies.
+     */
+    public Histogram execute() {
+        return execute;
+    }
+
+    /**
+     * The result fetching latencies.
+     */
+    public Histogram fetch() {
+        return fetch;
+    }
+
+    /**
+     * The latencies of the complete execution lifecycle.
+     */
+    public Histogram total() {
+        return total;
+    }
+
+    /**
+     * The numbers of affected or fetched rows.
+     */
+    public Histogram rows() {
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryMetrics [type=" + type + ", count=" + count() + ", errors=" + errors() + ", total=" + total + ", rows=" + rows + ", shape=" + shape + "]";
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.metrics;
+
+import org.jooq.ExecuteType;
+
+/**
+ * The timings of a single query execution, as recorded by a
+ * {@link MetricsListener}.
+ * <p>
+ * All durations are in nanoseconds. Phases that were not run, e.g. fetching
+ * for DML statements, have a duration of <code>0</code>. Phases that were run
+ * several times, e.g. binding in batches, are summed up.
+ *
+ * @author Lukas Eder
+ */
+public final class QueryTimings {
+
+    String      shape;
+    ExecuteType type;
+    long        start;
+    long        end;
+    long        renderNanos;
+    long        prepareNanos;
+    long        bindNanos;
+    long        executeNanos;
+    long        fetchNanos;
+    int         rows = -1;
+    boolean     failed;
+
+    // Timestamps of currently running phases
+    long        renderStart;
+    long        prepareStart;
+    long        bindStart;
+    long        executeStart;
+    long        fetchStart;
+
+    QueryTimings() {}
+
+    /**
+     * The normalised SQL string of the executed query.
+     *
+     * @see MetricsListener#shape(String)
+     */
+    public String shape() {
+        return shape;
+    }
+
+    /**
+     * The type of the executed query.
+     */
+    public ExecuteType type() {
+        return type;
+    }
+
+    /**
+     * The time spent rendering SQL.
+     */
+    public long renderNanos() {
+        return renderNanos;
+    }
+
+    /**
+     * The time spent preparing the JDBC statement.
+     */
+    public long prepareNanos() {
+        return prepareNanos;
+    }
+
+    /**
+     * The time spent binding variables.
+     */
+    public long bindNanos() {
+        return bindNanos;
+    }
+
+    /**
+     * The time spent executing the JDBC statement.
+     */
+    public long executeNanos() {
+        return executeNanos;
+    }
+
+    /**
+     * The time spent fetching results.
+     */
+    public long fetchNanos() {
+        return fetchNanos;
+    }
+
+    /**
+     * The time between the start and the end of the execution lifecycle.
+     */
+    public long totalNanos() {
+        return end - start;
+    }
+
+    /**
+     * The number of affected or fetched rows, or <code>-1</code> if unknown.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Whether the execution failed with an exception.
+     */
+    public boolean failed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryTimings [type=" + type
+            + ", render=" + renderNanos
+            + ", prepare=" + prepareNanos
+            + ", bind=" + bindNanos
+            + ", execute=" + executeNanos
+            + ", fetch=" + fetchNanos
+            + ", total=" + totalNanos()
+            + ", rows=" + rows
+            + (failed ? ", failed" : "")
+            + ", shape=" + shape + "]";
+    }
+}
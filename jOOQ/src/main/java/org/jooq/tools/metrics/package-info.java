@@ -0,0 +1,6 @@
+/**
+ * The <code>org.jooq.tools.metrics</code> package contains an
+ * {@link org.jooq.ExecuteListener} that collects query execution metrics, and
+ * an SPI to export them.
+ */
+package org.jooq.tools.metrics;
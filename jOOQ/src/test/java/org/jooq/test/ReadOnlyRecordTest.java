@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.test;
+
+import static org.jooq.impl.DSL.using;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.AbstractKeys;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.jooq.impl.UpdatableRecordImpl;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for records fetched with {@link org.jooq.ResultQuery#readOnly(boolean)}.
+ *
+ * @author Lukas Eder
+ */
+public class ReadOnlyRecordTest {
+
+    private List<String> executed;
+    private DSLContext   create;
+
+    @Before
+    public void setup() {
+        executed = new ArrayList<String>();
+        create = using(new MockConnection(new MockDataProvider() {
+            @Override
+            public MockResult[] execute(MockExecuteContext ctx) {
+                executed.add(ctx.sql());
+
+                if (ctx.sql().toLowerCase().startsWith("select")) {
+                    DSLContext c = using(SQLDialect.H2);
+                    Result<BookRecord> result = c.newResult(Book.BOOK);
+
+                    for (int i = 1; i <= 2; i++) {
+                        BookRecord record = c.newRecord(Book.BOOK);
+                        record.setValue(Book.BOOK.ID, i);
+                        record.setValue(Book.BOOK.TITLE, "Title " + i);
+                        result.add(record);
+                    }
+
+                    return new MockResult[] { new MockResult(result.size(), result) };
+                }
+
+                return new MockResult[] { new MockResult(1, null) };
+            }
+        }), SQLDialect.H2);
+    }
+
+    @Test
+    public void testDeleteIsRejected() {
+        Result<BookRecord> books = create.selectFrom(Book.BOOK).readOnly(true).fetch();
+        executed.clear();
+
+        try {
+            books.get(0).delete();
+            fail("Read-only records cannot be deleted");
+        }
+        catch (UnsupportedOperationException expected) {}
+
+        assertEquals(0, executed.size());
+        assertFalse(books.get(0).changed());
+        assertFalse(books.get(1).changed());
+    }
+
+    @Test
+    public void testChangedFlagsAreNotShared() {
+        Result<BookRecord> books = create.selectFrom(Book.BOOK).readOnly(true).fetch();
+        BookRecord book = books.get(0);
+
+        // No-ops on read-only records
+        book.changed(false);
+        book.changed(Book.BOOK.TITLE, false);
+        book.reset();
+        book.reset(Book.BOOK.TITLE);
+
+        try {
+            book.changed(true);
+            fail("Read-only records cannot be marked as changed");
+        }
+        catch (UnsupportedOperationException expected) {}
+
+        try {
+            book.changed(Book.BOOK.TITLE, true);
+            fail("Read-only records cannot be marked as changed");
+        }
+        catch (UnsupportedOperationException expected) {}
+
+        assertFalse(book.changed());
+        assertEquals("Title 1", book.getValue(Book.BOOK.TITLE));
+        assertEquals("Title 1", book.original(Book.BOOK.TITLE));
+
+        // Records fetched later are unaffected
+        for (BookRecord other : create.selectFrom(Book.BOOK).readOnly(true).fetch())
+            assertFalse(other.changed());
+    }
+
+    @Test
+    public void testRegularRecordsCanBeDeleted() {
+        BookRecord book = create.selectFrom(Book.BOOK).fetchAny();
+        executed.clear();
+
+        assertEquals(1, book.delete());
+        assertEquals(1, executed.size());
+        assertTrue(executed.get(0).toLowerCase().startsWith("delete"));
+        assertTrue(book.changed());
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Test schema
+    // -------------------------------------------------------------------------
+
+    public static class Book extends TableImpl<BookRecord> {
+
+        private static final long                   serialVersionUID = 1L;
+        public static final Book                    BOOK             = new Book();
+
+        public final TableField<BookRecord, Integer> ID              = createField("ID", SQLDataType.INTEGER, this);
+        public final TableField<BookRecord, String>  TITLE           = createField("TITLE", SQLDataType.VARCHAR, this);
+
+        public Book() {
+            super("BOOK");
+        }
+
+        @Override
+        public Class<BookRecord> getRecordType() {
+            return BookRecord.class;
+        }
+
+        @Override
+        public UniqueKey<BookRecord> getPrimaryKey() {
+            return Keys.PK_BOOK;
+        }
+    }
+
+    public static class BookRecord extends UpdatableRecordImpl<BookRecord> {
+
+        private static final long serialVersionUID = 1L;
+
+        public BookRecord() {
+            super(Book.BOOK);
+        }
+    }
+
+    static class Keys extends AbstractKeys {
+        static final UniqueKey<BookRecord> PK_BOOK = createUniqueKey(Book.BOOK, Book.BOOK.ID);
+    }
+}
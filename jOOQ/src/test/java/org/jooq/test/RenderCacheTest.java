@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.test;
+
+import static java.util.Arrays.asList;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.DSL.using;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SelectQuery;
+import org.jooq.Table;
+import org.jooq.conf.RenderNameStyle;
+import org.jooq.conf.Settings;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for queries executed with {@link Settings#isRenderCache()}.
+ *
+ * @author Lukas Eder
+ */
+public class RenderCacheTest {
+
+    private static final Table<?>       BOOK   = table(name("BOOK"));
+    private static final Field<Integer> ID     = field(name("BOOK", "ID"), Integer.class);
+    private static final Field<Integer> AUTHOR = field(name("BOOK", "AUTHOR_ID"), Integer.class);
+
+    private List<String>                executed;
+    private List<List<Object>>          bindings;
+    private DSLContext                  create;
+
+    @Before
+    public void setup() {
+        executed = new ArrayList<String>();
+        bindings = new ArrayList<List<Object>>();
+        create = using(new MockConnection(new MockDataProvider() {
+            @Override
+            public MockResult[] execute(MockExecuteContext ctx) {
+                executed.add(ctx.sql());
+                bindings.add(asList(ctx.bindings()));
+                return new MockResult[] { new MockResult(0, using(SQLDialect.H2).newResult(ID)) };
+            }
+        }), SQLDialect.H2, new Settings().withRenderCache(true));
+    }
+
+    @Test
+    public void testUnchangedQueryIsCached() {
+        SelectQuery<Record1<Integer>> query = create.select(ID).from(BOOK).where(ID.eq(1)).getQuery();
+
+        query.fetch();
+        query.bind(1, 2);
+        query.fetch();
+
+        assertEquals(1, create.renderCacheStatistics().hits());
+        assertEquals(1, create.renderCacheStatistics().misses());
+        assertEquals(executed.get(0), executed.get(1));
+    }
+
+    @Test
+    public void testIdenticalQueriesShareRendering() {
+        create.select(ID).from(BOOK).where(ID.eq(1)).and(AUTHOR.in(2, 3)).fetch();
+        create.select(ID).from(BOOK).where(ID.eq(4)).and(AUTHOR.in(5, 6)).fetch();
+
+        assertEquals(1, create.renderCacheStatistics().hits());
+        assertEquals(1, create.renderCacheStatistics().misses());
+        assertEquals(executed.get(0), executed.get(1));
+        assertEquals(asList((Object) 1, 2, 3), bindings.get(0));
+        assertEquals(asList((Object) 4, 5, 6), bindings.get(1));
+    }
+
+    @Test
+    public void testDifferentQueriesDoNotShareRendering() {
+        create.select(ID).from(BOOK).where(ID.eq(1)).fetch();
+        create.select(ID).from(BOOK).where(AUTHOR.eq(1)).fetch();
+        create.select(ID).from(BOOK).where(ID.eq(1)).and(AUTHOR.in(2, 3, 4)).fetch();
+        create.select(ID).from(BOOK).where(ID.eq(1)).and(AUTHOR.in(2, 3)).fetch();
+
+        assertEquals(0, create.renderCacheStatistics().hits());
+        assertEquals(4, create.renderCacheStatistics().misses());
+    }
+
+    @Test
+    public void testInlinedValuesDoNotShareRendering() {
+        Select<Record1<Integer>> query1 = create.select(ID).from(BOOK).where(ID.eq(inline(1)));
+        Select<Record1<Integer>> query2 = create.select(ID).from(BOOK).where(ID.eq(inline(2)));
+
+        query1.fetch();
+        query2.fetch();
+
+        assertEquals(0, create.renderCacheStatistics().hits());
+        assertEquals(query1.getSQL(), executed.get(0));
+        assertEquals(query2.getSQL(), executed.get(1));
+    }
+
+    @Test
+    public void testOmittedBindValuesDoNotShareRendering() {
+        Select<Record1<Integer>> query1 = create.select(ID).from(BOOK).limit(1).offset(0);
+        Select<Record1<Integer>> query2 = create.select(ID).from(BOOK).limit(1).offset(5);
+
+        query1.fetch();
+        query2.fetch();
+
+        assertEquals(query1.getSQL(), executed.get(0));
+        assertEquals(query2.getSQL(), executed.get(1));
+        assertEquals(asList((Object) 1, 5), bindings.get(1));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedRenderingsAreEvicted() {
+        create.settings().setRenderCacheSize(1);
+
+        create.select(ID).from(BOOK).fetch();
+        create.select(AUTHOR).from(BOOK).fetch();
+        create.select(ID).from(BOOK).fetch();
+
+        assertEquals(0, create.renderCacheStatistics().hits());
+        assertEquals(2, create.renderCacheStatistics().evictions());
+    }
+
+    @Test
+    public void testModifiedQueryIsRenderedAgain() {
+        SelectQuery<Record1<Integer>> query = create.select(ID).from(BOOK).getQuery();
+
+        query.fetch();
+        query.addConditions(ID.eq(1));
+        query.fetch();
+        assertEquals(query.getSQL(), executed.get(1));
+
+        query.addOrderBy(ID);
+        query.fetch();
+        assertEquals(query.getSQL(), executed.get(2));
+
+        assertEquals(0, create.renderCacheStatistics().hits());
+        assertTrue(executed.get(2).contains("order by"));
+    }
+
+    @Test
+    public void testModifiedSubqueryIsRenderedAgain() {
+        SelectQuery<Record1<Integer>> subquery = select(AUTHOR).from(BOOK).getQuery();
+        Select<Record1<Integer>> query = create.select(ID).from(BOOK).where(ID.in(subquery));
+
+        query.fetch();
+        subquery.addConditions(AUTHOR.eq(1));
+        query.fetch();
+
+        assertEquals(0, create.renderCacheStatistics().hits());
+        assertFalse(executed.get(0).equals(executed.get(1)));
+        assertEquals(query.getSQL(), executed.get(1));
+    }
+
+    @Test
+    public void testModifiedSettingsAreRenderedAgain() {
+        Select<Record1<Integer>> query = create.select(ID).from(BOOK);
+
+        query.fetch();
+        create.configuration().set(new Settings().withRenderCache(true).withRenderNameStyle(RenderNameStyle.AS_IS));
+        query.fetch();
+
+        assertEquals(0, create.renderCacheStatistics().hits());
+        assertEquals("select BOOK.ID from BOOK", executed.get(1));
+    }
+
+    @Test
+    public void testModifiedDialectIsRenderedAgain() {
+        Select<Record1<Integer>> query = create.select(ID).from(BOOK).limit(1);
+
+        query.fetch();
+        create.configuration().set(SQLDialect.SQLITE);
+        query.fetch();
+
+        assertEquals(0, create.renderCacheStatistics().hits());
+        assertFalse(executed.get(0).equals(executed.get(1)));
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2009-2016, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.test;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.DSL.using;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.tools.jdbc.DefaultConnection;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for queries executed with {@link Settings#getStatementCacheSize()}.
+ *
+ * @author Lukas Eder
+ */
+public class StatementCacheTest {
+
+    private static final Table<?>       BOOK = table(name("BOOK"));
+    private static final Field<Integer> ID   = field(name("BOOK", "ID"), Integer.class);
+
+    private Connection                  physical;
+
+    @Before
+    public void setup() {
+        physical = new MockConnection(new MockDataProvider() {
+            @Override
+            public MockResult[] execute(MockExecuteContext ctx) {
+                return new MockResult[] { new MockResult(0, using(SQLDialect.H2).newResult(ID)) };
+            }
+        });
+    }
+
+    @Test
+    public void testPooledConnectionsShareStatements() {
+        DSLContext create = using(new PooledConnectionProvider(true), SQLDialect.H2, new Settings().withStatementCacheSize(10));
+
+        create.select(ID).from(BOOK).where(ID.eq(1)).fetch();
+        create.select(ID).from(BOOK).where(ID.eq(2)).fetch();
+
+        assertEquals(1, create.statementCacheStatistics().hits());
+        assertEquals(1, create.statementCacheStatistics().misses());
+        assertEquals(0, create.statementCacheStatistics().evictions());
+    }
+
+    @Test
+    public void testUnwrappableConnectionsDoNotShareStatements() {
+        DSLContext create = using(new PooledConnectionProvider(false), SQLDialect.H2, new Settings().withStatementCacheSize(10));
+
+        create.select(ID).from(BOOK).where(ID.eq(1)).fetch();
+        create.select(ID).from(BOOK).where(ID.eq(2)).fetch();
+
+        assertEquals(0, create.statementCacheStatistics().hits());
+        assertEquals(2, create.statementCacheStatistics().misses());
+        assertEquals(2, create.statementCacheStatistics().evictions());
+    }
+
+    /**
+     * A pool of a single physical connection, which is handed out as a new
+     * logical connection on every checkout. Like common pools, the statements
+     * prepared on a logical connection are closed when it is released.
+     */
+    private class PooledConnectionProvider implements ConnectionProvider {
+
+        private final boolean unwrappable;
+
+        PooledConnectionProvider(boolean unwrappable) {
+            this.unwrappable = unwrappable;
+        }
+
+        @Override
+        public Connection acquire() {
+            return new LogicalConnection(unwrappable);
+        }
+
+        @Override
+        public void release(Connection connection) {
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private class LogicalConnection extends DefaultConnection {
+
+        private final boolean                 unwrappable;
+        private final List<PreparedStatement> statements = new ArrayList<PreparedStatement>();
+
+        LogicalConnection(boolean unwrappable) {
+            super(physical);
+
+            this.unwrappable = unwrappable;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (unwrappable && iface == Connection.class)
+                return iface.cast(physical);
+
+            return super.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            if (unwrappable && iface == Connection.class)
+                return true;
+
+            return super.isWrapperFor(iface);
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            PreparedStatement result = super.prepareStatement(sql);
+            statements.add(result);
+            return result;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement statement : statements)
+                statement.close();
+        }
+    }
+}